@@ -0,0 +1,321 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.annotation.processor;
+
+import com.sabre.oss.conf4j.annotation.AbstractConfiguration;
+import com.sabre.oss.conf4j.annotation.Configuration;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+import static com.sabre.oss.conf4j.internal.factory.generated.GeneratedConfigurationInstanceCreator.getGeneratedClassName;
+import static java.beans.Introspector.decapitalize;
+import static javax.tools.Diagnostic.Kind.ERROR;
+import static javax.tools.Diagnostic.Kind.NOTE;
+
+/**
+ * Annotation processor which generates implementation classes of the configuration types at build time.
+ * The generated classes are used by {@link com.sabre.oss.conf4j.factory.generated.GeneratedConfigurationFactory}
+ * which creates configuration instances without generating any code at runtime.
+ * <p>
+ * An implementation is generated for every type annotated (or having a method annotated) with any conf4j annotation
+ * and for every type used as a sub-configuration or a list of sub-configurations of such a type, as long as the type
+ * is a part of the current compilation. Implementations of configuration types provided by libraries are expected
+ * to be generated when the library is compiled.
+ * Types which cannot be implemented by a generated class (like private or generic types) and abstract configurations
+ * are skipped.
+ */
+@SupportedAnnotationTypes("com.sabre.oss.conf4j.annotation.*")
+public class ConfigurationAnnotationProcessor extends AbstractProcessor {
+    private static final String ANNOTATION_PACKAGE = Configuration.class.getPackage().getName();
+
+    private final Set<String> processedTypes = new HashSet<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> configurationTypes = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                TypeElement type = getEnclosingType(element);
+                if (type != null && isConfigurationType(type)) {
+                    collectConfigurationTypes(type, configurationTypes);
+                }
+            }
+        }
+
+        Set<? extends Element> rootElements = roundEnv.getRootElements();
+        for (TypeElement type : configurationTypes) {
+            // sub-configuration types provided by libraries are implemented when the library is compiled
+            if (rootElements.contains(getOutermostType(type)) && processedTypes.add(type.getQualifiedName().toString())) {
+                processConfigurationType(type);
+            }
+        }
+        // annotations are not claimed, other processors may process them too
+        return false;
+    }
+
+    private void collectConfigurationTypes(TypeElement type, Set<TypeElement> configurationTypes) {
+        if (!configurationTypes.add(type)) {
+            return;
+        }
+        for (ExecutableElement method : getAbstractMethods(type)) {
+            TypeMirror returnType = method.getReturnType();
+            TypeElement subConfigurationType = asConfigurationType(returnType);
+            if (subConfigurationType == null) {
+                subConfigurationType = asConfigurationType(getListElementType(returnType));
+            }
+            if (subConfigurationType != null) {
+                collectConfigurationTypes(subConfigurationType, configurationTypes);
+            }
+        }
+    }
+
+    private void processConfigurationType(TypeElement type) {
+        String skipReason = getSkipReason(type);
+        if (skipReason != null) {
+            processingEnv.getMessager().printMessage(NOTE,
+                    "conf4j implementation of " + type.getQualifiedName() + " is not generated, " + skipReason, type);
+            return;
+        }
+
+        String className = getGeneratedClassName(processingEnv.getElementUtils().getBinaryName(type).toString());
+        ImplementationGenerator generator = new ImplementationGenerator(processingEnv, type, className, getProperties(type));
+        try (Writer writer = processingEnv.getFiler().createSourceFile(className, type).openWriter()) {
+            writer.write(generator.generate());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(ERROR,
+                    "Unable to generate conf4j implementation of " + type.getQualifiedName() + ": " + e, type);
+        }
+    }
+
+    private String getSkipReason(TypeElement type) {
+        if (type.getAnnotation(AbstractConfiguration.class) != null) {
+            return "it is an abstract configuration";
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            return "it declares type parameters";
+        }
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return "it is not accessible";
+            }
+            if (element.getKind() == ElementKind.CLASS && element.getEnclosingElement() instanceof TypeElement && !modifiers.contains(Modifier.STATIC)) {
+                return "it is an inner class";
+            }
+        }
+        if (type.getKind() == ElementKind.CLASS && !hasAccessibleDefaultConstructor(type)) {
+            return "it has no accessible parameterless constructor";
+        }
+        Set<String> propertyNames = new HashSet<>();
+        for (ExecutableElement method : getAbstractMethods(type)) {
+            String propertyName = getPropertyName(method);
+            if (propertyName == null) {
+                return method.getSimpleName() + "() is not a valid configuration property method";
+            }
+            if (!propertyNames.add(propertyName)) {
+                return "it has duplicated property " + propertyName;
+            }
+        }
+        return null;
+    }
+
+    private List<ImplementationGenerator.Property> getProperties(TypeElement type) {
+        DeclaredType declaredType = (DeclaredType) type.asType();
+        List<ImplementationGenerator.Property> properties = new ArrayList<>();
+        for (ExecutableElement method : getAbstractMethods(type)) {
+            TypeMirror returnType = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(declaredType, method)).getReturnType();
+            properties.add(new ImplementationGenerator.Property(
+                    getPropertyName(method), method.getSimpleName().toString(), returnType,
+                    isSubConfigurationListCandidate(returnType)));
+        }
+        return properties;
+    }
+
+    /**
+     * Checks if the type is a configuration type. Follows the rules of the convention based model provider which
+     * accepts also types without conf4j annotations when all their abstract methods are property methods.
+     */
+    private boolean isConfigurationType(TypeElement type) {
+        if (type.getKind() != ElementKind.INTERFACE && !(type.getKind() == ElementKind.CLASS && type.getModifiers().contains(Modifier.ABSTRACT))) {
+            return false;
+        }
+        String name = type.getQualifiedName().toString();
+        if (name.startsWith("java.") || name.startsWith("javax.")) {
+            return false;
+        }
+        if (isAnnotatedByConf4jAnnotation(type)) {
+            return true;
+        }
+        List<ExecutableElement> methods = getAbstractMethods(type);
+        return !methods.isEmpty() && methods.stream().allMatch(m -> getPropertyName(m) != null);
+    }
+
+    private boolean isAnnotatedByConf4jAnnotation(TypeElement type) {
+        for (Element element : processingEnv.getElementUtils().getAllMembers(type)) {
+            if (element.getKind() == ElementKind.METHOD && hasConf4jAnnotation(element)) {
+                return true;
+            }
+        }
+        for (TypeElement t = type; t != null; t = getSuperclass(t)) {
+            if (hasConf4jAnnotation(t)) {
+                return true;
+            }
+            for (TypeMirror superInterface : t.getInterfaces()) {
+                if (isAnnotatedByConf4jAnnotation((TypeElement) ((DeclaredType) superInterface).asElement())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean hasConf4jAnnotation(Element element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (processingEnv.getElementUtils().getPackageOf(annotationType).getQualifiedName().toString().startsWith(ANNOTATION_PACKAGE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private TypeElement asConfigurationType(TypeMirror type) {
+        if (type == null || type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        return isConfigurationType(element) ? element : null;
+    }
+
+    /**
+     * Lists are treated as lists of sub-configurations when the element type may be a configuration type.
+     * The generated class supports both, a list value and a list of sub-configurations, because whether the property
+     * is a value or a list of sub-configurations is determined by the configuration model provider at runtime.
+     */
+    private boolean isSubConfigurationListCandidate(TypeMirror type) {
+        TypeMirror elementType = getListElementType(type);
+        if (elementType == null || elementType.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) elementType).asElement();
+        return element.getKind() == ElementKind.INTERFACE || element.getModifiers().contains(Modifier.ABSTRACT);
+    }
+
+    private TypeMirror getListElementType(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        DeclaredType declaredType = (DeclaredType) type;
+        TypeElement element = (TypeElement) declaredType.asElement();
+        if (!element.getQualifiedName().contentEquals(List.class.getName()) || declaredType.getTypeArguments().size() != 1) {
+            return null;
+        }
+        return declaredType.getTypeArguments().get(0);
+    }
+
+    private List<ExecutableElement> getAbstractMethods(TypeElement type) {
+        List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type));
+        Set<String> implementedMethods = new HashSet<>();
+        for (ExecutableElement method : methods) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT) && !method.getModifiers().contains(Modifier.STATIC) && method.getParameters().isEmpty()) {
+                implementedMethods.add(method.getSimpleName().toString());
+            }
+        }
+
+        Map<String, ExecutableElement> abstractMethods = new LinkedHashMap<>();
+        for (ExecutableElement method : methods) {
+            String name = method.getSimpleName().toString();
+            if (method.getModifiers().contains(Modifier.ABSTRACT) && !implementedMethods.contains(name)) {
+                abstractMethods.putIfAbsent(name + method.getParameters(), method);
+            }
+        }
+        return new ArrayList<>(abstractMethods.values());
+    }
+
+    private static String getPropertyName(ExecutableElement method) {
+        if (!method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID ||
+                method.getModifiers().contains(Modifier.PRIVATE)) {
+            return null;
+        }
+        String name = method.getSimpleName().toString();
+        if (name.startsWith("get") && name.length() > 3) {
+            return decapitalize(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2) {
+            return decapitalize(name.substring(2));
+        }
+        return null;
+    }
+
+    private boolean hasAccessibleDefaultConstructor(TypeElement type) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        return constructors.stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE));
+    }
+
+    private static TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    }
+
+    private static TypeElement getOutermostType(TypeElement type) {
+        TypeElement current = type;
+        while (current.getEnclosingElement() instanceof TypeElement) {
+            current = (TypeElement) current.getEnclosingElement();
+        }
+        return current;
+    }
+
+    private static TypeElement getEnclosingType(Element element) {
+        Element current = element;
+        while (current != null && !(current instanceof TypeElement)) {
+            current = current.getEnclosingElement();
+        }
+        return (TypeElement) current;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.annotation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.sabre.oss.conf4j.internal.Constants.CONFIGURATION_INDEX_LOCATION;
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+/**
+ * Annotation processor which writes the index of configuration type candidates to {@code META-INF/conf4j.index}.
+ * The index is used by the configuration scanning in conf4j-spring instead of scanning the classpath.
+ * <p>
+ * The index is opt-in, it is written only when the {@value #INDEX_OPTION} processor option is set to {@code true}
+ * (i.e. {@code -Aconf4j.index=true}). Once the index is present, the configuration scanning relies on it, so
+ * it must be enabled consciously for the whole module.
+ * <p>
+ * Every interface and abstract class which is annotated (including inherited annotations), is not an annotation
+ * and can be instantiated independently (is a top level or static nested type) is listed in the index
+ * by its binary name, one type per line. The index is not written when there are no such types.
+ * <p>
+ * Entries of the index written by the previous compilation are merged with the types processed in the current
+ * one, so incremental compilation (when only some sources are compiled) doesn't lose them. Previous entries are
+ * kept only when the type still exists and still is a candidate.
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(ConfigurationIndexProcessor.INDEX_OPTION)
+public class ConfigurationIndexProcessor extends AbstractProcessor {
+    /**
+     * Name of the processor option which enables the index.
+     */
+    public static final String INDEX_OPTION = "conf4j.index";
+
+    private final Set<String> indexedTypes = new TreeSet<>();
+    private final Set<String> processedTypes = new HashSet<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!Boolean.parseBoolean(processingEnv.getOptions().get(INDEX_OPTION))) {
+            return false;
+        }
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collectIndexedTypes(type);
+        }
+        if (roundEnv.processingOver()) {
+            mergePreviousIndex();
+            if (!indexedTypes.isEmpty()) {
+                writeIndex();
+            }
+        }
+        // annotations are not claimed, other processors may process them too
+        return false;
+    }
+
+    private void collectIndexedTypes(TypeElement type) {
+        String binaryName = getBinaryName(type);
+        processedTypes.add(binaryName);
+        if (isIndexed(type)) {
+            indexedTypes.add(binaryName);
+        }
+        for (TypeElement nestedType : ElementFilter.typesIn(type.getEnclosedElements())) {
+            // types nested in interfaces are implicitly static
+            if (type.getKind().isInterface() || nestedType.getKind().isInterface() || nestedType.getModifiers().contains(Modifier.STATIC)) {
+                collectIndexedTypes(nestedType);
+            }
+        }
+    }
+
+    private boolean isIndexed(TypeElement type) {
+        boolean abstractType = type.getKind() == ElementKind.INTERFACE ||
+                (type.getKind() == ElementKind.CLASS && type.getModifiers().contains(Modifier.ABSTRACT));
+        return abstractType &&
+                !type.getModifiers().contains(Modifier.PRIVATE) &&
+                !processingEnv.getElementUtils().getAllAnnotationMirrors(type).isEmpty();
+    }
+
+    private String getBinaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private void mergePreviousIndex() {
+        for (String previousType : readPreviousIndex()) {
+            if (processedTypes.contains(previousType)) {
+                // the type was compiled again, the current result replaces the previous one
+                continue;
+            }
+            TypeElement type = processingEnv.getElementUtils().getTypeElement(previousType.replace('$', '.'));
+            if (type != null && getBinaryName(type).equals(previousType) && isIndexed(type)) {
+                indexedTypes.add(previousType);
+            }
+        }
+    }
+
+    private Set<String> readPreviousIndex() {
+        Set<String> types = new TreeSet<>();
+        try {
+            FileObject index = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", CONFIGURATION_INDEX_LOCATION);
+            try (Reader reader = index.openReader(true); BufferedReader lines = new BufferedReader(reader)) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")) {
+                        types.add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // there is no previous index
+        }
+        return types;
+    }
+
+    private void writeIndex() {
+        try (Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", CONFIGURATION_INDEX_LOCATION).openWriter()) {
+            for (String type : indexedTypes) {
+                writer.write(type);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(ERROR, "Unable to write conf4j configuration index " + CONFIGURATION_INDEX_LOCATION + ": " + e);
+        }
+    }
+}
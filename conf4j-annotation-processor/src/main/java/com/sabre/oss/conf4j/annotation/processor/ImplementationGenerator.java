@@ -0,0 +1,266 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.annotation.processor;
+
+import com.sabre.oss.conf4j.internal.config.PropertyMetadata;
+import com.sabre.oss.conf4j.internal.factory.ConfigurationPropertiesAccessor;
+import com.sabre.oss.conf4j.internal.factory.SubConfigurationList;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.sabre.oss.conf4j.internal.Constants.COLLECTION_SIZE_SUFFIX;
+import static com.sabre.oss.conf4j.internal.Constants.LIST_SUFFIX;
+import static com.sabre.oss.conf4j.internal.factory.generated.GeneratedConfigurationInstanceCreator.FACTORY_CLASS_NAME;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Generates the source of a static configuration implementation class. The class stores property values in fields
+ * and implements {@link ConfigurationPropertiesAccessor}, so the configuration initializer sets the values
+ * without reflection.
+ */
+class ImplementationGenerator {
+    private final ProcessingEnvironment processingEnv;
+    private final TypeElement configurationType;
+    private final String packageName;
+    private final String simpleName;
+    private final List<Property> properties;
+    private final StringBuilder code = new StringBuilder();
+
+    ImplementationGenerator(ProcessingEnvironment processingEnv, TypeElement configurationType, String className, List<Property> properties) {
+        this.processingEnv = requireNonNull(processingEnv, "processingEnv cannot be null");
+        this.configurationType = requireNonNull(configurationType, "configurationType cannot be null");
+        this.packageName = processingEnv.getElementUtils().getPackageOf(configurationType).getQualifiedName().toString();
+        this.simpleName = packageName.isEmpty() ? className : className.substring(packageName.length() + 1);
+        this.properties = requireNonNull(properties, "properties cannot be null");
+    }
+
+    String generate() {
+        line(0, "// Generated by conf4j annotation processor. Do not edit.");
+        if (!packageName.isEmpty()) {
+            line(0, "package " + packageName + ';');
+        }
+        line(0, "");
+        line(0, "@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+        String configurationTypeName = configurationType.getQualifiedName().toString();
+        String supertypes = configurationType.getKind() == ElementKind.INTERFACE ?
+                "implements " + configurationTypeName + ", " :
+                "extends " + configurationTypeName + " implements ";
+        line(0, "public class " + simpleName + ' ' + supertypes + Serializable.class.getName() + ", " + ConfigurationPropertiesAccessor.class.getName() + " {");
+        line(1, "private static final long serialVersionUID = 1L;");
+        line(0, "");
+
+        generateFields();
+        generateGetters();
+        generateAccessor();
+        generateFactory();
+
+        line(0, "}");
+        return code.toString();
+    }
+
+    private void generateFields() {
+        for (Property property : properties) {
+            line(1, "private " + property.type + ' ' + property.fieldName + ';');
+            if (property.listCandidate) {
+                line(1, "private " + SubConfigurationList.class.getName() + ' ' + property.listFieldName() + ';');
+                line(1, "private int " + property.sizeFieldName() + ';');
+            }
+        }
+        line(0, "");
+    }
+
+    private void generateGetters() {
+        for (Property property : properties) {
+            line(1, "@Override");
+            line(1, "public " + property.type + ' ' + property.getterName + "() {");
+            if (property.listCandidate) {
+                line(2, SubConfigurationList.class.getName() + " list = this." + property.listFieldName() + ';');
+                line(2, "return list != null ? (" + property.type + ") (java.util.List) list.asUnmodifiableList(this." + property.sizeFieldName() + ") : this." + property.fieldName + ';');
+            } else {
+                line(2, "return this." + property.fieldName + ';');
+            }
+            line(1, "}");
+            line(0, "");
+        }
+    }
+
+    private void generateAccessor() {
+        String metadataType = PropertyMetadata.class.getName();
+        String listType = SubConfigurationList.class.getName();
+
+        line(1, "@Override");
+        line(1, "public " + metadataType + " getPropertyMetadata(String propertyName) {");
+        line(2, "// metadata is not required by static configurations");
+        line(2, "return null;");
+        line(1, "}");
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public void setPropertyMetadata(String propertyName, " + metadataType + " propertyMetadata) {");
+        line(2, "// metadata is not required by static configurations");
+        line(1, "}");
+        line(0, "");
+
+        line(1, "@Override");
+        line(1, "public Object getValueProperty(String propertyName) {");
+        line(2, "switch (propertyName) {");
+        for (Property property : properties) {
+            line(3, "case \"" + property.name + "\":");
+            line(4, "return this." + property.fieldName + ';');
+            if (property.listCandidate) {
+                line(3, "case \"" + property.name + COLLECTION_SIZE_SUFFIX + "\":");
+                line(4, "return this." + property.sizeFieldName() + ';');
+            }
+        }
+        line(3, "default:");
+        line(4, "throw unknownProperty(propertyName);");
+        line(2, "}");
+        line(1, "}");
+        line(0, "");
+
+        line(1, "@Override");
+        line(1, "public void setValueProperty(String propertyName, Object value) {");
+        line(2, "switch (propertyName) {");
+        for (Property property : properties) {
+            line(3, "case \"" + property.name + "\":");
+            line(4, "this." + property.fieldName + " = " + cast(property.type, "value") + ';');
+            line(4, "break;");
+            if (property.listCandidate) {
+                line(3, "case \"" + property.name + COLLECTION_SIZE_SUFFIX + "\":");
+                line(4, "this." + property.sizeFieldName() + " = value != null ? (Integer) value : 0;");
+                line(4, "break;");
+            }
+        }
+        line(3, "default:");
+        line(4, "throw unknownProperty(propertyName);");
+        line(2, "}");
+        line(1, "}");
+        line(0, "");
+
+        line(1, "@Override");
+        line(1, "public Object getSubConfigurationProperty(String propertyName) {");
+        line(2, "return getValueProperty(propertyName);");
+        line(1, "}");
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public void setSubConfigurationProperty(String propertyName, Object subConfiguration) {");
+        line(2, "setValueProperty(propertyName, subConfiguration);");
+        line(1, "}");
+        line(0, "");
+
+        line(1, "@Override");
+        line(1, "public " + listType + " getSubConfigurationListProperty(String propertyName) {");
+        line(2, "switch (propertyName) {");
+        for (Property property : properties) {
+            if (property.listCandidate) {
+                line(3, "case \"" + property.name + "\":");
+                line(4, "return this." + property.listFieldName() + ';');
+            }
+        }
+        line(3, "default:");
+        line(4, "throw unknownProperty(propertyName);");
+        line(2, "}");
+        line(1, "}");
+        line(0, "");
+
+        line(1, "@Override");
+        line(1, "public void setSubConfigurationListProperty(String propertyName, " + listType + " list) {");
+        line(2, "switch (propertyName) {");
+        for (Property property : properties) {
+            if (property.listCandidate) {
+                line(3, "case \"" + property.name + "\":");
+                line(4, "this." + property.listFieldName() + " = list;");
+                line(4, "break;");
+            }
+        }
+        line(3, "default:");
+        line(4, "throw unknownProperty(propertyName);");
+        line(2, "}");
+        line(1, "}");
+        line(0, "");
+
+        line(1, "private static IllegalArgumentException unknownProperty(String propertyName) {");
+        line(2, "return new IllegalArgumentException(\"Unknown configuration property \" + propertyName);");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void generateFactory() {
+        line(1, "public static final class " + FACTORY_CLASS_NAME + " implements " + Supplier.class.getName() + '<' + simpleName + "> {");
+        line(2, "@Override");
+        line(2, "public " + simpleName + " get() {");
+        line(3, "return new " + simpleName + "();");
+        line(2, "}");
+        line(1, "}");
+    }
+
+    private String cast(TypeMirror type, String variable) {
+        if (type.getKind().isPrimitive()) {
+            String boxedType = processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+            String defaultValue = type.getKind() == TypeKind.BOOLEAN ? "false" : "(" + type + ") 0";
+            return variable + " != null ? (" + boxedType + ") " + variable + " : " + defaultValue;
+        }
+        return "(" + type + ") " + variable;
+    }
+
+    private void line(int indent, String line) {
+        for (int i = 0; i < indent; i++) {
+            code.append("    ");
+        }
+        code.append(line).append('\n');
+    }
+
+    static final class Property {
+        private final String name;
+        private final String getterName;
+        private final TypeMirror type;
+        private final boolean listCandidate;
+        private final String fieldName;
+
+        Property(String name, String getterName, TypeMirror type, boolean listCandidate) {
+            this.name = requireNonNull(name, "name cannot be null");
+            this.getterName = requireNonNull(getterName, "getterName cannot be null");
+            this.type = requireNonNull(type, "type cannot be null");
+            this.listCandidate = listCandidate;
+            this.fieldName = SourceVersion.isName(name) ? name : "__" + name;
+        }
+
+        private String listFieldName() {
+            return fieldName + LIST_SUFFIX;
+        }
+
+        private String sizeFieldName() {
+            return fieldName + COLLECTION_SIZE_SUFFIX;
+        }
+    }
+}
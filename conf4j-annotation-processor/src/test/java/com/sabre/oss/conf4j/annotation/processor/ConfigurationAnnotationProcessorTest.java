@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.annotation.processor;
+
+import com.sabre.oss.conf4j.factory.generated.GeneratedConfigurationFactory;
+import com.sabre.oss.conf4j.source.MapConfigurationSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConfigurationAnnotationProcessorTest {
+    private static final String CONFIGURATIONS = "" +
+            "package test;\n" +
+            "import com.sabre.oss.conf4j.annotation.*;\n" +
+            "import java.util.List;\n" +
+            "public class Configurations {\n" +
+            "    @Key(\"connection\")\n" +
+            "    public interface ConnectionConfiguration {\n" +
+            "        @Key String getUrl();\n" +
+            "        @Key @Default(\"8080\") int getPort();\n" +
+            "        TimeoutConfiguration getTimeout();\n" +
+            "        @DefaultSize(2) List<TimeoutConfiguration> getRetryTimeouts();\n" +
+            "    }\n" +
+            "    public interface TimeoutConfiguration {\n" +
+            "        @Key @Default(\"10\") long getValue();\n" +
+            "    }\n" +
+            "    @AbstractConfiguration\n" +
+            "    public interface BaseConfiguration {\n" +
+            "        @Key String getName();\n" +
+            "    }\n" +
+            "}\n";
+
+    private Path directory;
+    private URLClassLoader classLoader;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("conf4j-annotation-processor");
+        classLoader = compile(directory, "test/Configurations.java", CONFIGURATIONS);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        classLoader.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test
+    public void shouldGenerateImplementationsUsedByGeneratedConfigurationFactory() throws Exception {
+        // given
+        Class<?> configurationType = classLoader.loadClass("test.Configurations$ConnectionConfiguration");
+        Map<String, String> values = new HashMap<>();
+        values.put("connection.url", "http://url.com");
+        values.put("connection.timeout.value", "5");
+        values.put("connection.retryTimeouts[1].value", "20");
+
+        // when
+        Object configuration = new GeneratedConfigurationFactory().createConfiguration(configurationType, new MapConfigurationSource(values));
+
+        // then
+        assertThat(configuration.getClass().getName()).isEqualTo("test.Configurations$ConnectionConfiguration$Conf4jGenerated");
+        assertThat(get(configuration, "getUrl")).isEqualTo("http://url.com");
+        assertThat(get(configuration, "getPort")).isEqualTo(8080);
+        assertThat(get(get(configuration, "getTimeout"), "getValue")).isEqualTo(5L);
+        List<?> retryTimeouts = (List<?>) get(configuration, "getRetryTimeouts");
+        assertThat(retryTimeouts).hasSize(2);
+        assertThat(get(retryTimeouts.get(0), "getValue")).isEqualTo(10L);
+        assertThat(get(retryTimeouts.get(1), "getValue")).isEqualTo(20L);
+    }
+
+    @Test
+    public void shouldNotGenerateImplementationOfAbstractConfiguration() throws Exception {
+        // given
+        Class<?> configurationType = classLoader.loadClass("test.Configurations$BaseConfiguration");
+
+        // then
+        assertThat(Files.exists(directory.resolve("test/Configurations$BaseConfiguration$Conf4jGenerated.class"))).isFalse();
+        assertThrows(IllegalArgumentException.class,
+                () -> new GeneratedConfigurationFactory().createConfiguration(configurationType, new MapConfigurationSource(new HashMap<>())));
+    }
+
+    private static URLClassLoader compile(Path directory, String fileName, String source) throws IOException {
+        Path sourceFile = directory.resolve(fileName);
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, source.getBytes(UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, UTF_8)) {
+            Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects(sourceFile.toFile());
+            List<String> options = asList("-d", directory.toString(), "-classpath", System.getProperty("java.class.path"));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, compilationUnits);
+            task.setProcessors(singletonList(new ConfigurationAnnotationProcessor()));
+            assertThat(task.call()).isTrue();
+        }
+        return new URLClassLoader(new URL[]{directory.toUri().toURL()}, ConfigurationAnnotationProcessorTest.class.getClassLoader());
+    }
+
+    private static Object get(Object configuration, String getter) throws Exception {
+        return configuration.getClass().getMethod(getter).invoke(configuration);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.annotation.processor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.sabre.oss.conf4j.internal.Constants.CONFIGURATION_INDEX_LOCATION;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConfigurationIndexProcessorTest {
+    private static final String CONFIGURATIONS = "" +
+            "package test;\n" +
+            "import com.sabre.oss.conf4j.annotation.*;\n" +
+            "@Key(\"top\")\n" +
+            "public interface TopLevelConfiguration {\n" +
+            "    String getName();\n" +
+            "    @Description(\"nested\")\n" +
+            "    interface NestedConfiguration {\n" +
+            "        String getValue();\n" +
+            "    }\n" +
+            "    @Key(\"abstract\")\n" +
+            "    abstract class AbstractClassConfiguration {\n" +
+            "        public abstract String getValue();\n" +
+            "    }\n" +
+            "    @Key(\"concrete\")\n" +
+            "    class ConcreteClass {\n" +
+            "    }\n" +
+            "    interface NotAnnotatedInterface {\n" +
+            "        String getValue();\n" +
+            "    }\n" +
+            "}\n";
+
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("conf4j-index-processor");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test
+    public void shouldIndexAnnotatedAbstractTypes() throws IOException {
+        // when
+        compile("test/TopLevelConfiguration.java", CONFIGURATIONS);
+
+        // then
+        assertThat(Files.readAllLines(directory.resolve(CONFIGURATION_INDEX_LOCATION), UTF_8)).containsExactly(
+                "test.TopLevelConfiguration",
+                "test.TopLevelConfiguration$AbstractClassConfiguration",
+                "test.TopLevelConfiguration$NestedConfiguration");
+    }
+
+    @Test
+    public void shouldNotWriteIndexWhenThereAreNoIndexedTypes() throws IOException {
+        // when
+        compile("test/Sample.java", "package test;\npublic class Sample {\n}\n");
+
+        // then
+        assertThat(Files.exists(directory.resolve(CONFIGURATION_INDEX_LOCATION))).isFalse();
+    }
+
+    @Test
+    public void shouldNotWriteIndexWhenIndexIsNotEnabled() throws IOException {
+        // when
+        compile("test/TopLevelConfiguration.java", CONFIGURATIONS, false);
+
+        // then
+        assertThat(Files.exists(directory.resolve(CONFIGURATION_INDEX_LOCATION))).isFalse();
+    }
+
+    @Test
+    public void shouldMergeIndexFromPreviousCompilation() throws IOException {
+        // given
+        compile("test/TopLevelConfiguration.java", CONFIGURATIONS);
+        Files.delete(directory.resolve("test/TopLevelConfiguration$AbstractClassConfiguration.class"));
+
+        // when
+        compile("test/OtherConfiguration.java", "package test;\n@com.sabre.oss.conf4j.annotation.Key(\"other\")\npublic interface OtherConfiguration {\n}\n");
+
+        // then
+        assertThat(Files.readAllLines(directory.resolve(CONFIGURATION_INDEX_LOCATION), UTF_8)).containsExactly(
+                "test.OtherConfiguration",
+                "test.TopLevelConfiguration",
+                "test.TopLevelConfiguration$NestedConfiguration");
+    }
+
+    @Test
+    public void shouldReplacePreviousEntriesOfRecompiledTypes() throws IOException {
+        // given
+        compile("test/TopLevelConfiguration.java", CONFIGURATIONS);
+
+        // when
+        compile("test/TopLevelConfiguration.java", "package test;\n@com.sabre.oss.conf4j.annotation.Key(\"top\")\npublic interface TopLevelConfiguration {\n}\n");
+
+        // then
+        assertThat(Files.readAllLines(directory.resolve(CONFIGURATION_INDEX_LOCATION), UTF_8)).containsExactly(
+                "test.TopLevelConfiguration");
+    }
+
+    private void compile(String fileName, String source) throws IOException {
+        compile(fileName, source, true);
+    }
+
+    private void compile(String fileName, String source, boolean indexEnabled) throws IOException {
+        Path sourceFile = directory.resolve(fileName);
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, source.getBytes(UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, UTF_8)) {
+            Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects(sourceFile.toFile());
+            // the output directory is on the classpath, so types compiled previously are visible
+            List<String> options = new ArrayList<>(asList("-d", directory.toString(),
+                    "-classpath", directory + File.pathSeparator + System.getProperty("java.class.path")));
+            if (indexEnabled) {
+                options.add("-A" + ConfigurationIndexProcessor.INDEX_OPTION + "=true");
+            }
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, compilationUnits);
+            task.setProcessors(singletonList(new ConfigurationIndexProcessor()));
+            assertThat(task.call()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.sabre.oss.conf4j.factory.generated;
+
+import com.sabre.oss.conf4j.annotation.processor.ConfigurationAnnotationProcessor;
+import com.sabre.oss.conf4j.factory.AbstractConfigurationFactoryTest;
+import com.sabre.oss.conf4j.factory.AbstractStaticConfigurationFactoryTest;
+import com.sabre.oss.conf4j.factory.model.ValidConfiguration;
+import org.junit.jupiter.api.BeforeAll;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GeneratedConfigurationFactoryTest extends AbstractStaticConfigurationFactoryTest<GeneratedConfigurationFactory> {
+    private static final List<String> MODEL_TYPES = asList(
+            "ConfigurationWithIncompatibleAbstractMethod", "ConfigurationWithNoDefaultValue",
+            "ConfigurationWithUnconvertableProperty", "ValidAbstractConfiguration", "ValidAbstractConfigurationImpl",
+            "ValidConfiguration",
+            "collections.Component", "collections.SubComponent",
+            "hierarchical.FirstLevel", "hierarchical.FirstLevelBase", "hierarchical.SecondLevel",
+            "hierarchical.SecondLevelBase", "hierarchical.ThirdLevel", "hierarchical.ThirdLevelBase",
+            "ignoreprefix.BaseConfiguration", "ignoreprefix.SubConfiguration", "ignoreprefix.SubSubConfiguration",
+            "keyprefix.ComponentsConfiguration", "keyprefix.ConfigurationWithoutKeyPrefixDefinition",
+            "parameterized.ConfigurationWithIdSubConfiguration", "parameterized.IdConfiguration",
+            "parameterized.ParameterizedConfiguration");
+
+    /**
+     * Runs the annotation processor on the configuration types of the conformance tests (which are provided
+     * as compiled classes by {@code conf4j-ck}, so all of them have to be listed explicitly) and stores the generated classes in the test classes directory,
+     * so they are loaded by the same class loader as the configuration types.
+     */
+    @BeforeAll
+    public static void generateImplementations() throws Exception {
+        Path outputDirectory = Paths.get(GeneratedConfigurationFactoryTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        String modelPackage = ValidConfiguration.class.getPackage().getName();
+        List<String> classes = Stream.concat(
+                Stream.of(AbstractConfigurationFactoryTest.class.getName()),
+                MODEL_TYPES.stream().map(type -> modelPackage + '.' + type))
+                .collect(toList());
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> options = asList("-d", outputDirectory.toString(), "-classpath", System.getProperty("java.class.path"));
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options, classes, emptyList());
+        task.setProcessors(singletonList(new ConfigurationAnnotationProcessor()));
+        assertThat(task.call()).isTrue();
+    }
+
+    @Override
+    protected GeneratedConfigurationFactory createConfigurationFactory() {
+        return new GeneratedConfigurationFactory();
+    }
+}
@@ -48,6 +48,20 @@ public interface TypeConverter<T> {
      */
     boolean isApplicable(Type type, Map<String, String> attributes);
 
+    /**
+     * Checks if the result of {@link #isApplicable(Type, Map)} depends only on the type and the meta-data attributes
+     * are ignored. It allows composite converters (like {@code ChainedTypeConverter}) to cache the converter
+     * lookup by the type only.
+     * <p>
+     * Attributes are still passed to {@link #fromString(Type, String, Map)} and {@link #toString(Type, Object, Map)}.
+     *
+     * @return {@code true} when the applicability of the converter doesn't depend on the attributes.
+     * By default {@code false} is returned.
+     */
+    default boolean isAttributeIndependent() {
+        return false;
+    }
+
     /**
      * Converts String to the target type.
      *
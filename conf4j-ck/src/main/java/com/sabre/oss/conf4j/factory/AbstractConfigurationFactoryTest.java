@@ -34,6 +34,8 @@ import com.sabre.oss.conf4j.factory.model.ValidConfiguration;
 import com.sabre.oss.conf4j.factory.model.ValidConfiguration.SimpleEnum;
 import com.sabre.oss.conf4j.factory.model.collections.Component;
 import com.sabre.oss.conf4j.factory.model.hierarchical.FirstLevel;
+import com.sabre.oss.conf4j.factory.model.hierarchical.SecondLevel;
+import com.sabre.oss.conf4j.factory.model.hierarchical.ThirdLevel;
 import com.sabre.oss.conf4j.factory.model.ignoreprefix.BaseConfiguration;
 import com.sabre.oss.conf4j.factory.model.keyprefix.ComponentsConfiguration;
 import com.sabre.oss.conf4j.factory.model.keyprefix.ConfigurationWithoutKeyPrefixDefinition;
@@ -41,12 +43,15 @@ import com.sabre.oss.conf4j.factory.model.parameterized.ConfigurationWithIdSubCo
 import com.sabre.oss.conf4j.internal.factory.AbstractConfigurationFactory;
 import com.sabre.oss.conf4j.processor.ConfigurationValueDecrypter;
 import com.sabre.oss.conf4j.processor.ConfigurationValueDecryptingProcessor;
+import com.sabre.oss.conf4j.source.MapConfigurationSource;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -138,6 +143,20 @@ public abstract class AbstractConfigurationFactoryTest<F extends AbstractConfigu
         assertThat(configInstance.getStringListPropertyWithEmptyDefault()).isEmpty();
     }
 
+    @Test
+    public void shouldPreloadConfigurationsWithSubConfigurations() {
+        // Given
+        when(source.getValue(anyString(), any())).thenReturn(absent());
+
+        // When
+        Map<Class<?>, Duration> timings = factory.preload(asList(FirstLevel.class, ValidConfiguration.class, SecondLevel.class));
+
+        // Then
+        assertThat(timings).containsOnlyKeys(FirstLevel.class, SecondLevel.class, ThirdLevel.class, ValidConfiguration.class);
+        FirstLevel firstLevel = factory.createConfiguration(FirstLevel.class, source);
+        assertThat(firstLevel.getSecondLevel().getThirdLevel().getE()).isEqualTo("TE1");
+    }
+
     @Test
     public void shouldHandleHierarchicalConfigurations() {
         // Given
@@ -253,6 +272,21 @@ public abstract class AbstractConfigurationFactoryTest<F extends AbstractConfigu
         assertThat(configInstance.getSubComponents().get(2).getPropertyB()).isEqualTo("B");   // default for property
     }
 
+    @Test
+    public void shouldDeriveListOfSubConfigurationsSizeFromIterableSource() {
+        // Given
+        Map<String, String> values = new HashMap<>();
+        values.put("component.subComponent[0].propertyA", "A0+");
+        values.put("component.subComponent[3].propertyA", "A3+");
+        // When
+        Component configInstance = factory.createConfiguration(Component.class, new MapConfigurationSource(values));
+        // Then
+        assertThat(configInstance.getSubComponents()).hasSize(4);
+        assertThat(configInstance.getSubComponents().get(0).getPropertyA()).isEqualTo("A0+"); // value from the source
+        assertThat(configInstance.getSubComponents().get(2).getPropertyA()).isEqualTo("A");   // default for property
+        assertThat(configInstance.getSubComponents().get(3).getPropertyA()).isEqualTo("A3+"); // value from the source
+    }
+
     @Test
     public void shouldHandleListOfSubConfigurationsWithAppendedItems() {
         // Given
@@ -888,4 +922,73 @@ public abstract class AbstractConfigurationFactoryTest<F extends AbstractConfigu
             return getFirstName() + ' ' + getLastName();
         }
     }
+
+    @Test
+    public void shouldInvokeDefaultMethodOverloadingProperty() {
+        // given
+        when(source.getValue(anyString(), any())).thenReturn(absent());
+        when(source.getValue("overloaded.name", null)).thenReturn(present("Name"));
+
+        // when
+        OverloadedConfiguration configuration = factory.createConfiguration(OverloadedConfiguration.class, source);
+
+        // then
+        assertThat(configuration.getName()).isEqualTo("Name");
+        assertThat(configuration.getName("-suffix")).isEqualTo("Name-suffix");
+    }
+
+    @Key("overloaded")
+    public interface OverloadedConfiguration {
+        @Key
+        String getName();
+
+        default String getName(String suffix) {
+            return getName() + suffix;
+        }
+    }
+
+    @Test
+    public void shouldInvokeConcreteMethodOverloadingProperty() {
+        if (!supportsClasses()) {
+            return;
+        }
+
+        // given
+        when(source.getValue(anyString(), any())).thenReturn(absent());
+        when(source.getValue("overloaded.name", null)).thenReturn(present("Name"));
+
+        // when
+        OverloadedAbstractConfiguration configuration = factory.createConfiguration(OverloadedAbstractConfiguration.class, source);
+
+        // then
+        assertThat(configuration.getName()).isEqualTo("Name");
+        assertThat(configuration.getName("-suffix")).isEqualTo("Name-suffix");
+    }
+
+    @Key("overloaded")
+    public abstract static class OverloadedAbstractConfiguration {
+        @Key
+        public abstract String getName();
+
+        public String getName(String suffix) {
+            return getName() + suffix;
+        }
+    }
+
+    @Test
+    public void shouldProvideIdentityBasedObjectMethods() {
+        // given
+        when(source.getValue(anyString(), any())).thenReturn(absent());
+
+        // when
+        ConnectionConfiguration configuration = factory.createConfiguration(ConnectionConfiguration.class, source);
+        ConnectionConfiguration another = factory.createConfiguration(ConnectionConfiguration.class, source);
+
+        // then
+        assertThat(configuration.equals(configuration)).isTrue();
+        assertThat(configuration.equals(another)).isFalse();
+        assertThat(configuration.equals(null)).isFalse();
+        assertThat(configuration.hashCode()).isEqualTo(System.identityHashCode(configuration));
+        assertThat(configuration.toString()).isNotEmpty();
+    }
 }
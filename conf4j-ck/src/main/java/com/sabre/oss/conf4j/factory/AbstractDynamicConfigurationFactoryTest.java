@@ -31,14 +31,20 @@ import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
 import com.sabre.oss.conf4j.annotation.Default;
 import com.sabre.oss.conf4j.annotation.Internal;
 import com.sabre.oss.conf4j.annotation.Key;
+import com.sabre.oss.conf4j.converter.TypeConverter;
 import com.sabre.oss.conf4j.factory.model.collections.Component;
 import com.sabre.oss.conf4j.factory.model.ignoreprefix.BaseConfiguration;
+import com.sabre.oss.conf4j.internal.config.DefaultConfigurationValueProvider;
 import com.sabre.oss.conf4j.internal.config.DynamicConfiguration;
 import com.sabre.oss.conf4j.internal.factory.AbstractConfigurationFactory;
+import com.sabre.oss.conf4j.processor.ConfigurationValueProcessor;
 import com.sabre.oss.conf4j.source.ConfigurationSource;
+import com.sabre.oss.conf4j.source.WritableMapConfigurationSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Type;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -124,6 +130,81 @@ public abstract class AbstractDynamicConfigurationFactoryTest<F extends Abstract
         assertThat(configuration.getSubComponents().get(3).getPropertyB()).isEqualTo("B");
     }
 
+    @Test
+    public void shouldProvideFreshValueFromVersionedSourceWhenValuesAreMemoized() {
+        // given
+        WritableMapConfigurationSource versionedSource = new WritableMapConfigurationSource(new HashMap<>());
+        factory.setMemoizeConfigurationValues(true);
+        Component configuration = factory.createConfiguration(Component.class, versionedSource);
+        assertThat(configuration.getName()).isEqualTo("defaultName");
+        assertThat(configuration.getSubComponents()).hasSize(2);
+
+        // when
+        versionedSource.setValue("component.name", "name+", null);
+        versionedSource.setValue("component.subComponent.size", "3", null);
+        versionedSource.setValue("component.subComponent[2].propertyA", "A2+", null);
+
+        // then
+        assertThat(configuration.getName()).isEqualTo("name+");
+        assertThat(configuration.getSubComponents()).hasSize(3);
+        assertThat(configuration.getSubComponents().get(2).getPropertyA()).isEqualTo("A2+");
+
+        // when
+        versionedSource.removeValue("component.name", null);
+
+        // then
+        assertThat(configuration.getName()).isEqualTo("defaultName");
+    }
+
+    @Test
+    public void shouldMemoizeValuesPerInstanceWhenInstancesShareMetadata() {
+        // given
+        WritableMapConfigurationSource firstSource = new WritableMapConfigurationSource(new HashMap<>());
+        WritableMapConfigurationSource secondSource = new WritableMapConfigurationSource(new HashMap<>());
+        factory.setMemoizeConfigurationValues(true);
+        Component first = factory.createConfiguration(Component.class, firstSource);
+        Component second = factory.createConfiguration(Component.class, secondSource);
+        assertThat(first.getName()).isEqualTo("defaultName");
+        assertThat(second.getName()).isEqualTo("defaultName");
+
+        // when
+        firstSource.setValue("component.name", "first", null);
+        secondSource.setValue("component.subComponent[2].propertyA", "A2+", null);
+
+        // then
+        assertThat(first.getName()).isEqualTo("first");
+        assertThat(first.getSubComponents()).hasSize(2);
+        assertThat(second.getName()).isEqualTo("defaultName");
+        assertThat(second.getSubComponents()).hasSize(3);
+    }
+
+    @Test
+    public void shouldUseTypeConverterAndValueProviderChangedOnLiveInstance() {
+        // given
+        when(source.getValue("keyPrefix.someProperty", null)).thenReturn(present("value"));
+        Configuration configuration = factory.createConfiguration(Configuration.class, source);
+        Configuration otherConfiguration = factory.createConfiguration(Configuration.class, source);
+        assertThat(configuration.getSomeProperty()).isEqualTo("value");
+
+        // when
+        ((DynamicConfiguration) configuration).setTypeConverter(new PrefixingConverter("converted:"));
+
+        // then
+        assertThat(configuration.getSomeProperty()).isEqualTo("converted:value");
+        assertThat(otherConfiguration.getSomeProperty()).isEqualTo("value");
+
+        // when
+        ConfigurationValueProcessor processor = v -> {
+            v.setValue(v.getValue() + "+");
+            return v;
+        };
+        ((DynamicConfiguration) configuration).setConfigurationValueProvider(new DefaultConfigurationValueProvider(singletonList(processor)));
+
+        // then
+        assertThat(configuration.getSomeProperty()).isEqualTo("converted:value+");
+        assertThat(otherConfiguration.getSomeProperty()).isEqualTo("value");
+    }
+
     @Test
     public void shouldRespectIgnoreKeyPrefixAnnotation() {
         // given
@@ -233,6 +314,29 @@ public abstract class AbstractDynamicConfigurationFactoryTest<F extends Abstract
         Map<String, Map<String, String>> getMapStringToMapStringToString();
     }
 
+    private static class PrefixingConverter implements TypeConverter<String> {
+        private final String prefix;
+
+        PrefixingConverter(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean isApplicable(Type type, Map<String, String> attributes) {
+            return type == String.class;
+        }
+
+        @Override
+        public String fromString(Type type, String value, Map<String, String> attributes) {
+            return value == null ? null : prefix + value;
+        }
+
+        @Override
+        public String toString(Type type, String value, Map<String, String> attributes) {
+            return value;
+        }
+    }
+
     @Key("keyPrefix")
     public interface Configuration {
         @Key
@@ -25,6 +25,7 @@
 package com.sabre.oss.conf4j.factory;
 
 import com.sabre.oss.conf4j.factory.model.ValidConfiguration;
+import com.sabre.oss.conf4j.factory.model.hierarchical.FirstLevel;
 import com.sabre.oss.conf4j.internal.factory.AbstractConfigurationFactory;
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +35,7 @@ import java.util.Arrays;
 
 import static com.sabre.oss.conf4j.internal.Constants.METADATA_SUFFIX;
 import static com.sabre.oss.conf4j.source.OptionalValue.absent;
+import static com.sabre.oss.conf4j.source.OptionalValue.present;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -68,4 +70,18 @@ public abstract class AbstractStaticConfigurationFactoryTest<F extends AbstractC
             assertThat(deserialized).isEqualToComparingOnlyGivenFields(config, metadataFields);
         }
     }
+
+    @Test
+    public void shouldResolveAllPropertiesWithSingleBulkLookup() {
+        // given
+        when(source.getValue(anyString(), any())).thenReturn(absent());
+        when(source.getValue("L1.L2.L3.e", null)).thenReturn(present("TE1+"));
+
+        // when
+        FirstLevel firstLevel = factory.createConfiguration(FirstLevel.class, source);
+
+        // then
+        assertThat(firstLevel.getSecondLevel().getThirdLevel().getE()).isEqualTo("TE1+");
+        verify(source, times(1)).findEntries(anyCollection(), any());
+    }
 }
@@ -79,6 +79,14 @@ public abstract class AbstractNumberConverter<T extends Number> implements TypeC
                 (clazz.isAssignableFrom((Class<?>) type) || primitiveType != null && primitiveType.isAssignableFrom((Class<?>) type));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return true;
+    }
+
     /**
      * Converts String to given type
      *
@@ -109,7 +117,7 @@ public abstract class AbstractNumberConverter<T extends Number> implements TypeC
                 return convertResult(parseWithFormat(value, format, locale, type));
             }
         } catch (NumberFormatException e) {
-            throw new IllegalArgumentException(format("Unable to convert to %s: %s", getSimpleClassName(type), value), e);
+            throw conversionException(type, value, e);
         }
     }
 
@@ -138,6 +146,20 @@ public abstract class AbstractNumberConverter<T extends Number> implements TypeC
         }
     }
 
+    /**
+     * Checks if {@value #FORMAT} meta-attribute is provided.
+     *
+     * @param attributes meta-attributes. It can be {@code null}.
+     * @return {@code true} when {@value #FORMAT} meta-attribute is provided.
+     */
+    protected boolean hasFormat(Map<String, String> attributes) {
+        return attributes != null && attributes.get(FORMAT) != null;
+    }
+
+    protected IllegalArgumentException conversionException(Type type, String value, NumberFormatException cause) {
+        return new IllegalArgumentException(format("Unable to convert to %s: %s", getSimpleClassName(type), value), cause);
+    }
+
     protected Number parseWithFormat(String value, String format, String locale, Type type) {
         NumberFormat formatter = getFormatter(format, locale);
 
@@ -127,6 +127,14 @@ public abstract class AbstractTemporalAccessorConverter<T extends TemporalAccess
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return true;
+    }
+
     protected DateTimeFormatter getFormatterForPattern(String pattern) {
         return pattern == null ? getDefaultFormatter() : cache.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
     }
@@ -50,7 +50,7 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
  * <p>
  * When the format is not specified {@value #TRUE} and {@value #FALSE} values are used.
  */
-public class BooleanConverter implements TypeConverter<Boolean> {
+public class BooleanConverter implements TypeConverter<Boolean>, BooleanTypeConverter {
     /**
      * Format attribute name.
      */
@@ -71,6 +71,14 @@ public class BooleanConverter implements TypeConverter<Boolean> {
                 (Boolean.class.isAssignableFrom((Class<?>) type) || Boolean.TYPE.isAssignableFrom((Class<?>) type));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return true;
+    }
+
     /**
      * Converts String to {@link Boolean}
      *
@@ -142,6 +150,19 @@ public class BooleanConverter implements TypeConverter<Boolean> {
         }
     }
 
+    /**
+     * Converts String to {@code boolean}.
+     *
+     * @see #fromString(Type, String, Map)
+     */
+    @Override
+    public boolean fromStringToBoolean(Type type, String value, Map<String, String> attributes) {
+        requireNonNull(value, "value cannot be null");
+
+        // fromString(...) returns only Boolean.TRUE and Boolean.FALSE constants
+        return fromString(type, value, attributes);
+    }
+
     private Pair<String, String> getValues(String format) {
         int idx = format.indexOf(SEPARATOR);
         if (idx < 0) {
@@ -0,0 +1,427 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.converter;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.sabre.oss.conf4j.internal.utils.ImmutableUtils.isImmutable;
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.Validate.isTrue;
+
+/**
+ * {@code BoundedCachingTypeConverter} is a {@link TypeConverter} decorator which caches the values converted
+ * by the delegate, so expensive conversions (like {@link PatternConverter}, {@link UrlConverter}
+ * or {@link JsonLikeConverter}) are not repeated when the same string is converted again.
+ * <p>
+ * The cache is bounded, it holds at most {@code maximumSize} values (rounded up to the power of two). Optionally it is
+ * also bounded by the total weight of cached values, the weight of the value is the length of the string it was
+ * converted from. Values heavier than {@code maximumWeight} are never cached.
+ * The eviction is frequency-aware: the access frequency of recently converted values is tracked (in a compact,
+ * periodically aged, sketch) and a new value replaces a cached one only when it is used more often.
+ * Thanks to that, the values which are read frequently are not evicted by the values which are converted only once.
+ * <p>
+ * Cache lookups don't allocate nor hash the attributes. The type and the attributes are identified by identity,
+ * which is the common case because they are provided by the configuration property metadata. Equal, but not identical,
+ * types or attributes are cached separately.
+ * <p>
+ * Converted values are shared, so only immutable values are cached: strings, primitive wrappers, enums,
+ * {@code java.time} types and other well-known immutable types, as well as all values converted by
+ * {@link JsonLikeConverter} created with {@code immutableCollections} enabled. Other values (e.g. mutable lists and
+ * maps) are converted every time, so one caller's modification cannot corrupt the value seen by others.
+ * {@code null} values are not cached.
+ * <p>
+ * The converter can be registered as {@link DecoratingConverterFactory}, see {@link #factory(int)}.
+ *
+ * @param <T> The type that this type converter handles.
+ */
+public class BoundedCachingTypeConverter<T> implements TypeConverter<T> {
+    private static final int WAYS = 4;
+    private static final int SKETCH_DEPTH = 4;
+    private static final int MAX_FREQUENCY = 15;
+    private static final int[] SKETCH_SEEDS = {0x97cb3127, 0xb4d6a9e3, 0xe3b9f1a5, 0xc2b2ae35};
+
+    private final TypeConverter<T> typeConverter;
+    /**
+     * {@code true} when all values provided by the delegate are immutable, so they can be cached without checking.
+     */
+    private final boolean immutableValues;
+    private final AtomicReferenceArray<Entry<T>> table;
+    private final int bucketMask;
+    private final long maximumWeight;
+    private final AtomicLong weight = new AtomicLong();
+
+    // frequency sketch, updated without synchronization - the frequencies are approximate by nature
+    private final byte[] sketch;
+    private final int sketchMask;
+    private final int sketchResetThreshold;
+    private int sketchAdditions;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates caching converter bounded only by the number of cached values.
+     *
+     * @param typeConverter type converter used for conversions.
+     * @param maximumSize   maximum number of cached values.
+     * @throws NullPointerException     when {@code typeConverter} is {@code null}.
+     * @throws IllegalArgumentException when {@code maximumSize} is not positive.
+     */
+    public BoundedCachingTypeConverter(TypeConverter<T> typeConverter, int maximumSize) {
+        this(typeConverter, maximumSize, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates caching converter.
+     *
+     * @param typeConverter type converter used for conversions.
+     * @param maximumSize   maximum number of cached values.
+     * @param maximumWeight maximum total weight of cached values (the total length of the strings they were
+     *                      converted from).
+     * @throws NullPointerException     when {@code typeConverter} is {@code null}.
+     * @throws IllegalArgumentException when {@code maximumSize} or {@code maximumWeight} is not positive.
+     */
+    public BoundedCachingTypeConverter(TypeConverter<T> typeConverter, int maximumSize, long maximumWeight) {
+        this.typeConverter = requireNonNull(typeConverter, "typeConverter cannot be null");
+        isTrue(maximumSize > 0, "maximumSize must be positive");
+        isTrue(maximumWeight > 0, "maximumWeight must be positive");
+
+        this.immutableValues = typeConverter instanceof JsonLikeConverter && ((JsonLikeConverter) typeConverter).isImmutableCollections();
+        this.maximumWeight = maximumWeight;
+
+        int buckets = ceilingPowerOfTwo((maximumSize + WAYS - 1) / WAYS);
+        this.table = new AtomicReferenceArray<>(buckets * WAYS);
+        this.bucketMask = buckets - 1;
+
+        int sketchWidth = Math.max(64, 2 * buckets * WAYS);
+        this.sketch = new byte[SKETCH_DEPTH * sketchWidth];
+        this.sketchMask = sketchWidth - 1;
+        this.sketchResetThreshold = 10 * buckets * WAYS;
+    }
+
+    /**
+     * Creates {@link DecoratingConverterFactory} which decorates converters with {@code BoundedCachingTypeConverter}.
+     *
+     * @param maximumSize maximum number of values cached by each decorated converter.
+     * @return decorating converter factory.
+     * @throws IllegalArgumentException when {@code maximumSize} is not positive.
+     */
+    @SuppressWarnings("unchecked")
+    public static DecoratingConverterFactory factory(int maximumSize) {
+        isTrue(maximumSize > 0, "maximumSize must be positive");
+
+        return delegate -> new BoundedCachingTypeConverter<>((TypeConverter<Object>) delegate, maximumSize);
+    }
+
+    /**
+     * Creates {@link DecoratingConverterFactory} which decorates converters with {@code BoundedCachingTypeConverter}
+     * bounded also by the total weight of cached values.
+     *
+     * @param maximumSize   maximum number of values cached by each decorated converter.
+     * @param maximumWeight maximum total weight of values cached by each decorated converter.
+     * @return decorating converter factory.
+     * @throws IllegalArgumentException when {@code maximumSize} or {@code maximumWeight} is not positive.
+     */
+    @SuppressWarnings("unchecked")
+    public static DecoratingConverterFactory factory(int maximumSize, long maximumWeight) {
+        isTrue(maximumSize > 0, "maximumSize must be positive");
+        isTrue(maximumWeight > 0, "maximumWeight must be positive");
+
+        return delegate -> new BoundedCachingTypeConverter<>((TypeConverter<Object>) delegate, maximumSize, maximumWeight);
+    }
+
+    /**
+     * Returns the type converter which this class delegates to perform conversions.
+     *
+     * @return type converter.
+     */
+    public TypeConverter<T> getTypeConverter() {
+        return typeConverter;
+    }
+
+    @Override
+    public boolean isApplicable(Type type, Map<String, String> attributes) {
+        requireNonNull(type, "type cannot be null");
+
+        return typeConverter.isApplicable(type, attributes);
+    }
+
+    @Override
+    public boolean isAttributeIndependent() {
+        return typeConverter.isAttributeIndependent();
+    }
+
+    @Override
+    public T fromString(Type type, String value, Map<String, String> attributes) {
+        requireNonNull(type, "type cannot be null");
+
+        if (value == null) {
+            return typeConverter.fromString(type, null, attributes);
+        }
+
+        int hash = hash(type, value, attributes);
+        recordAccess(hash);
+
+        int bucketStart = (hash & bucketMask) * WAYS;
+        for (int i = bucketStart; i < bucketStart + WAYS; i++) {
+            Entry<T> entry = table.get(i);
+            if (entry != null && entry.matches(hash, type, value, attributes)) {
+                hitCount.increment();
+                return entry.converted;
+            }
+        }
+
+        missCount.increment();
+        T converted = typeConverter.fromString(type, value, attributes);
+        if (converted != null && value.length() <= maximumWeight && (immutableValues || isImmutable(converted))) {
+            admit(bucketStart, new Entry<>(hash, type, value, attributes, converted));
+        }
+        return converted;
+    }
+
+    @Override
+    public String toString(Type type, T value, Map<String, String> attributes) {
+        requireNonNull(type, "type cannot be null");
+
+        return typeConverter.toString(type, value, attributes);
+    }
+
+    /**
+     * Provides the number of conversions served from the cache.
+     *
+     * @return number of cache hits.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Provides the number of conversions delegated to the type converter.
+     *
+     * @return number of cache misses.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Provides the number of cached values replaced by more frequently used ones.
+     *
+     * @return number of evictions.
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Provides the ratio of cache hits to all cached conversions.
+     *
+     * @return hit rate, {@code 1.0} when there were no conversions yet.
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long requests = hits + getMissCount();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    /**
+     * Provides the number of cached values.
+     *
+     * @return cache size.
+     */
+    public int getSize() {
+        int size = 0;
+        for (int i = 0; i < table.length(); i++) {
+            if (table.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Provides the total weight of cached values.
+     *
+     * @return total length of the strings the cached values were converted from.
+     */
+    public long getWeight() {
+        return weight.get();
+    }
+
+    /**
+     * Removes all cached values. Statistics are not reset.
+     */
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            Entry<T> entry = table.getAndSet(i, null);
+            if (entry != null) {
+                weight.addAndGet(-entry.weight());
+            }
+        }
+    }
+
+    private void admit(int bucketStart, Entry<T> candidate) {
+        int victim = -1;
+        Entry<T> victimEntry = null;
+        int victimFrequency = Integer.MAX_VALUE;
+        for (int i = bucketStart; i < bucketStart + WAYS; i++) {
+            Entry<T> entry = table.get(i);
+            if (entry == null) {
+                // free slot can be used only when the weight limit is not exceeded, otherwise an entry must be replaced
+                if (!reserveWeight(candidate.weight())) {
+                    continue;
+                }
+                if (table.compareAndSet(i, null, candidate)) {
+                    return;
+                }
+                weight.addAndGet(-candidate.weight());
+                entry = table.get(i);
+                if (entry == null) {
+                    continue;
+                }
+            }
+            int frequency = frequency(entry.hash);
+            if (frequency < victimFrequency) {
+                victim = i;
+                victimEntry = entry;
+                victimFrequency = frequency;
+            }
+        }
+        // the candidate is admitted only when it is used more frequently than the least frequently used entry
+        if (victimEntry != null && frequency(candidate.hash) > victimFrequency) {
+            long weightChange = (long) candidate.weight() - victimEntry.weight();
+            if (weightChange > 0 && !reserveWeight(weightChange)) {
+                return;
+            }
+            // entry replaced concurrently is not evicted, the candidate is dropped instead
+            if (table.compareAndSet(victim, victimEntry, candidate)) {
+                if (weightChange < 0) {
+                    weight.addAndGet(weightChange);
+                }
+                evictionCount.increment();
+            } else if (weightChange > 0) {
+                weight.addAndGet(-weightChange);
+            }
+        }
+    }
+
+    /**
+     * Adds {@code amount} to the total weight unless it exceeds {@code maximumWeight}.
+     *
+     * @return {@code true} when the weight was added.
+     */
+    private boolean reserveWeight(long amount) {
+        while (true) {
+            long current = weight.get();
+            if (current + amount > maximumWeight) {
+                return false;
+            }
+            if (weight.compareAndSet(current, current + amount)) {
+                return true;
+            }
+        }
+    }
+
+    private void recordAccess(int hash) {
+        boolean added = false;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            int index = sketchIndex(hash, row);
+            if (sketch[index] < MAX_FREQUENCY) {
+                sketch[index]++;
+                added = true;
+            }
+        }
+        if (added && ++sketchAdditions >= sketchResetThreshold) {
+            age();
+        }
+    }
+
+    private int frequency(int hash) {
+        int frequency = MAX_FREQUENCY;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            frequency = Math.min(frequency, sketch[sketchIndex(hash, row)]);
+        }
+        return frequency;
+    }
+
+    private void age() {
+        // halve all counters, so old frequencies don't prevent new values from being cached
+        for (int i = 0; i < sketch.length; i++) {
+            sketch[i] = (byte) (sketch[i] >>> 1);
+        }
+        sketchAdditions /= 2;
+    }
+
+    private int sketchIndex(int hash, int row) {
+        int h = hash * SKETCH_SEEDS[row];
+        h ^= h >>> 17;
+        return row * (sketchMask + 1) + (h & sketchMask);
+    }
+
+    private static int hash(Type type, String value, Map<String, String> attributes) {
+        // identity hash codes don't require computations, String caches its hash code
+        int h = value.hashCode();
+        h = 31 * h + System.identityHashCode(type);
+        h = 31 * h + System.identityHashCode(attributes);
+        return h ^ (h >>> 16);
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    private static final class Entry<T> {
+        private final int hash;
+        private final Type type;
+        private final String value;
+        private final Map<String, String> attributes;
+        private final T converted;
+
+        private Entry(int hash, Type type, String value, Map<String, String> attributes, T converted) {
+            this.hash = hash;
+            this.type = type;
+            this.value = value;
+            this.attributes = attributes;
+            this.converted = converted;
+        }
+
+        private int weight() {
+            return value.length();
+        }
+
+        private boolean matches(int hash, Type type, String value, Map<String, String> attributes) {
+            return this.hash == hash &&
+                    (this.value == value || this.value.equals(value)) &&
+                    (this.type == type || this.type.equals(type)) &&
+                    (this.attributes == attributes || Objects.equals(this.attributes, attributes));
+        }
+    }
+}
@@ -28,7 +28,9 @@ import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
@@ -37,10 +39,36 @@ import static org.apache.commons.lang3.Validate.noNullElements;
 /**
  * {@code ChainedTypeConverter} is a {@link TypeConverter} that supports conversion for multiple types.
  * This converter delegates to the chain of converters to perform conversions.
+ * <p>
+ * Conversions to primitive types are delegated without boxing when the converter from the chain supports it
+ * (implements {@link IntTypeConverter}, {@link LongTypeConverter}, {@link DoubleTypeConverter}
+ * or {@link BooleanTypeConverter}).
+ * <p>
+ * The converter applicable for the type is found once and cached, also when there is no such converter.
+ * When all converters from the chain are {@link TypeConverter#isAttributeIndependent() attribute independent},
+ * the lookup depends only on the type and it doesn't allocate nor hash meta-data attributes.
  */
-public class ChainedTypeConverter implements TypeConverter<Object> {
+public class ChainedTypeConverter implements TypeConverter<Object>,
+        IntTypeConverter, LongTypeConverter, DoubleTypeConverter, BooleanTypeConverter {
     private final List<TypeConverter<?>> converters;
-    private final Map<Key, TypeConverter<Object>> typeToConverter;
+    private final boolean attributeIndependent;
+    /**
+     * Converters for classes, used only when the chain is attribute independent.
+     */
+    private final ClassValue<Optional<TypeConverter<Object>>> classToConverter = new ClassValue<Optional<TypeConverter<Object>>>() {
+        @Override
+        protected Optional<TypeConverter<Object>> computeValue(Class<?> type) {
+            return findApplicableConverter(type, null);
+        }
+    };
+    /**
+     * Converters for other types (like parameterized types), used only when the chain is attribute independent.
+     */
+    private final ConcurrentMap<Type, Optional<TypeConverter<Object>>> typeToConverter = new ConcurrentHashMap<>();
+    /**
+     * Converters for types and attributes, used when the chain is attribute dependent.
+     */
+    private final ConcurrentMap<Key, Optional<TypeConverter<Object>>> keyToConverter = new ConcurrentHashMap<>();
 
     /**
      * Create a converter using {@code converters}.
@@ -53,7 +81,7 @@ public class ChainedTypeConverter implements TypeConverter<Object> {
         this.converters = requireNonNull(converters, "converters cannot be null");
         noNullElements(converters, "converters list has null element at index: %d");
 
-        this.typeToConverter = new ConcurrentHashMap<>();
+        this.attributeIndependent = converters.stream().allMatch(TypeConverter::isAttributeIndependent);
     }
 
     /**
@@ -74,6 +102,14 @@ public class ChainedTypeConverter implements TypeConverter<Object> {
         return converterFor(type, attributes, false) != null;
     }
 
+    /**
+     * The chain is attribute independent when all converters in the chain are.
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return attributeIndependent;
+    }
+
     @Override
     public Object fromString(Type type, String value, Map<String, String> attributes) {
         requireNonNull(type, "type cannot be null");
@@ -88,28 +124,103 @@ public class ChainedTypeConverter implements TypeConverter<Object> {
         return converterFor(type, attributes).toString(type, value, attributes);
     }
 
+    @Override
+    public int fromStringToInt(Type type, String value, Map<String, String> attributes) {
+        requireNonNull(type, "type cannot be null");
+
+        TypeConverter<Object> converter = converterFor(type, attributes);
+        if (converter instanceof IntTypeConverter) {
+            return ((IntTypeConverter) converter).fromStringToInt(type, value, attributes);
+        }
+        return (Integer) converter.fromString(type, requireNonNull(value, "value cannot be null"), attributes);
+    }
+
+    @Override
+    public long fromStringToLong(Type type, String value, Map<String, String> attributes) {
+        requireNonNull(type, "type cannot be null");
+
+        TypeConverter<Object> converter = converterFor(type, attributes);
+        if (converter instanceof LongTypeConverter) {
+            return ((LongTypeConverter) converter).fromStringToLong(type, value, attributes);
+        }
+        return (Long) converter.fromString(type, requireNonNull(value, "value cannot be null"), attributes);
+    }
+
+    @Override
+    public double fromStringToDouble(Type type, String value, Map<String, String> attributes) {
+        requireNonNull(type, "type cannot be null");
+
+        TypeConverter<Object> converter = converterFor(type, attributes);
+        if (converter instanceof DoubleTypeConverter) {
+            return ((DoubleTypeConverter) converter).fromStringToDouble(type, value, attributes);
+        }
+        return (Double) converter.fromString(type, requireNonNull(value, "value cannot be null"), attributes);
+    }
+
+    @Override
+    public boolean fromStringToBoolean(Type type, String value, Map<String, String> attributes) {
+        requireNonNull(type, "type cannot be null");
+
+        TypeConverter<Object> converter = converterFor(type, attributes);
+        if (converter instanceof BooleanTypeConverter) {
+            return ((BooleanTypeConverter) converter).fromStringToBoolean(type, value, attributes);
+        }
+        return (Boolean) converter.fromString(type, requireNonNull(value, "value cannot be null"), attributes);
+    }
+
+    /**
+     * Finds the converter from the chain which is applicable for a given type.
+     *
+     * @param type       actual type definition.
+     * @param attributes additional meta-data attributes. It can be {@code null}.
+     * @return the first converter from the chain applicable for {@code type} or {@code null} when there is no such converter.
+     * @throws NullPointerException when {@code type} is {@code null}.
+     */
+    public TypeConverter<?> findConverter(Type type, Map<String, String> attributes) {
+        requireNonNull(type, "type cannot be null");
+
+        return converterFor(type, attributes, false);
+    }
+
     private TypeConverter<Object> converterFor(Type type, Map<String, String> attributes) {
         return converterFor(type, attributes, true);
     }
 
-    @SuppressWarnings("unchecked")
     private TypeConverter<Object> converterFor(Type type, Map<String, String> attributes, boolean exceptionIfNotFound) {
-        TypeConverter<Object> typeConverter = typeToConverter.computeIfAbsent(new Key(type, attributes), (k) -> {
-            for (TypeConverter<?> converter : converters) {
-                if (converter.isApplicable(k.type, k.attributes)) {
-                    return (TypeConverter<Object>) converter;
-                }
+        // get(...) is called before computeIfAbsent(...) because the latter may lock even when the value is present
+        Optional<TypeConverter<Object>> typeConverter;
+        if (!attributeIndependent) {
+            Key key = new Key(type, attributes);
+            typeConverter = keyToConverter.get(key);
+            if (typeConverter == null) {
+                typeConverter = keyToConverter.computeIfAbsent(key, k -> findApplicableConverter(k.type, k.attributes));
+            }
+        } else if (type instanceof Class<?>) {
+            typeConverter = classToConverter.get((Class<?>) type);
+        } else {
+            typeConverter = typeToConverter.get(type);
+            if (typeConverter == null) {
+                typeConverter = typeToConverter.computeIfAbsent(type, t -> findApplicableConverter(t, null));
             }
-            return null;
-        });
+        }
 
-        if (typeConverter != null || !exceptionIfNotFound) {
-            return typeConverter;
+        if (typeConverter.isPresent() || !exceptionIfNotFound) {
+            return typeConverter.orElse(null);
         }
 
         throw new IllegalArgumentException("Don't know how to convert " + type);
     }
 
+    @SuppressWarnings("unchecked")
+    private Optional<TypeConverter<Object>> findApplicableConverter(Type type, Map<String, String> attributes) {
+        for (TypeConverter<?> converter : converters) {
+            if (converter.isApplicable(type, attributes)) {
+                return Optional.of((TypeConverter<Object>) converter);
+            }
+        }
+        return Optional.empty();
+    }
+
     private static final class Key {
         private final Type type;
         private final Map<String, String> attributes;
@@ -143,7 +254,8 @@ public class ChainedTypeConverter implements TypeConverter<Object> {
 
         @Override
         public int hashCode() {
-            return Objects.hash(type, attributes);
+            // Objects.hash(...) is not used because it allocates varargs array
+            return 31 * Objects.hashCode(type) + Objects.hashCode(attributes);
         }
 
         @Override
@@ -44,6 +44,14 @@ public class CharacterConverter implements TypeConverter<Character> {
                 (Character.class.isAssignableFrom((Class<?>) type) || Character.TYPE.isAssignableFrom((Class<?>) type));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return true;
+    }
+
     @Override
     public Character fromString(Type type, String value, Map<String, String> attributes) {
         requireNonNull(type, "type cannot be null");
@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.converter;
+
+import java.io.Serializable;
+import java.util.*;
+
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.copyOfRange;
+import static java.util.Collections.*;
+
+/**
+ * Factory of compact, immutable lists and maps used by {@link JsonLikeConverter}.
+ * <p>
+ * Empty and single element collections are shared JDK instances, larger lists are backed by exact-size arrays
+ * and larger maps use open-addressing hash tables which preserve the insertion order.
+ */
+final class CompactCollections {
+    private CompactCollections() {
+    }
+
+    /**
+     * Creates immutable list of the items stored in {@code items} between {@code from} (inclusive)
+     * and {@code to} (exclusive).
+     */
+    static List<Object> list(Object[] items, int from, int to) {
+        switch (to - from) {
+            case 0:
+                return emptyList();
+            case 1:
+                return singletonList(items[from]);
+            default:
+                return new ArrayBackedList(copyOfRange(items, from, to));
+        }
+    }
+
+    /**
+     * Creates immutable map of the entries stored in {@code entries} between {@code from} (inclusive)
+     * and {@code to} (exclusive). Keys and values are interleaved, when a key is duplicated the last value wins.
+     */
+    static Map<Object, Object> map(Object[] entries, int from, int to) {
+        switch ((to - from) / 2) {
+            case 0:
+                return emptyMap();
+            case 1:
+                return singletonMap(entries[from], entries[from + 1]);
+            default:
+                return new OpenHashMap(entries, from, to);
+        }
+    }
+
+    private static final class ArrayBackedList extends AbstractList<Object> implements RandomAccess, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] items;
+
+        ArrayBackedList(Object[] items) {
+            this.items = items;
+        }
+
+        @Override
+        public Object get(int index) {
+            return items[index];
+        }
+
+        @Override
+        public int size() {
+            return items.length;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return items.clone();
+        }
+    }
+
+    private static final class OpenHashMap extends AbstractMap<Object, Object> implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] keys;
+        private final Object[] values;
+        // indexes (increased by one) of keys and values, zero denotes an empty slot
+        private final int[] table;
+        private transient Set<Entry<Object, Object>> entrySet;
+
+        OpenHashMap(Object[] entries, int from, int to) {
+            int capacity = (to - from) / 2;
+            Object[] keys = new Object[capacity];
+            Object[] values = new Object[capacity];
+            int[] table = new int[Integer.highestOneBit(capacity) << 2];
+            int size = 0;
+            for (int i = from; i < to; i += 2) {
+                Object key = entries[i];
+                int slot = slot(table, keys, key);
+                if (table[slot] == 0) {
+                    keys[size] = key;
+                    table[slot] = ++size;
+                }
+                values[table[slot] - 1] = entries[i + 1];
+            }
+            this.keys = size == capacity ? keys : copyOf(keys, size);
+            this.values = size == capacity ? values : copyOf(values, size);
+            this.table = table;
+        }
+
+        @Override
+        public Object get(Object key) {
+            int index = table[slot(table, keys, key)];
+            return index == 0 ? null : values[index - 1];
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return table[slot(table, keys, key)] != 0;
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public Set<Entry<Object, Object>> entrySet() {
+            Set<Entry<Object, Object>> result = entrySet;
+            if (result == null) {
+                result = new AbstractSet<Entry<Object, Object>>() {
+                    @Override
+                    public Iterator<Entry<Object, Object>> iterator() {
+                        return new Iterator<Entry<Object, Object>>() {
+                            private int index;
+
+                            @Override
+                            public boolean hasNext() {
+                                return index < keys.length;
+                            }
+
+                            @Override
+                            public Entry<Object, Object> next() {
+                                if (index >= keys.length) {
+                                    throw new NoSuchElementException();
+                                }
+                                Entry<Object, Object> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+                                index++;
+                                return entry;
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return keys.length;
+                    }
+                };
+                entrySet = result;
+            }
+            return result;
+        }
+
+        /**
+         * Finds the slot of {@code key} or the empty slot where it should be placed (linear probing).
+         */
+        private static int slot(int[] table, Object[] keys, Object key) {
+            int mask = table.length - 1;
+            int slot = hash(key) & mask;
+            while (table[slot] != 0 && !Objects.equals(keys[table[slot] - 1], key)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private static int hash(Object key) {
+            int h = key == null ? 0 : key.hashCode();
+            return h ^ (h >>> 16);
+        }
+    }
+}
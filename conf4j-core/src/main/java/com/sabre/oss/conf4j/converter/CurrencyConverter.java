@@ -41,6 +41,14 @@ public class CurrencyConverter implements TypeConverter<Currency> {
         return type instanceof Class<?> && Currency.class.isAssignableFrom((Class<?>) type);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return true;
+    }
+
     @Override
     public Currency fromString(Type type, String value, Map<String, String> attributes) {
         requireNonNull(type, "type cannot be null");
@@ -27,12 +27,14 @@ package com.sabre.oss.conf4j.converter;
 import java.lang.reflect.Type;
 import java.util.Map;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * This class converts {@link Double} to/from string.
  * <p>
  * It supports {@value #FORMAT} and {@value #LOCALE} meta-attributes, for more details see {@link AbstractNumberConverter}.
  */
-public class DoubleConverter extends AbstractNumberConverter<Double> {
+public class DoubleConverter extends AbstractNumberConverter<Double> implements DoubleTypeConverter {
     /**
      * {@inheritDoc}
      */
@@ -51,4 +53,24 @@ public class DoubleConverter extends AbstractNumberConverter<Double> {
         return value.doubleValue();
     }
 
+    /**
+     * Converts String to {@code double} without boxing the value when {@value #FORMAT} meta-attribute
+     * is not provided.
+     *
+     * @see #fromString(Type, String, Map)
+     */
+    @Override
+    public double fromStringToDouble(Type type, String value, Map<String, String> attributes) {
+        requireNonNull(type, "type cannot be null");
+        requireNonNull(value, "value cannot be null");
+
+        if (hasFormat(attributes)) {
+            return fromString(type, value, attributes);
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw conversionException(type, value, e);
+        }
+    }
 }
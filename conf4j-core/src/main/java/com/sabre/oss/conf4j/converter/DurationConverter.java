@@ -64,6 +64,14 @@ public class DurationConverter implements TypeConverter<Duration> {
         return type instanceof Class<?> && Duration.class.isAssignableFrom((Class<?>) type);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return true;
+    }
+
     /**
      * Converts String to {@link Duration}.
      *
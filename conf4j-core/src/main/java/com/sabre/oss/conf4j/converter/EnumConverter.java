@@ -46,6 +46,14 @@ public class EnumConverter implements TypeConverter<Enum<?>> {
         return type instanceof Class<?> && Enum.class.isAssignableFrom((Class<?>) type);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return true;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public Enum<?> fromString(Type type, String value, Map<String, String> attributes) {
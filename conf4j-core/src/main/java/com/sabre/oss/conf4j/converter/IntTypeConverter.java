@@ -0,0 +1,48 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.converter;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Specialization of {@link TypeConverter} which is able to convert string directly to {@code int} without
+ * boxing the value to {@link Integer}.
+ * <p>
+ * The conversion must be consistent with {@link TypeConverter#fromString(Type, String, Map)}.
+ */
+public interface IntTypeConverter {
+    /**
+     * Converts String to {@code int}.
+     *
+     * @param type       actual type definition.
+     * @param value      string representation of the value which is converted to {@code int}.
+     * @param attributes additional meta-data attributes which may be used by converter. It can be {@code null}.
+     * @return value converted to {@code int}.
+     * @throws IllegalArgumentException when {@code value} cannot be converted to {@code int}.
+     * @throws NullPointerException     when {@code type} or {@code value} is {@code null}.
+     */
+    int fromStringToInt(Type type, String value, Map<String, String> attributes);
+}
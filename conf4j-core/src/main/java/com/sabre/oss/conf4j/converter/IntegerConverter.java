@@ -27,12 +27,14 @@ package com.sabre.oss.conf4j.converter;
 import java.lang.reflect.Type;
 import java.util.Map;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * This class converts {@link Integer} to/from string.
  * <p>
  * It supports {@value #FORMAT} and {@value #LOCALE} meta-attributes, for more details see {@link AbstractNumberConverter}.
  */
-public class IntegerConverter extends AbstractNumberConverter<Integer> {
+public class IntegerConverter extends AbstractNumberConverter<Integer> implements IntTypeConverter {
 
     /**
      * {@inheritDoc}
@@ -55,4 +57,25 @@ public class IntegerConverter extends AbstractNumberConverter<Integer> {
         }
         return value.intValue();
     }
+
+    /**
+     * Converts String to {@code int} without boxing the value when {@value #FORMAT} meta-attribute
+     * is not provided.
+     *
+     * @see #fromString(Type, String, Map)
+     */
+    @Override
+    public int fromStringToInt(Type type, String value, Map<String, String> attributes) {
+        requireNonNull(type, "type cannot be null");
+        requireNonNull(value, "value cannot be null");
+
+        if (hasFormat(attributes)) {
+            return fromString(type, value, attributes);
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw conversionException(type, value, e);
+        }
+    }
 }
@@ -24,7 +24,6 @@
 
 package com.sabre.oss.conf4j.converter;
 
-import javax.swing.text.Segment;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.lang.reflect.ParameterizedType;
@@ -33,9 +32,10 @@ import java.util.*;
 import java.util.Map.Entry;
 
 import static com.sabre.oss.conf4j.converter.JsonLikeEscapeUtils.*;
+import static com.sabre.oss.conf4j.converter.TypeConverterUtils.ESCAPE_CHAR;
 import static com.sabre.oss.conf4j.converter.TypeConverterUtils.NOT_FOUND;
-import static com.sabre.oss.conf4j.converter.TypeConverterUtils.notEscapedIndexOf;
 import static java.lang.String.format;
+import static java.util.Collections.unmodifiableSortedMap;
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.text.StringEscapeUtils.ESCAPE_JSON;
 import static org.apache.commons.text.StringEscapeUtils.UNESCAPE_JAVA;
@@ -79,6 +79,10 @@ import static org.apache.commons.text.StringEscapeUtils.UNESCAPE_JAVA;
  * <li>{@value COMPACT} - compact format is used.</li>
  * <li>{@value JSON} - JSON-like format is used.</li>
  * </ul>
+ * <p>
+ * By default, converted lists and maps are mutable and created by {@link #createList(ParameterizedType)}
+ * and {@link #createMap(ParameterizedType)}. When the converter is created with {@code immutableCollections} enabled,
+ * compact immutable collections are returned instead, which can be safely cached and shared.
  */
 public class JsonLikeConverter implements TypeConverter<Object> {
     public static final String FORMAT = "format";
@@ -107,14 +111,43 @@ public class JsonLikeConverter implements TypeConverter<Object> {
      */
     private final boolean defaultCompactMode;
 
+    /**
+     * When {@code true}, lists and maps are created as compact immutable collections: exact-size arrays,
+     * shared empty and singleton instances and open-addressing maps. {@link #createList(ParameterizedType)}
+     * and {@link #createMap(ParameterizedType)} are not used in this case.
+     */
+    private final boolean immutableCollections;
+
     public JsonLikeConverter(TypeConverter<?> innerTypeConverter) {
         this(innerTypeConverter, true);
     }
 
-    @SuppressWarnings("unchecked")
     public JsonLikeConverter(TypeConverter<?> innerTypeConverter, boolean compactMode) {
+        this(innerTypeConverter, compactMode, false);
+    }
+
+    /**
+     * Creates converter.
+     *
+     * @param innerTypeConverter   type converter used for list items, map keys and map values.
+     * @param compactMode          when {@code true}, compact format is used by default.
+     * @param immutableCollections when {@code true}, converted lists and maps are compact and immutable,
+     *                             so they can be safely cached and shared.
+     */
+    @SuppressWarnings("unchecked")
+    public JsonLikeConverter(TypeConverter<?> innerTypeConverter, boolean compactMode, boolean immutableCollections) {
         this.innerTypeConverter = (TypeConverter<Object>) requireNonNull(innerTypeConverter, "innerTypeConverter must not be null");
         this.defaultCompactMode = compactMode;
+        this.immutableCollections = immutableCollections;
+    }
+
+    /**
+     * Indicates whether converted lists and maps are immutable.
+     *
+     * @return {@code true} when the converter was created with {@code immutableCollections} enabled.
+     */
+    public boolean isImmutableCollections() {
+        return immutableCollections;
     }
 
     @Override
@@ -140,6 +173,14 @@ public class JsonLikeConverter implements TypeConverter<Object> {
         return false;
     }
 
+    /**
+     * The converter is attribute independent when the inner converter is.
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return innerTypeConverter.isAttributeIndependent();
+    }
+
     @Override
     public Object fromString(Type type, String value, Map<String, String> attributes) {
         requireNonNull(type, "type cannot be null");
@@ -147,13 +188,7 @@ public class JsonLikeConverter implements TypeConverter<Object> {
         if (value == null) {
             return null;
         }
-        ObjectBuilder builder = new ObjectBuilder();
-        char[] array = value.toCharArray();
-        CharSequence charSequence = new Segment(array, 0, array.length);
-        if (consumeItem(type, charSequence, 0, builder, isCompactMode(attributes)) != value.length()) {
-            throw new IllegalArgumentException(MSG_UNEXPECTED_EXTRA_DATA);
-        }
-        return builder.build();
+        return new Parser(value, isCompactMode(attributes)).parse(type);
     }
 
     @SuppressWarnings("unchecked")
@@ -182,188 +217,304 @@ public class JsonLikeConverter implements TypeConverter<Object> {
     }
 
     protected Map<Object, Object> createMap(ParameterizedType type) {
-        return type.getRawType() instanceof Class && SortedMap.class.isAssignableFrom((Class<?>) type.getRawType())
+        return isSortedMap(type)
                 ? new TreeMap<>()
                 : new LinkedHashMap<>();
     }
 
-    private int listFromString(ParameterizedType type, CharSequence value, ObjectBuilder builder, boolean compact) {
-        try {
-            return doListFromString(type, value, builder, compact);
-        } catch (StringIndexOutOfBoundsException e) {
-            throw new IllegalArgumentException(format(MSG_UNEXPECTED_END_OF_DATA, value), e);
+    private static boolean isSortedMap(ParameterizedType type) {
+        return type.getRawType() instanceof Class && SortedMap.class.isAssignableFrom((Class<?>) type.getRawType());
+    }
+
+    private static int nullLength(CharSequence value, int current, boolean compact) {
+        String literal = compact ? COMPACT_JSON_NULL : JSON_NULL;
+        int end = current + literal.length();
+        if (end > value.length() || (end < value.length() && !isDelimiter(value.charAt(end)))) {
+            return 0;
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (value.charAt(current + i) != literal.charAt(i)) {
+                return 0;
+            }
         }
+        return literal.length();
     }
 
-    private int doListFromString(ParameterizedType type, CharSequence value, ObjectBuilder builder, boolean compact) {
-        Type itemType = type.getActualTypeArguments()[0];
+    private static boolean isDelimiter(char character) {
+        return character == COMMA || character == COLON || character == RIGHT_CURLY_BRACE || character == RIGHT_SQUARE_BRACKET;
+    }
+
+    /**
+     * Single-pass parser which moves a cursor over the original string. Items are sliced directly from the string
+     * and unescaped only when they contain escape characters. Items of lists and maps are collected on a stack
+     * shared by all nesting levels, so lists can be created with exact capacity.
+     */
+    private final class Parser {
+        private final String value;
+        private final int length;
+        private final boolean compact;
+        private int position;
+        private boolean escaped;
+        private Object[] stack = new Object[16];
+        private int stackSize;
+
+        Parser(String value, boolean compact) {
+            this.value = value;
+            this.length = value.length();
+            this.compact = compact;
+        }
 
-        int current = 0;
-        if (value.charAt(current++) != LEFT_SQUARE_BRACKET) {
-            int consumed = consumeNull(value, --current, builder, compact);
-            if (consumed > 0) {
-                return consumed;
+        Object parse(Type type) {
+            Object result = parseItem(type);
+            if (position != length) {
+                throw new IllegalArgumentException(MSG_UNEXPECTED_EXTRA_DATA);
             }
-            throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND,
-                    "'['", value.charAt(current), current, value));
-        }
-        builder.beginList(createList(type));
-        while (current < value.length()) {
-            if (value.charAt(current) == RIGHT_SQUARE_BRACKET) {
-                builder.endList();
-                return current + 1;
+            return result;
+        }
+
+        private Object parseItem(Type type) {
+            if (type instanceof ParameterizedType) {
+                ParameterizedType parameterizedType = (ParameterizedType) type;
+                if (List.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())) {
+                    return parseList(parameterizedType);
+                } else if (Map.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())) {
+                    return parseMap(parameterizedType);
+                }
             }
+            return compact ? parseCompactValue(type) : parseJsonValue(type);
+        }
 
-            // Consume list item
-            current += consumeItem(itemType, value, current, builder, compact);
+        private List<Object> parseList(ParameterizedType type) {
+            Type itemType = type.getActualTypeArguments()[0];
 
-            // Expected ',' or ']'
-            if (value.charAt(current) != COMMA && value.charAt(current) != RIGHT_SQUARE_BRACKET) {
+            if (charAt(position) != LEFT_SQUARE_BRACKET) {
+                if (consumeNull()) {
+                    return null;
+                }
                 throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND,
-                        "':' or ']'", value.charAt(current), current, value));
+                        "'['", value.charAt(position), position, value));
             }
-            if (value.charAt(current) == COMMA) {
-                current++;
-                if (value.charAt(current) == RIGHT_SQUARE_BRACKET) {
-                    // support for proper ,] sequence in compact mode
-                    current += consumeItem(itemType, value, current, builder, compact);
+            position++;
+
+            int mark = stackSize;
+            while (position < length) {
+                if (value.charAt(position) == RIGHT_SQUARE_BRACKET) {
+                    position++;
+                    return popList(type, mark);
+                }
+
+                // Consume list item
+                push(parseItem(itemType));
+
+                // Expected ',' or ']'
+                char current = charAt(position);
+                if (current != COMMA && current != RIGHT_SQUARE_BRACKET) {
+                    throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND,
+                            "',' or ']'", current, position, value));
+                }
+                if (current == COMMA) {
+                    position++;
+                    if (charAt(position) == RIGHT_SQUARE_BRACKET) {
+                        // support for proper ,] sequence in compact mode
+                        push(parseItem(itemType));
+                    }
                 }
             }
+            throw new IllegalArgumentException(format(MSG_CONSUMED_ALL_BUT_NOT_FOUND, "']'", value));
         }
-        throw new IllegalArgumentException(format(MSG_CONSUMED_ALL_BUT_NOT_FOUND, "']'", value));
-    }
 
-    private int mapFromString(ParameterizedType type, CharSequence value, ObjectBuilder builder, boolean compact) {
-        try {
-            return doMapFromString(type, value, builder, compact);
-        } catch (StringIndexOutOfBoundsException e) {
-            throw new IllegalArgumentException(format(MSG_UNEXPECTED_END_OF_DATA, value), e);
-        }
-    }
+        private Map<Object, Object> parseMap(ParameterizedType type) {
+            Type keyType = type.getActualTypeArguments()[0];
+            Type valueType = type.getActualTypeArguments()[1];
 
-    private int doMapFromString(ParameterizedType type, CharSequence value, ObjectBuilder builder, boolean compact) {
-        Type keyType = type.getActualTypeArguments()[0];
-        Type valueType = type.getActualTypeArguments()[1];
+            if (charAt(position) != LEFT_CURLY_BRACE) {
+                if (consumeNull()) {
+                    return null;
+                }
+                throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND,
+                        "'{'", value.charAt(position), position, value));
+            }
+            position++;
+
+            int mark = stackSize;
+            while (position < length) {
+                if (value.charAt(position) == RIGHT_CURLY_BRACE) {
+                    position++;
+                    return popMap(type, mark);
+                }
+
+                // Consume key
+                push(parseItem(keyType));
 
-        int current = 0;
-        if (value.charAt(current++) != LEFT_CURLY_BRACE) {
-            int consumed = consumeNull(value, --current, builder, compact);
-            if (consumed > 0) {
-                return consumed;
+                // Consume ':'
+                if (charAt(position) != COLON) {
+                    throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND,
+                            "':'", value.charAt(position), position, value));
+                }
+                position++;
+
+                // Consume value
+                push(parseItem(valueType));
+
+                // Expected ',' or '}' but not both - checked below.
+                char current = charAt(position);
+                if (current != COMMA && current != RIGHT_CURLY_BRACE) {
+                    throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND,
+                            "',' or '}'", current, position, value));
+                }
+                if (current == COMMA) {
+                    position++;
+                    if (charAt(position) == RIGHT_CURLY_BRACE) {
+                        throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND,
+                                "object key", RIGHT_CURLY_BRACE, position, value));
+                    }
+                }
             }
-            throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND,
-                    "'{'", value.charAt(current), current, value));
+            throw new IllegalArgumentException(format(MSG_CONSUMED_ALL_BUT_NOT_FOUND, "'}'", value));
         }
 
-        builder.beginMap(createMap(type));
-        while (current < value.length()) {
-            if (value.charAt(current) == RIGHT_CURLY_BRACE) {
-                builder.endMap();
-                return current + 1;
+        private Object parseCompactValue(Type type) {
+            int start = position;
+            int end = findCompactValueEnd(start);
+            if (end == NOT_FOUND) {
+                throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND_STARTING,
+                        "',', ':', '}' or ']'", start, value));
             }
-            // Consume Key
-            ObjectBuilder keyBuilder = new ObjectBuilder();
-            current += consumeItem(keyType, value, current, keyBuilder, compact);
-            builder.addKey(keyBuilder.build());
+            position = end;
 
-            // Consume ':'
-            if (value.charAt(current++) != COLON) {
-                throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND,
-                        "':'", value.charAt(--current), current, value));
+            if (isLiteral(COMPACT_JSON_NULL, start, end)) {
+                return null;
             }
+            String item = isLiteral(COMPACT_JSON_EMPTY, start, end)
+                    ? EMPTY_STRING
+                    : slice(start, end, COMPACT_JSON_ESCAPER);
+            return innerTypeConverter.fromString(type, item, null);
+        }
 
-            // Consume Value
-            current += consumeItem(valueType, value, current, builder, compact);
-
-            // Expected ',' or '}' but not both - checked below.
-            if (value.charAt(current) != COMMA && value.charAt(current) != RIGHT_CURLY_BRACE) {
+        private Object parseJsonValue(Type type) {
+            if (charAt(position) != DOUBLE_QUOTE) {
+                if (consumeNull()) {
+                    return null;
+                }
                 throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND,
-                        "',' or '}'", value.charAt(current), current, value));
+                        "opening '\"'", value.charAt(position), position, value));
             }
-            if (value.charAt(current) == COMMA) {
-                current++;
-                if (value.charAt(current) == RIGHT_CURLY_BRACE) {
-                    throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND,
-                            "object key", '}', current, value));
-                }
+            int start = position + 1;
+            int end = findJsonValueEnd(start);
+            if (end == NOT_FOUND) {
+                throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND_STARTING,
+                        "closing '\"'", position, value));
             }
+            position = end + 1;
+
+            return innerTypeConverter.fromString(type, slice(start, end, JSON_ESCAPER), null);
         }
-        throw new IllegalArgumentException(format(MSG_CONSUMED_ALL_BUT_NOT_FOUND, "'}'", value));
-    }
 
-    private int consumeItem(Type type, CharSequence value, int current, ObjectBuilder builder, boolean compact) {
-        if (type instanceof ParameterizedType) {
-            ParameterizedType parameterizedType = (ParameterizedType) type;
-            if (List.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())) {
-                return listFromString(parameterizedType, value.subSequence(current, value.length()), builder, compact);
-            } else if (Map.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())) {
-                return mapFromString(parameterizedType, value.subSequence(current, value.length()), builder, compact);
+        private int findCompactValueEnd(int start) {
+            escaped = false;
+            int i = start;
+            while (i < length) {
+                char current = value.charAt(i);
+                if (current == ESCAPE_CHAR) {
+                    // skip the escaped character
+                    escaped = true;
+                    i += 2;
+                } else if (isDelimiter(current)) {
+                    return i;
+                } else {
+                    i++;
+                }
             }
+            return NOT_FOUND;
         }
 
-        // Process item as a string value
-        if (compact) {
-            int found = notEscapedIndexOf(value, current, COMMA, COLON, RIGHT_CURLY_BRACE, RIGHT_SQUARE_BRACKET);
-            if (found == NOT_FOUND) {
-                throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND_STARTING,
-                        "',', ':', '}' or ']'", current, value));
+        private int findJsonValueEnd(int start) {
+            escaped = false;
+            int i = start;
+            while (i < length) {
+                char current = value.charAt(i);
+                if (current == ESCAPE_CHAR) {
+                    // skip the escaped character
+                    escaped = true;
+                    i += 2;
+                } else if (current == DOUBLE_QUOTE) {
+                    return i;
+                } else {
+                    i++;
+                }
             }
-            CharSequence foundString = value.subSequence(current, found);
-            // we do not use consumeNull() here because  we already have all needed data and this part of code
-            // is executed very frequently (in compact-mode)
-            boolean nullFound = value.charAt(current) == COMPACT_JSON_NULL.charAt(0)
-                    && found == COMPACT_JSON_NULL.length() + current
-                    && COMPACT_JSON_NULL.equals(foundString.toString());
-            boolean emptyFound = !nullFound && value.charAt(current) == COMPACT_JSON_EMPTY.charAt(0)
-                    && found == COMPACT_JSON_EMPTY.length() + current
-                    && COMPACT_JSON_EMPTY.equals(foundString.toString());
-            builder.addValue(nullFound
-                    ? null
-                    : innerTypeConverter.fromString(type, COMPACT_JSON_ESCAPER.unescape(emptyFound ? EMPTY_STRING : foundString), null));
-            return found - current;
-        }
-
-        if (value.charAt(current) != DOUBLE_QUOTE) {
-            int consumed = consumeNull(value, current, builder, compact);
-            if (consumed > 0) {
-                return consumed;
+            return NOT_FOUND;
+        }
+
+        private String slice(int start, int end, StringEscaper escaper) {
+            // all escape sequences start with the escape character, so items without it are returned as they are
+            return escaped
+                    ? escaper.unescape(value.subSequence(start, end))
+                    : value.substring(start, end);
+        }
+
+        private boolean isLiteral(String literal, int start, int end) {
+            return end - start == literal.length() && value.startsWith(literal, start);
+        }
+
+        private boolean consumeNull() {
+            int consumed = nullLength(value, position, compact);
+            position += consumed;
+            return consumed > 0;
+        }
+
+        private char charAt(int index) {
+            if (index >= length) {
+                throw new IllegalArgumentException(format(MSG_UNEXPECTED_END_OF_DATA, value));
             }
-            throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND,
-                    "opening '\"'", value.charAt(current), current, value));
+            return value.charAt(index);
         }
-        int found = notEscapedIndexOf(value, current + 1, DOUBLE_QUOTE);
-        if (found == NOT_FOUND) {
-            throw new IllegalArgumentException(format(MSG_EXPECTED_BUT_NOT_FOUND_STARTING,
-                    "closing '\"'", current, value));
+
+        private void push(Object item) {
+            if (stackSize == stack.length) {
+                stack = Arrays.copyOf(stack, stackSize * 2);
+            }
+            stack[stackSize++] = item;
         }
-        CharSequence foundString = value.subSequence(current + 1, found);
-        builder.addValue(innerTypeConverter.fromString(type, JSON_ESCAPER.unescape(foundString), null));
-        return found - current + 1;
-    }
 
-    int consumeNull(CharSequence value, int current, ObjectBuilder builder, boolean compact) {
-        int found = value.length();
-        boolean consume = false;
-        if (compact) {
-            if (value.charAt(current) == COMPACT_JSON_NULL.charAt(0)) {
-                if (found != COMPACT_JSON_NULL.length() + current) {
-                    found = notEscapedIndexOf(value, current, COMMA, COLON, RIGHT_CURLY_BRACE, RIGHT_SQUARE_BRACKET);
+        private List<Object> popList(ParameterizedType type, int mark) {
+            List<Object> list;
+            if (immutableCollections) {
+                list = CompactCollections.list(stack, mark, stackSize);
+            } else {
+                list = createList(type);
+                if (list instanceof ArrayList) {
+                    ((ArrayList<Object>) list).ensureCapacity(stackSize - mark);
+                }
+                for (int i = mark; i < stackSize; i++) {
+                    list.add(stack[i]);
                 }
-                consume = found == COMPACT_JSON_NULL.length() + current && COMPACT_JSON_NULL.equals(value.subSequence(current, found).toString());
             }
-        } else {
-            if (value.charAt(current) == JSON_NULL.charAt(0)) {
-                if (found != JSON_NULL.length() + current) {
-                    found = notEscapedIndexOf(value, current, COMMA, COLON, RIGHT_CURLY_BRACE, RIGHT_SQUARE_BRACKET);
+            pop(mark);
+            return list;
+        }
+
+        private Map<Object, Object> popMap(ParameterizedType type, int mark) {
+            Map<Object, Object> map;
+            if (immutableCollections && !isSortedMap(type)) {
+                map = CompactCollections.map(stack, mark, stackSize);
+            } else {
+                map = immutableCollections ? new TreeMap<>() : createMap(type);
+                for (int i = mark; i < stackSize; i += 2) {
+                    map.put(stack[i], stack[i + 1]);
+                }
+                if (immutableCollections) {
+                    map = unmodifiableSortedMap((SortedMap<Object, Object>) map);
                 }
-                consume = found == JSON_NULL.length() + current && JSON_NULL.equals(value.subSequence(current, found).toString());
             }
+            pop(mark);
+            return map;
         }
-        if (consume) {
-            builder.addValue(null);
-            return found - current;
+
+        private void pop(int mark) {
+            Arrays.fill(stack, mark, stackSize, null);
+            stackSize = mark;
         }
-        return 0;
     }
 
     private Appendable listToString(ParameterizedType type, List<Object> value, Appendable out, boolean compact) throws IOException {
@@ -27,12 +27,14 @@ package com.sabre.oss.conf4j.converter;
 import java.lang.reflect.Type;
 import java.util.Map;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * This class converts {@link Long} to/from string.
  * <p>
  * It supports {@value #FORMAT} and {@value #LOCALE} meta-attributes, for more details see {@link AbstractNumberConverter}.
  */
-public class LongConverter extends AbstractNumberConverter<Long> {
+public class LongConverter extends AbstractNumberConverter<Long> implements LongTypeConverter {
     /**
      * {@inheritDoc}
      */
@@ -50,4 +52,25 @@ public class LongConverter extends AbstractNumberConverter<Long> {
     protected Long convertResult(Number value) {
         return value.longValue();
     }
+
+    /**
+     * Converts String to {@code long} without boxing the value when {@value #FORMAT} meta-attribute
+     * is not provided.
+     *
+     * @see #fromString(Type, String, Map)
+     */
+    @Override
+    public long fromStringToLong(Type type, String value, Map<String, String> attributes) {
+        requireNonNull(type, "type cannot be null");
+        requireNonNull(value, "value cannot be null");
+
+        if (hasFormat(attributes)) {
+            return fromString(type, value, attributes);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw conversionException(type, value, e);
+        }
+    }
 }
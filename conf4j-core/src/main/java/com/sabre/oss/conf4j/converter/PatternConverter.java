@@ -44,6 +44,14 @@ public class PatternConverter implements TypeConverter<Pattern> {
         return type instanceof Class<?> && Pattern.class.isAssignableFrom((Class<?>) type);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return true;
+    }
+
     @Override
     public Pattern fromString(Type type, String value, Map<String, String> attributes) {
         requireNonNull(type, "type cannot be null");
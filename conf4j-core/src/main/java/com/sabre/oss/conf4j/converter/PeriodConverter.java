@@ -44,6 +44,14 @@ public class PeriodConverter implements TypeConverter<Period> {
         return type instanceof Class<?> && Period.class.isAssignableFrom((Class<?>) type);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return true;
+    }
+
     @Override
     public Period fromString(Type type, String value, Map<String, String> attributes) {
         requireNonNull(type, "type cannot be null");
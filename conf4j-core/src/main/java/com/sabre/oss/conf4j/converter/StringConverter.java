@@ -76,6 +76,14 @@ public class StringConverter implements TypeConverter<String> {
         return type instanceof Class<?> && String.class.isAssignableFrom((Class<?>) type);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return true;
+    }
+
     @Override
     public String fromString(Type type, String value, Map<String, String> attributes) {
         requireNonNull(type, "type cannot be null");
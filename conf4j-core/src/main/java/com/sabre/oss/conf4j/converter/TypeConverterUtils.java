@@ -31,7 +31,7 @@ import static java.lang.Math.max;
 final class TypeConverterUtils {
     static final int NOT_FOUND = -1;
 
-    private static final char ESCAPE_CHAR = '\\';
+    static final char ESCAPE_CHAR = '\\';
 
     private TypeConverterUtils() {
     }
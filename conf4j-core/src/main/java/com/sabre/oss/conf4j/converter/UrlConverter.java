@@ -44,6 +44,14 @@ public class UrlConverter implements TypeConverter<URL> {
         return type instanceof Class<?> && URL.class.isAssignableFrom((Class<?>) type);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return true;
+    }
+
     @Override
     public URL fromString(Type type, String value, Map<String, String> attributes) {
         requireNonNull(type, "type cannot be null");
@@ -26,6 +26,12 @@ package com.sabre.oss.conf4j.factory;
 
 import com.sabre.oss.conf4j.source.ConfigurationSource;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+
 /**
  * This class creates a configuration instance and binds it to the value source.
  * <p>
@@ -53,4 +59,29 @@ public interface ConfigurationFactory {
      * @return configuration instance
      */
     <T> T createConfiguration(Class<T> configurationType, ConfigurationSource configurationSource, ClassLoader classLoader);
+
+    /**
+     * Eagerly prepares configuration types, so the first {@link #createConfiguration(Class, ConfigurationSource)}
+     * invocation doesn't pay for building the configuration model and generating the implementation class.
+     * Classes are loaded using class provided by {@code Thread.currentThread().getContextClassLoader()}.
+     *
+     * @param configurationTypes configuration types.
+     * @return time spent on preparing each of the configuration types and their sub-configuration types.
+     */
+    default Map<Class<?>, Duration> preload(Collection<Class<?>> configurationTypes) {
+        return preload(configurationTypes, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Eagerly prepares configuration types, so the first {@link #createConfiguration(Class, ConfigurationSource, ClassLoader)}
+     * invocation doesn't pay for building the configuration model and generating the implementation class.
+     * Default implementation does nothing.
+     *
+     * @param configurationTypes configuration types.
+     * @param classLoader        class loader, when {@code null} {@code Thread.currentThread().getContextClassLoader()} is used.
+     * @return time spent on preparing each of the configuration types and their sub-configuration types.
+     */
+    default Map<Class<?>, Duration> preload(Collection<Class<?>> configurationTypes, ClassLoader classLoader) {
+        return emptyMap();
+    }
 }
@@ -26,7 +26,6 @@ package com.sabre.oss.conf4j.factory.jdkproxy;
 
 import com.sabre.oss.conf4j.converter.TypeConverter;
 import com.sabre.oss.conf4j.factory.ConfigurationFactory;
-import com.sabre.oss.conf4j.internal.config.DefaultConfigurationValueProvider;
 import com.sabre.oss.conf4j.internal.factory.jdkproxy.AbstractJdkProxyConfigurationFactory;
 import com.sabre.oss.conf4j.internal.factory.jdkproxy.JdkProxyDynamicConfigurationInitializer;
 import com.sabre.oss.conf4j.internal.factory.jdkproxy.JdkProxyDynamicConfigurationInstanceCreator;
@@ -69,7 +68,7 @@ public class JdkProxyDynamicConfigurationFactory extends AbstractJdkProxyConfigu
                 null,
                 emptyMap(),
                 configurationModel.getAttributes(),
-                new DefaultConfigurationValueProvider(configurationValueProcessors)
+                createConfigurationValueProvider()
         ).initializeConfiguration();
     }
 }
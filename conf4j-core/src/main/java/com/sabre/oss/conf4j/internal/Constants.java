@@ -29,6 +29,7 @@ public final class Constants {
     public static final String COLLECTION_SIZE_SUFFIX = "$Size";
     public static final String LIST_SUFFIX = "$List";
     public static final String METADATA_SUFFIX = "$Meta";
+    public static final String CONFIGURATION_INDEX_LOCATION = "META-INF/conf4j.index";
 
     private Constants() {
     }
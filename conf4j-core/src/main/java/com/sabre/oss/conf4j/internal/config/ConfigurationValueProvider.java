@@ -24,10 +24,95 @@
 
 package com.sabre.oss.conf4j.internal.config;
 
+import com.sabre.oss.conf4j.converter.BooleanTypeConverter;
+import com.sabre.oss.conf4j.converter.DoubleTypeConverter;
+import com.sabre.oss.conf4j.converter.IntTypeConverter;
+import com.sabre.oss.conf4j.converter.LongTypeConverter;
 import com.sabre.oss.conf4j.converter.TypeConverter;
 import com.sabre.oss.conf4j.source.ConfigurationSource;
 import com.sabre.oss.conf4j.source.OptionalValue;
 
 public interface ConfigurationValueProvider {
     <T> OptionalValue<T> getConfigurationValue(TypeConverter<T> typeConverter, ConfigurationSource configurationSource, PropertyMetadata metadata);
+
+    /**
+     * Provides {@link PropertyAccessor} for the property described by {@code metadata}. The accessor is created
+     * once and it is attached to the metadata; it is reused as long as it is requested for the same type converter.
+     *
+     * @param typeConverter type converter.
+     * @param metadata      property metadata.
+     * @return property accessor bound to this provider, {@code typeConverter} and {@code metadata}.
+     */
+    PropertyAccessor getPropertyAccessor(TypeConverter<?> typeConverter, PropertyMetadata metadata);
+
+    /**
+     * Provides the canonical instance of the property metadata used with {@code typeConverter}. Configuration instances
+     * which describe their properties with equal metadata (e.g. many instances of the same configuration type) can share
+     * it instead of keeping their own copies.
+     * <p>
+     * The default implementation doesn't share metadata.
+     *
+     * @param typeConverter type converter.
+     * @param metadata      property metadata.
+     * @return metadata equal to {@code metadata}.
+     */
+    default PropertyMetadata getCanonicalPropertyMetadata(TypeConverter<?> typeConverter, PropertyMetadata metadata) {
+        return metadata;
+    }
+
+    /**
+     * Primitive specialization of {@link #getConfigurationValue(TypeConverter, ConfigurationSource, PropertyMetadata)}
+     * for {@code int} properties. The value is not boxed when the type converter implements {@link IntTypeConverter}.
+     *
+     * @param typeConverter       type converter.
+     * @param configurationSource configuration source.
+     * @param metadata            property metadata.
+     * @param valueIfAbsent       value returned when the property value is not available.
+     * @return property value or {@code valueIfAbsent} when it is not available.
+     */
+    default int getIntConfigurationValue(TypeConverter<?> typeConverter, ConfigurationSource configurationSource, PropertyMetadata metadata, int valueIfAbsent) {
+        return getPropertyAccessor(typeConverter, metadata).getIntValue(configurationSource, valueIfAbsent);
+    }
+
+    /**
+     * Primitive specialization of {@link #getConfigurationValue(TypeConverter, ConfigurationSource, PropertyMetadata)}
+     * for {@code long} properties. The value is not boxed when the type converter implements {@link LongTypeConverter}.
+     *
+     * @param typeConverter       type converter.
+     * @param configurationSource configuration source.
+     * @param metadata            property metadata.
+     * @param valueIfAbsent       value returned when the property value is not available.
+     * @return property value or {@code valueIfAbsent} when it is not available.
+     */
+    default long getLongConfigurationValue(TypeConverter<?> typeConverter, ConfigurationSource configurationSource, PropertyMetadata metadata, long valueIfAbsent) {
+        return getPropertyAccessor(typeConverter, metadata).getLongValue(configurationSource, valueIfAbsent);
+    }
+
+    /**
+     * Primitive specialization of {@link #getConfigurationValue(TypeConverter, ConfigurationSource, PropertyMetadata)}
+     * for {@code double} properties. The value is not boxed when the type converter implements {@link DoubleTypeConverter}.
+     *
+     * @param typeConverter       type converter.
+     * @param configurationSource configuration source.
+     * @param metadata            property metadata.
+     * @param valueIfAbsent       value returned when the property value is not available.
+     * @return property value or {@code valueIfAbsent} when it is not available.
+     */
+    default double getDoubleConfigurationValue(TypeConverter<?> typeConverter, ConfigurationSource configurationSource, PropertyMetadata metadata, double valueIfAbsent) {
+        return getPropertyAccessor(typeConverter, metadata).getDoubleValue(configurationSource, valueIfAbsent);
+    }
+
+    /**
+     * Primitive specialization of {@link #getConfigurationValue(TypeConverter, ConfigurationSource, PropertyMetadata)}
+     * for {@code boolean} properties. The value is not boxed when the type converter implements {@link BooleanTypeConverter}.
+     *
+     * @param typeConverter       type converter.
+     * @param configurationSource configuration source.
+     * @param metadata            property metadata.
+     * @param valueIfAbsent       value returned when the property value is not available.
+     * @return property value or {@code valueIfAbsent} when it is not available.
+     */
+    default boolean getBooleanConfigurationValue(TypeConverter<?> typeConverter, ConfigurationSource configurationSource, PropertyMetadata metadata, boolean valueIfAbsent) {
+        return getPropertyAccessor(typeConverter, metadata).getBooleanValue(configurationSource, valueIfAbsent);
+    }
 }
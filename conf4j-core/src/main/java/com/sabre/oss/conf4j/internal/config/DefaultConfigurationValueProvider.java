@@ -24,74 +24,94 @@
 
 package com.sabre.oss.conf4j.internal.config;
 
+import com.sabre.oss.conf4j.converter.IntTypeConverter;
 import com.sabre.oss.conf4j.converter.TypeConverter;
-import com.sabre.oss.conf4j.processor.ConfigurationValue;
+import com.sabre.oss.conf4j.internal.utils.spring.ConcurrentReferenceHashMap;
 import com.sabre.oss.conf4j.processor.ConfigurationValueProcessor;
-import com.sabre.oss.conf4j.source.ConfigurationEntry;
 import com.sabre.oss.conf4j.source.ConfigurationSource;
 import com.sabre.oss.conf4j.source.OptionalValue;
+import com.sabre.oss.conf4j.source.VersionedConfigurationSource;
 
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
-import static com.sabre.oss.conf4j.source.OptionalValue.absent;
-import static com.sabre.oss.conf4j.source.OptionalValue.present;
 import static java.util.Objects.requireNonNull;
-import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
 
+/**
+ * Default {@link ConfigurationValueProvider} implementation. It finds the configuration value in the configuration source
+ * (or uses the default value), applies {@link ConfigurationValueProcessor}s and converts the value to the property type.
+ * <p>
+ * The value is provided by {@link PropertyAccessor} which is created once per {@link PropertyMetadata}, so the
+ * converter lookup and other decisions which don't change between reads are not repeated.
+ * Primitive {@code int}, {@code long}, {@code double} and {@code boolean} values are converted without boxing
+ * when the type converter supports it (see {@link IntTypeConverter} and others).
+ * <p>
+ * Optionally the provider can memoize converted values. In such case the value is stored in the {@link PropertyValueMemo}
+ * of the configuration instance and it is reused as long as the {@link VersionedConfigurationSource} reports the same
+ * version, so repeated reads of the same property don't query the configuration source nor convert the value again.
+ * Values from configuration sources which are not {@link VersionedConfigurationSource} are never memoized, neither are
+ * values read by {@link #getConfigurationValue(TypeConverter, ConfigurationSource, PropertyMetadata)} which is not
+ * bound to any configuration instance.
+ * <p>
+ * <b>Note:</b> When memoization is enabled, the same value instance is returned by subsequent reads, so converted
+ * values should be treated as immutable.
+ * <p>
+ * The provider caches canonical {@link PropertyMetadata} instances for each type converter, so configuration instances
+ * created with this provider share the metadata (including the key sets, attributes and {@link PropertyAccessor})
+ * of the same properties. The shared metadata is immutable, memoized values are kept by each configuration instance.
+ */
 public class DefaultConfigurationValueProvider implements ConfigurationValueProvider {
     private final List<ConfigurationValueProcessor> configurationValueProcessors;
+    private final boolean memoizing;
+    private final ConcurrentMap<TypeConverter<?>, ConcurrentMap<PropertyMetadata, PropertyMetadata>> canonicalPropertyMetadata =
+            new ConcurrentReferenceHashMap<>();
 
     public DefaultConfigurationValueProvider(List<ConfigurationValueProcessor> configurationValueProcessors) {
+        this(configurationValueProcessors, false);
+    }
+
+    /**
+     * Constructs configuration value provider.
+     *
+     * @param configurationValueProcessors configuration value processors.
+     * @param memoizing                    when {@code true} values resolved from {@link VersionedConfigurationSource}
+     *                                     are memoized until the source version changes.
+     * @throws NullPointerException when {@code configurationValueProcessors} is {@code null}.
+     */
+    public DefaultConfigurationValueProvider(List<ConfigurationValueProcessor> configurationValueProcessors, boolean memoizing) {
         this.configurationValueProcessors = requireNonNull(configurationValueProcessors, "configurationValueProcessors cannot be null");
+        this.memoizing = memoizing;
     }
 
     @Override
     public <T> OptionalValue<T> getConfigurationValue(TypeConverter<T> typeConverter, ConfigurationSource configurationSource, PropertyMetadata metadata) {
+        @SuppressWarnings("unchecked")
+        OptionalValue<T> value = (OptionalValue<T>) getPropertyAccessor(typeConverter, metadata).getConfigurationValue(configurationSource);
+        return value;
+    }
+
+    @Override
+    public PropertyAccessor getPropertyAccessor(TypeConverter<?> typeConverter, PropertyMetadata metadata) {
         requireNonNull(typeConverter, "typeConverter cannot be null");
         requireNonNull(metadata, "metadata cannot be null");
 
-        OptionalValue<String> value = absent();
-        String resolvedKey = null;
-
-        Map<String, String> attributes = metadata.getAttributes();
-        if (configurationSource != null) {
-            ConfigurationEntry configurationEntry = configurationSource.findEntry(metadata.getKeySet(), attributes);
-            if (configurationEntry != null) {
-                resolvedKey = configurationEntry.getKey();
-                value = present(configurationEntry.getValue());
-            }
-        }
-
-        boolean fromDefaultValue = value.isAbsent();
-        if (fromDefaultValue) {
-            value = metadata.getDefaultValue();
+        PropertyAccessor propertyAccessor = metadata.getPropertyAccessor();
+        if (propertyAccessor == null || !propertyAccessor.isBoundTo(this, typeConverter)) {
+            propertyAccessor = new PropertyAccessor(this, typeConverter, metadata, configurationValueProcessors, memoizing);
+            metadata.setPropertyAccessor(propertyAccessor);
         }
-        if (value.isAbsent()) {
-            // value is not available in the value source nor from the default
-            return absent();
-        }
-        String resolvedValue = value.get();
-        String val = applyProcessors(new ConfigurationValue(resolvedKey, resolvedValue, fromDefaultValue, metadata.getEncryptionProvider(), attributes));
-
-        @SuppressWarnings("unchecked")
-        TypeConverter<T> currentTypeConverter = defaultIfNull((TypeConverter<T>) metadata.getTypeConverter(), typeConverter);
-        return present(currentTypeConverter.fromString(metadata.getType(), val, attributes));
+        return propertyAccessor;
     }
 
-    private String applyProcessors(ConfigurationValue configurationValue) {
-        if (configurationValueProcessors == null) {
-            return configurationValue.getValue();
-        }
-
-        ConfigurationValue currentConfigurationValue = configurationValue;
-        for (ConfigurationValueProcessor configurationValueProcessor : configurationValueProcessors) {
-            currentConfigurationValue = configurationValueProcessor.process(currentConfigurationValue);
-        }
-        if (currentConfigurationValue.isEncrypted()) {
-            throw new IllegalStateException("Configuration value cannot be decrypted. Please check if the appropriate decrypter is configured.");
-        }
+    @Override
+    public PropertyMetadata getCanonicalPropertyMetadata(TypeConverter<?> typeConverter, PropertyMetadata metadata) {
+        requireNonNull(typeConverter, "typeConverter cannot be null");
+        requireNonNull(metadata, "metadata cannot be null");
 
-        return currentConfigurationValue.getValue();
+        // accessor attached to the metadata is bound to the type converter, so metadata is shared only for the same converter
+        PropertyMetadata canonical = canonicalPropertyMetadata
+                .computeIfAbsent(typeConverter, k -> new ConcurrentReferenceHashMap<>())
+                .putIfAbsent(metadata, metadata);
+        return canonical != null ? canonical : metadata;
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.internal.config;
+
+import com.sabre.oss.conf4j.source.ConfigurationSource;
+import com.sabre.oss.conf4j.source.OptionalValue;
+
+/**
+ * Immutable holder of the configuration value memoized by {@link PropertyAccessor}.
+ * <p>
+ * The value is valid only for the configuration source (in the given version) it was resolved from.
+ */
+final class MemoizedValue {
+    private final ConfigurationSource configurationSource;
+    private final long version;
+    private final OptionalValue<Object> value;
+
+    MemoizedValue(ConfigurationSource configurationSource, long version, OptionalValue<Object> value) {
+        this.configurationSource = configurationSource;
+        this.version = version;
+        this.value = value;
+    }
+
+    boolean isValidFor(ConfigurationSource configurationSource, long version) {
+        return this.version == version && this.configurationSource == configurationSource;
+    }
+
+    OptionalValue<Object> getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,546 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.internal.config;
+
+import com.sabre.oss.conf4j.converter.BooleanTypeConverter;
+import com.sabre.oss.conf4j.converter.ChainedTypeConverter;
+import com.sabre.oss.conf4j.converter.DoubleTypeConverter;
+import com.sabre.oss.conf4j.converter.IntTypeConverter;
+import com.sabre.oss.conf4j.converter.LongTypeConverter;
+import com.sabre.oss.conf4j.converter.TypeConverter;
+import com.sabre.oss.conf4j.processor.ConfigurationValue;
+import com.sabre.oss.conf4j.processor.ConfigurationValueProcessor;
+import com.sabre.oss.conf4j.source.ConfigurationEntry;
+import com.sabre.oss.conf4j.source.ConfigurationSource;
+import com.sabre.oss.conf4j.source.IterableConfigurationSource;
+import com.sabre.oss.conf4j.source.OptionalValue;
+import com.sabre.oss.conf4j.source.VersionedConfigurationSource;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import static com.sabre.oss.conf4j.internal.Constants.COLLECTION_SIZE_SUFFIX;
+import static com.sabre.oss.conf4j.internal.utils.ImmutableUtils.isImmutable;
+import static com.sabre.oss.conf4j.internal.utils.KeyGenerator.DELIMITER;
+import static com.sabre.oss.conf4j.internal.utils.KeyGenerator.LIST_SIZE;
+import static com.sabre.oss.conf4j.source.OptionalValue.absent;
+import static com.sabre.oss.conf4j.source.OptionalValue.present;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Precompiled pipeline which provides the value of a single configuration property.
+ * <p>
+ * Everything what doesn't change between subsequent reads of the property is resolved once, when the accessor
+ * is created: the concrete {@link TypeConverter} (also when the property type is handled by
+ * {@link ChainedTypeConverter}), the key set, the {@link ConfigurationValueProcessor}s (none when there is nothing
+ * to process) and the converted default value when it is immutable. Mutable default values (like lists or maps)
+ * are converted on every read, so callers cannot corrupt the value seen by others. Reading the property is therefore
+ * reduced to the configuration source lookup and the value conversion.
+ * <p>
+ * The accessor is bound to the {@link ConfigurationValueProvider} and the type converter it was created for.
+ * It is created by {@link DefaultConfigurationValueProvider#getPropertyAccessor(TypeConverter, PropertyMetadata)}
+ * and attached to the {@link PropertyMetadata}.
+ * <p>
+ * The accessor is immutable, so it can be shared by all configuration instances with the same metadata.
+ * Memoized values are stored in {@link PropertyValueMemo} owned by the configuration instance and passed to
+ * the accessor on every read; reads without the memo are never memoized.
+ * <p>
+ * When the property is the size of a sub-configuration list, the configuration source doesn't provide the size
+ * explicitly and it is {@link IterableConfigurationSource}, the size is derived from the highest {@code [n]} index
+ * of the list items present in the source (but it is never less than the default size). When there are no list
+ * items, the default size is used. Deriving the size requires scanning the list items, so the derived size is cached
+ * by the accessor regardless of memoization: it is reused as long as the same configuration source is in the same
+ * {@link VersionedConfigurationSource#getVersion() version}. For configuration sources which are not versioned
+ * the size is derived only once.
+ */
+public final class PropertyAccessor {
+    private static final ConfigurationValueProcessor[] NO_PROCESSORS = new ConfigurationValueProcessor[0];
+
+    private final ConfigurationValueProvider configurationValueProvider;
+    private final TypeConverter<?> typeConverter;
+    private final PropertyMetadata metadata;
+
+    private final List<String> keySet;
+    private final Type type;
+    private final Map<String, String> attributes;
+    private final String encryptionProvider;
+    private final TypeConverter<Object> converter;
+    private final ConfigurationValueProcessor[] processors;
+    private final boolean processing;
+    private final boolean memoizing;
+    /**
+     * Key prefixes of the list items (e.g. {@code list[}) when the property is the size of sub-configuration list,
+     * {@code null} otherwise.
+     */
+    private final String[] itemKeyPrefixes;
+
+    private final String defaultValue;
+    private final boolean defaultValuePresent;
+    /**
+     * Default value converted to the property type or {@code null} when it cannot be converted upfront or
+     * the converted value is mutable (e.g. a collection), so it cannot be shared by subsequent reads.
+     */
+    private final OptionalValue<Object> convertedDefaultValue;
+    /**
+     * List size derived from the list items most recently, {@code null} when it has not been derived yet.
+     */
+    private volatile DerivedListSize derivedListSize;
+
+    PropertyAccessor(ConfigurationValueProvider configurationValueProvider, TypeConverter<?> typeConverter, PropertyMetadata metadata,
+                     List<ConfigurationValueProcessor> configurationValueProcessors, boolean memoizing) {
+        this.configurationValueProvider = configurationValueProvider;
+        this.typeConverter = requireNonNull(typeConverter, "typeConverter cannot be null");
+        this.metadata = metadata;
+
+        this.keySet = metadata.getKeySet();
+        this.type = metadata.getType();
+        this.attributes = metadata.getAttributes();
+        this.encryptionProvider = metadata.getEncryptionProvider();
+        this.converter = resolveConverter(typeConverter, metadata);
+        this.processing = !configurationValueProcessors.isEmpty() || encryptionProvider != null;
+        this.processors = processing ? configurationValueProcessors.toArray(NO_PROCESSORS) : NO_PROCESSORS;
+        this.itemKeyPrefixes = metadata.getPropertyName().endsWith(COLLECTION_SIZE_SUFFIX) ? createItemKeyPrefixes(keySet) : null;
+        this.memoizing = memoizing;
+
+        OptionalValue<String> value = metadata.getDefaultValue();
+        this.defaultValue = value.getOrNull();
+        this.defaultValuePresent = value.isPresent();
+        this.convertedDefaultValue = convertDefaultValue();
+    }
+
+    public PropertyMetadata getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Indicates whether the accessor memoizes values. Configuration instances need to allocate
+     * {@link PropertyValueMemo} only when it does.
+     *
+     * @return {@code true} when values are memoized in {@link PropertyValueMemo} passed to the accessor.
+     */
+    public boolean isMemoizing() {
+        return memoizing;
+    }
+
+    /**
+     * Provides the property value.
+     *
+     * @param configurationSource configuration source. It can be {@code null}, in such case only the default value
+     *                            is taken into account.
+     * @return value converted to the property type or {@link OptionalValue#absent()} when the value is not available
+     * neither in the configuration source nor as the default value.
+     */
+    public OptionalValue<Object> getConfigurationValue(ConfigurationSource configurationSource) {
+        return getConfigurationValue(configurationSource, null);
+    }
+
+    /**
+     * Provides the property value and memoizes it in {@code memo} when memoization is enabled.
+     *
+     * @param configurationSource configuration source. It can be {@code null}, in such case only the default value
+     *                            is taken into account.
+     * @param memo                memo of the configuration instance the property belongs to. When it is {@code null}
+     *                            the value is not memoized.
+     * @return value converted to the property type or {@link OptionalValue#absent()} when the value is not available
+     * neither in the configuration source nor as the default value.
+     */
+    public OptionalValue<Object> getConfigurationValue(ConfigurationSource configurationSource, PropertyValueMemo memo) {
+        if (isMemoized(configurationSource, memo)) {
+            return getMemoizedConfigurationValue((VersionedConfigurationSource) configurationSource, memo);
+        }
+        return resolveConfigurationValue(configurationSource);
+    }
+
+    /**
+     * Provides the value of {@code int} property without memoizing it.
+     *
+     * @param configurationSource configuration source. It can be {@code null}, in such case only the default value
+     *                            is taken into account.
+     * @param valueIfAbsent       value returned when the property value is not available.
+     * @return property value or {@code valueIfAbsent} when it is not available.
+     * @see #getIntValue(ConfigurationSource, PropertyValueMemo, int)
+     */
+    public int getIntValue(ConfigurationSource configurationSource, int valueIfAbsent) {
+        return getIntValue(configurationSource, null, valueIfAbsent);
+    }
+
+    /**
+     * Provides the value of {@code long} property without memoizing it.
+     *
+     * @param configurationSource configuration source. It can be {@code null}, in such case only the default value
+     *                            is taken into account.
+     * @param valueIfAbsent       value returned when the property value is not available.
+     * @return property value or {@code valueIfAbsent} when it is not available.
+     * @see #getLongValue(ConfigurationSource, PropertyValueMemo, long)
+     */
+    public long getLongValue(ConfigurationSource configurationSource, long valueIfAbsent) {
+        return getLongValue(configurationSource, null, valueIfAbsent);
+    }
+
+    /**
+     * Provides the value of {@code double} property without memoizing it.
+     *
+     * @param configurationSource configuration source. It can be {@code null}, in such case only the default value
+     *                            is taken into account.
+     * @param valueIfAbsent       value returned when the property value is not available.
+     * @return property value or {@code valueIfAbsent} when it is not available.
+     * @see #getDoubleValue(ConfigurationSource, PropertyValueMemo, double)
+     */
+    public double getDoubleValue(ConfigurationSource configurationSource, double valueIfAbsent) {
+        return getDoubleValue(configurationSource, null, valueIfAbsent);
+    }
+
+    /**
+     * Provides the value of {@code boolean} property without memoizing it.
+     *
+     * @param configurationSource configuration source. It can be {@code null}, in such case only the default value
+     *                            is taken into account.
+     * @param valueIfAbsent       value returned when the property value is not available.
+     * @return property value or {@code valueIfAbsent} when it is not available.
+     * @see #getBooleanValue(ConfigurationSource, PropertyValueMemo, boolean)
+     */
+    public boolean getBooleanValue(ConfigurationSource configurationSource, boolean valueIfAbsent) {
+        return getBooleanValue(configurationSource, null, valueIfAbsent);
+    }
+
+    /**
+     * Primitive variant of {@link #getConfigurationValue(ConfigurationSource, PropertyValueMemo)} for {@code int}
+     * property. Unless the value is memoized, it is converted by {@link IntTypeConverter} without boxing.
+     *
+     * @param configurationSource configuration source. It can be {@code null}, in such case only the default value
+     *                            is taken into account.
+     * @param memo                memo of the configuration instance the property belongs to. When it is {@code null}
+     *                            the value is not memoized.
+     * @param valueIfAbsent       value returned when the property value is not available.
+     * @return property value or {@code valueIfAbsent} when it is not available.
+     */
+    public int getIntValue(ConfigurationSource configurationSource, PropertyValueMemo memo, int valueIfAbsent) {
+        if (!isMemoized(configurationSource, memo)) {
+            String value = findValue(configurationSource);
+            if (value != null) {
+                return converter instanceof IntTypeConverter
+                        ? ((IntTypeConverter) converter).fromStringToInt(type, value, attributes)
+                        : (Integer) converter.fromString(type, value, attributes);
+            }
+        }
+        OptionalValue<Object> value = getConvertedValue(configurationSource, memo);
+        return value.isPresent() ? (Integer) value.get() : valueIfAbsent;
+    }
+
+    /**
+     * Primitive variant of {@link #getConfigurationValue(ConfigurationSource, PropertyValueMemo)} for {@code long}
+     * property. Unless the value is memoized, it is converted by {@link LongTypeConverter} without boxing.
+     *
+     * @param configurationSource configuration source. It can be {@code null}, in such case only the default value
+     *                            is taken into account.
+     * @param memo                memo of the configuration instance the property belongs to. When it is {@code null}
+     *                            the value is not memoized.
+     * @param valueIfAbsent       value returned when the property value is not available.
+     * @return property value or {@code valueIfAbsent} when it is not available.
+     */
+    public long getLongValue(ConfigurationSource configurationSource, PropertyValueMemo memo, long valueIfAbsent) {
+        if (!isMemoized(configurationSource, memo)) {
+            String value = findValue(configurationSource);
+            if (value != null) {
+                return converter instanceof LongTypeConverter
+                        ? ((LongTypeConverter) converter).fromStringToLong(type, value, attributes)
+                        : (Long) converter.fromString(type, value, attributes);
+            }
+        }
+        OptionalValue<Object> value = getConvertedValue(configurationSource, memo);
+        return value.isPresent() ? (Long) value.get() : valueIfAbsent;
+    }
+
+    /**
+     * Primitive variant of {@link #getConfigurationValue(ConfigurationSource, PropertyValueMemo)} for {@code double}
+     * property. Unless the value is memoized, it is converted by {@link DoubleTypeConverter} without boxing.
+     *
+     * @param configurationSource configuration source. It can be {@code null}, in such case only the default value
+     *                            is taken into account.
+     * @param memo                memo of the configuration instance the property belongs to. When it is {@code null}
+     *                            the value is not memoized.
+     * @param valueIfAbsent       value returned when the property value is not available.
+     * @return property value or {@code valueIfAbsent} when it is not available.
+     */
+    public double getDoubleValue(ConfigurationSource configurationSource, PropertyValueMemo memo, double valueIfAbsent) {
+        if (!isMemoized(configurationSource, memo)) {
+            String value = findValue(configurationSource);
+            if (value != null) {
+                return converter instanceof DoubleTypeConverter
+                        ? ((DoubleTypeConverter) converter).fromStringToDouble(type, value, attributes)
+                        : (Double) converter.fromString(type, value, attributes);
+            }
+        }
+        OptionalValue<Object> value = getConvertedValue(configurationSource, memo);
+        return value.isPresent() ? (Double) value.get() : valueIfAbsent;
+    }
+
+    /**
+     * Primitive variant of {@link #getConfigurationValue(ConfigurationSource, PropertyValueMemo)} for {@code boolean}
+     * property. Unless the value is memoized, it is converted by {@link BooleanTypeConverter} without boxing.
+     *
+     * @param configurationSource configuration source. It can be {@code null}, in such case only the default value
+     *                            is taken into account.
+     * @param memo                memo of the configuration instance the property belongs to. When it is {@code null}
+     *                            the value is not memoized.
+     * @param valueIfAbsent       value returned when the property value is not available.
+     * @return property value or {@code valueIfAbsent} when it is not available.
+     */
+    public boolean getBooleanValue(ConfigurationSource configurationSource, PropertyValueMemo memo, boolean valueIfAbsent) {
+        if (!isMemoized(configurationSource, memo)) {
+            String value = findValue(configurationSource);
+            if (value != null) {
+                return converter instanceof BooleanTypeConverter
+                        ? ((BooleanTypeConverter) converter).fromStringToBoolean(type, value, attributes)
+                        : (Boolean) converter.fromString(type, value, attributes);
+            }
+        }
+        OptionalValue<Object> value = getConvertedValue(configurationSource, memo);
+        return value.isPresent() ? (Boolean) value.get() : valueIfAbsent;
+    }
+
+    /**
+     * Checks whether the accessor was created by {@code configurationValueProvider} for {@code typeConverter}.
+     *
+     * @param configurationValueProvider configuration value provider.
+     * @param typeConverter              type converter.
+     * @return {@code true} when the accessor is bound to both {@code configurationValueProvider} and {@code typeConverter}.
+     */
+    public boolean isBoundTo(ConfigurationValueProvider configurationValueProvider, TypeConverter<?> typeConverter) {
+        return this.configurationValueProvider == configurationValueProvider && this.typeConverter == typeConverter;
+    }
+
+    private boolean isMemoized(ConfigurationSource configurationSource, PropertyValueMemo memo) {
+        return memoizing && memo != null && configurationSource instanceof VersionedConfigurationSource;
+    }
+
+    private OptionalValue<Object> getMemoizedConfigurationValue(VersionedConfigurationSource configurationSource, PropertyValueMemo memo) {
+        // version must be read before the value is resolved, otherwise a concurrent change could be missed
+        long version = configurationSource.getVersion();
+        MemoizedValue memoized = memo.get();
+        if (memoized != null && memoized.isValidFor(configurationSource, version)) {
+            return memoized.getValue();
+        }
+
+        OptionalValue<Object> value = resolveConfigurationValue(configurationSource);
+        memo.set(new MemoizedValue(configurationSource, version, value));
+        return value;
+    }
+
+    private OptionalValue<Object> resolveConfigurationValue(ConfigurationSource configurationSource) {
+        if (configurationSource != null) {
+            ConfigurationEntry configurationEntry = configurationSource.findEntry(keySet, attributes);
+            if (configurationEntry != null) {
+                String value = process(configurationEntry.getKey(), configurationEntry.getValue(), false);
+                return present(converter.fromString(type, value, attributes));
+            }
+        }
+        return getAbsentValue(configurationSource);
+    }
+
+    /**
+     * Finds the value in the configuration source and processes it.
+     *
+     * @return processed value or {@code null} when the value is not available in the configuration source.
+     */
+    private String findValue(ConfigurationSource configurationSource) {
+        if (configurationSource != null) {
+            ConfigurationEntry configurationEntry = configurationSource.findEntry(keySet, attributes);
+            if (configurationEntry != null) {
+                return process(configurationEntry.getKey(), configurationEntry.getValue(), false);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Provides either memoized or the default value, both are already converted (and boxed).
+     */
+    private OptionalValue<Object> getConvertedValue(ConfigurationSource configurationSource, PropertyValueMemo memo) {
+        return isMemoized(configurationSource, memo)
+                ? getMemoizedConfigurationValue((VersionedConfigurationSource) configurationSource, memo)
+                : getAbsentValue(configurationSource);
+    }
+
+    /**
+     * Provides the value when the configuration source doesn't provide it - either the default value
+     * or the list size derived from the list items.
+     */
+    private OptionalValue<Object> getAbsentValue(ConfigurationSource configurationSource) {
+        OptionalValue<Object> value = getDefaultValue();
+        if (itemKeyPrefixes != null && configurationSource instanceof IterableConfigurationSource) {
+            int size = getDerivedListSize((IterableConfigurationSource) configurationSource);
+            if (size > 0 && (!value.isPresent() || (Integer) value.get() < size)) {
+                return present(size);
+            }
+        }
+        return value;
+    }
+
+    private int getDerivedListSize(IterableConfigurationSource configurationSource) {
+        // version must be read before the size is derived, otherwise a concurrent change could be missed
+        long version = configurationSource instanceof VersionedConfigurationSource
+                ? ((VersionedConfigurationSource) configurationSource).getVersion()
+                : 0L;
+        DerivedListSize derived = derivedListSize;
+        if (derived != null && derived.isValidFor(configurationSource, version)) {
+            return derived.size;
+        }
+
+        int size = discoverListSize(configurationSource);
+        derivedListSize = new DerivedListSize(configurationSource, version, size);
+        return size;
+    }
+
+    private int discoverListSize(IterableConfigurationSource configurationSource) {
+        int size = 0;
+        for (String prefix : itemKeyPrefixes) {
+            for (ConfigurationEntry entry : configurationSource.getConfigurationEntriesWithPrefix(prefix)) {
+                int index = parseIndex(entry.getKey(), prefix.length());
+                if (index >= size) {
+                    size = index + 1;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Parses the list index which starts at {@code from} and is terminated by {@code ]}.
+     *
+     * @return the index or {@code -1} when the key doesn't contain valid index.
+     */
+    private static int parseIndex(String key, int from) {
+        int index = 0;
+        for (int i = from; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == ']') {
+                return i > from ? index : -1;
+            }
+            if (c < '0' || c > '9' || index > (Integer.MAX_VALUE - 9) / 10) {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return -1;
+    }
+
+    /**
+     * Converts the keys of the list size ({@code list.size}) into the key prefixes of the list items ({@code list[}).
+     */
+    private static String[] createItemKeyPrefixes(List<String> sizeKeys) {
+        String sizeSuffix = DELIMITER + LIST_SIZE;
+        String[] prefixes = new String[sizeKeys.size()];
+        for (int i = 0; i < prefixes.length; i++) {
+            String sizeKey = sizeKeys.get(i);
+            if (sizeKey.endsWith(sizeSuffix)) {
+                prefixes[i] = sizeKey.substring(0, sizeKey.length() - sizeSuffix.length()) + '[';
+            } else if (sizeKey.equals(LIST_SIZE)) {
+                prefixes[i] = "[";
+            } else {
+                return null;
+            }
+        }
+        return prefixes;
+    }
+
+    private OptionalValue<Object> getDefaultValue() {
+        if (convertedDefaultValue != null) {
+            return convertedDefaultValue;
+        }
+        // value must be processed or it cannot be converted upfront
+        String value = process(null, defaultValue, true);
+        return present(converter.fromString(type, value, attributes));
+    }
+
+    private OptionalValue<Object> convertDefaultValue() {
+        if (!defaultValuePresent) {
+            return absent();
+        }
+        if (processing) {
+            return null;
+        }
+        try {
+            Object value = converter.fromString(type, defaultValue, attributes);
+            return isImmutable(value) ? present(value) : null;
+        } catch (RuntimeException e) {
+            // the default value is converted when it is accessed and the exception is reported at that time
+            return null;
+        }
+    }
+
+    private String process(String key, String value, boolean fromDefaultValue) {
+        if (!processing) {
+            return value;
+        }
+
+        ConfigurationValue configurationValue = new ConfigurationValue(key, value, fromDefaultValue, encryptionProvider, attributes);
+        for (ConfigurationValueProcessor processor : processors) {
+            configurationValue = processor.process(configurationValue);
+        }
+        if (configurationValue.isEncrypted()) {
+            throw new IllegalStateException("Configuration value cannot be decrypted. Please check if the appropriate decrypter is configured.");
+        }
+        return configurationValue.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TypeConverter<Object> resolveConverter(TypeConverter<?> typeConverter, PropertyMetadata metadata) {
+        TypeConverter<?> propertyTypeConverter = metadata.getTypeConverter();
+        if (propertyTypeConverter != null) {
+            return (TypeConverter<Object>) propertyTypeConverter;
+        }
+        if (typeConverter instanceof ChainedTypeConverter && metadata.getType() != null) {
+            // bind directly to the converter from the chain, it saves the lookup on every access
+            TypeConverter<?> converter = ((ChainedTypeConverter) typeConverter).findConverter(metadata.getType(), metadata.getAttributes());
+            if (converter != null) {
+                return (TypeConverter<Object>) converter;
+            }
+        }
+        return (TypeConverter<Object>) typeConverter;
+    }
+
+    /**
+     * List size derived from the configuration source (in the given version). The accessor is shared by configuration
+     * instances, so the configuration source is referenced weakly.
+     */
+    private static final class DerivedListSize {
+        private final WeakReference<ConfigurationSource> configurationSource;
+        private final long version;
+        private final int size;
+
+        DerivedListSize(ConfigurationSource configurationSource, long version, int size) {
+            this.configurationSource = new WeakReference<>(configurationSource);
+            this.version = version;
+            this.size = size;
+        }
+
+        boolean isValidFor(ConfigurationSource configurationSource, long version) {
+            return this.version == version && this.configurationSource.get() == configurationSource;
+        }
+    }
+}
@@ -31,11 +31,19 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static com.sabre.oss.conf4j.source.OptionalValue.absent;
 import static com.sabre.oss.conf4j.source.OptionalValue.present;
 import static java.util.Objects.requireNonNull;
 
+/**
+ * Describes how the value of a configuration property is resolved.
+ * <p>
+ * Property metadata is immutable (except {@link PropertyAccessor} bound to it), two metadata are equal
+ * when they describe the same property in the same way. It allows metadata to be shared by configuration instances,
+ * see {@link ConfigurationValueProvider#getCanonicalPropertyMetadata(TypeConverter, PropertyMetadata)}.
+ */
 public class PropertyMetadata {
     private final String propertyName;
     private final Type type;
@@ -46,6 +54,7 @@ public class PropertyMetadata {
     private final String encryptionProvider;
     private TypeConverter<?> typeConverter;
     private final Map<String, String> attributes;
+    private volatile PropertyAccessor propertyAccessor;
 
     public PropertyMetadata(String propertyName, Type type, Class<? extends TypeConverter<?>> typeConverterClass,
                             List<String> keySet, OptionalValue<String> defaultValue, String encryptionProvider,
@@ -100,6 +109,49 @@ public class PropertyMetadata {
         return attributes;
     }
 
+    /**
+     * Provides {@link PropertyAccessor} bound to this metadata.
+     *
+     * @return property accessor or {@code null} when it was not created yet.
+     * @see ConfigurationValueProvider#getPropertyAccessor(TypeConverter, PropertyMetadata)
+     */
+    public PropertyAccessor getPropertyAccessor() {
+        return propertyAccessor;
+    }
+
+    void setPropertyAccessor(PropertyAccessor propertyAccessor) {
+        this.propertyAccessor = propertyAccessor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        PropertyMetadata that = (PropertyMetadata) o;
+
+        return defaultValuePresent == that.defaultValuePresent &&
+                propertyName.equals(that.propertyName) &&
+                Objects.equals(type, that.type) &&
+                Objects.equals(typeConverterClass, that.typeConverterClass) &&
+                keySet.equals(that.keySet) &&
+                Objects.equals(defaultValue, that.defaultValue) &&
+                Objects.equals(encryptionProvider, that.encryptionProvider) &&
+                Objects.equals(attributes, that.attributes);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = propertyName.hashCode();
+        result = 31 * result + keySet.hashCode();
+        result = 31 * result + Objects.hashCode(defaultValue);
+        return result;
+    }
+
     private TypeConverter<?> getTypeConverterInstance() {
         if (typeConverterClass == null) {
             return null;
@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.internal.config;
+
+import java.io.Serializable;
+
+/**
+ * Per-instance storage of the value memoized by {@link PropertyAccessor}.
+ * <p>
+ * {@link PropertyAccessor} is immutable and it is shared by all configuration instances with the same
+ * {@link PropertyMetadata}, so the memoized value is kept by each configuration instance (one memo per property)
+ * and passed to the accessor when the property is read. This way configuration instances bound to different
+ * configuration sources don't overwrite each other's values and the configuration source is not referenced after
+ * the configuration instance becomes unreachable.
+ * <p>
+ * The memoized value is not serialized.
+ */
+public final class PropertyValueMemo implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private transient volatile MemoizedValue memoizedValue;
+
+    MemoizedValue get() {
+        return memoizedValue;
+    }
+
+    void set(MemoizedValue memoizedValue) {
+        this.memoizedValue = memoizedValue;
+    }
+}
@@ -27,19 +27,34 @@ package com.sabre.oss.conf4j.internal.factory;
 import com.sabre.oss.conf4j.converter.DefaultTypeConverters;
 import com.sabre.oss.conf4j.converter.TypeConverter;
 import com.sabre.oss.conf4j.factory.ConfigurationFactory;
+import com.sabre.oss.conf4j.internal.config.ConfigurationValueProvider;
+import com.sabre.oss.conf4j.internal.config.DefaultConfigurationValueProvider;
 import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
 import com.sabre.oss.conf4j.internal.model.ConfigurationModelProvider;
+import com.sabre.oss.conf4j.internal.model.PropertyModel;
+import com.sabre.oss.conf4j.internal.model.SubConfigurationListPropertyModel;
+import com.sabre.oss.conf4j.internal.model.SubConfigurationPropertyModel;
 import com.sabre.oss.conf4j.internal.model.provider.convention.ConventionConfigurationModelProvider;
 import com.sabre.oss.conf4j.processor.ConfigurationValueProcessor;
 import com.sabre.oss.conf4j.source.ConfigurationSource;
+import com.sabre.oss.conf4j.source.VersionedConfigurationSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import static java.lang.String.format;
 import static java.lang.System.nanoTime;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.commons.lang3.Validate.noNullElements;
@@ -72,6 +87,12 @@ public abstract class AbstractConfigurationFactory implements ConfigurationFacto
      */
     protected TypeConverter<?> typeConverter = DefaultTypeConverters.getDefaultTypeConverter();
 
+    /**
+     * Specifies if converted configuration values are memoized until {@link VersionedConfigurationSource}
+     * reports a new version.
+     */
+    protected boolean memoizeConfigurationValues;
+
     /**
      * Constructs configuration factory using default {@link TypeConverter}
      * as provided by {@link DefaultTypeConverters#getDefaultTypeConverter()}. The converter can be customized later by
@@ -117,6 +138,27 @@ public abstract class AbstractConfigurationFactory implements ConfigurationFacto
         this.configurationValueProcessors = configurationValueProcessors;
     }
 
+    /**
+     * Enables or disables memoization of converted configuration values. When enabled, dynamic configurations
+     * bound to {@link VersionedConfigurationSource} resolve and convert the property value only once per source
+     * version, subsequent reads return the memoized value. Configuration sources which are not versioned are
+     * always queried. It is disabled by default.
+     *
+     * @param memoizeConfigurationValues {@code true} if configuration values should be memoized.
+     */
+    public void setMemoizeConfigurationValues(boolean memoizeConfigurationValues) {
+        this.memoizeConfigurationValues = memoizeConfigurationValues;
+    }
+
+    /**
+     * Creates {@link ConfigurationValueProvider} used by the configuration initializers and dynamic configurations.
+     *
+     * @return configuration value provider.
+     */
+    protected ConfigurationValueProvider createConfigurationValueProvider() {
+        return new DefaultConfigurationValueProvider(configurationValueProcessors, memoizeConfigurationValues);
+    }
+
     /**
      * Initializes {@code configurationInstance}
      *
@@ -160,4 +202,128 @@ public abstract class AbstractConfigurationFactory implements ConfigurationFacto
 
         return configurationType.cast(configurationInstance);
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Configuration types are prepared concurrently in {@link ForkJoinPool#commonPool()}.
+     */
+    @Override
+    public Map<Class<?>, Duration> preload(Collection<Class<?>> configurationTypes, ClassLoader classLoader) {
+        return preload(configurationTypes, classLoader, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Eagerly builds configuration models and prepares implementation classes of the configuration types
+     * and their sub-configuration types. Each type is prepared concurrently in {@code forkJoinPool}, sub-configuration
+     * types are prepared before the configuration type which uses them. Every type is prepared only once,
+     * even if it is used by many configuration types; a type which is already being prepared by another task
+     * is awaited. Cycles between configurations are rejected when the configuration model is built.
+     *
+     * @param configurationTypes configuration types.
+     * @param classLoader        class loader, when {@code null} {@code Thread.currentThread().getContextClassLoader()} is used.
+     * @param forkJoinPool       pool used for preparing configuration types.
+     * @return time spent on preparing each of the configuration types and their sub-configuration types.
+     * @throws NullPointerException when {@code configurationTypes} or {@code forkJoinPool} is {@code null}
+     *                              or any of configuration types is {@code null}.
+     */
+    public Map<Class<?>, Duration> preload(Collection<Class<?>> configurationTypes, ClassLoader classLoader, ForkJoinPool forkJoinPool) {
+        requireNonNull(configurationTypes, "configurationTypes cannot be null");
+        noNullElements(configurationTypes, "configurationTypes element cannot be null");
+        requireNonNull(forkJoinPool, "forkJoinPool cannot be null");
+
+        long start = nanoTime();
+
+        ClassLoader actualClassLoader = (classLoader != null) ? classLoader : Thread.currentThread().getContextClassLoader();
+        ConcurrentMap<Class<?>, PreloadTask> tasks = new ConcurrentHashMap<>();
+        Map<Class<?>, Duration> timings = new ConcurrentHashMap<>();
+        forkJoinPool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                List<PreloadTask> claimedTasks = new ArrayList<>(configurationTypes.size());
+                List<PreloadTask> pendingTasks = new ArrayList<>();
+                for (Class<?> configurationType : configurationTypes) {
+                    PreloadTask task = new PreloadTask(configurationType, null, actualClassLoader, tasks, timings);
+                    claim(task, tasks, claimedTasks, pendingTasks);
+                }
+                invokeAll(claimedTasks);
+                pendingTasks.forEach(PreloadTask::join);
+            }
+        });
+
+        log.debug("{} configuration types preloaded in {} ms", timings.size(), NANOSECONDS.toMillis(nanoTime() - start));
+
+        return unmodifiableMap(timings);
+    }
+
+    /**
+     * Registers {@code task} as the one which prepares its configuration type. When the type is already claimed
+     * by another task, the other task is added to {@code pendingTasks}, so it can be awaited.
+     */
+    private static void claim(PreloadTask task, ConcurrentMap<Class<?>, PreloadTask> tasks,
+                              List<PreloadTask> claimedTasks, List<PreloadTask> pendingTasks) {
+        PreloadTask existing = tasks.putIfAbsent(task.configurationType, task);
+        if (existing == null) {
+            claimedTasks.add(task);
+        } else if (existing != task && !pendingTasks.contains(existing)) {
+            pendingTasks.add(existing);
+        }
+    }
+
+    /**
+     * Builds the configuration model (unless it is provided) and prepares the implementation class
+     * once all sub-configuration types are prepared.
+     */
+    private class PreloadTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Class<?> configurationType;
+        private final ConfigurationModel configurationModel;
+        private final ClassLoader classLoader;
+        private final ConcurrentMap<Class<?>, PreloadTask> tasks;
+        private final Map<Class<?>, Duration> timings;
+
+        PreloadTask(Class<?> configurationType, ConfigurationModel configurationModel, ClassLoader classLoader,
+                    ConcurrentMap<Class<?>, PreloadTask> tasks, Map<Class<?>, Duration> timings) {
+            this.configurationType = configurationType;
+            this.configurationModel = configurationModel;
+            this.classLoader = classLoader;
+            this.tasks = tasks;
+            this.timings = timings;
+        }
+
+        @Override
+        protected void compute() {
+            long start = nanoTime();
+            ConfigurationModel model = (configurationModel != null) ? configurationModel : configurationModelProvider.getConfigurationModel(configurationType);
+            long elapsed = nanoTime() - start;
+
+            // the model provider rejects cycles, so waiting for sub-configuration tasks cannot deadlock
+            List<PreloadTask> claimedTasks = new ArrayList<>();
+            List<PreloadTask> pendingTasks = new ArrayList<>();
+            for (PropertyModel property : model.getProperties()) {
+                ConfigurationModel subConfigurationModel = null;
+                if (property instanceof SubConfigurationPropertyModel) {
+                    subConfigurationModel = ((SubConfigurationPropertyModel) property).getTypeModel();
+                } else if (property instanceof SubConfigurationListPropertyModel) {
+                    subConfigurationModel = ((SubConfigurationListPropertyModel) property).getItemTypeModel();
+                }
+                if (subConfigurationModel != null) {
+                    PreloadTask task = new PreloadTask(subConfigurationModel.getConfigurationType(), subConfigurationModel, classLoader, tasks, timings);
+                    claim(task, tasks, claimedTasks, pendingTasks);
+                }
+            }
+            invokeAll(claimedTasks);
+            pendingTasks.forEach(PreloadTask::join);
+
+            start = nanoTime();
+            if (!model.isAbstractConfiguration()) {
+                configurationInstanceCreator.prepareClass(model, classLoader);
+            }
+            elapsed += nanoTime() - start;
+
+            timings.put(configurationType, Duration.ofNanos(elapsed));
+            log.trace("Configuration {} preloaded in {} us", configurationType.getSimpleName(), NANOSECONDS.toMicros(elapsed));
+        }
+    }
 }
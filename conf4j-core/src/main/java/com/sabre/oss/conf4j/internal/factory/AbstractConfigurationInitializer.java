@@ -130,7 +130,8 @@ public abstract class AbstractConfigurationInitializer extends AbstractConfigura
         Class<TypeConverter<?>> typeConverterClass = propertyModel.getTypeConverterClass();
 
         Map<String, String> propertyAttributes = mergeAttributes(attributes, propertyModel.getAttributes());
-        PropertyMetadata propertyMetadata = new PropertyMetadata(propertyName, type, typeConverterClass, keySet, defaultValue, encryptionProvider, propertyAttributes);
+        PropertyMetadata propertyMetadata = configurationValueProvider.getCanonicalPropertyMetadata(typeConverter,
+                new PropertyMetadata(propertyName, type, typeConverterClass, keySet, defaultValue, encryptionProvider, propertyAttributes));
         storePropertyMetadata(propertyMetadata);
     }
 
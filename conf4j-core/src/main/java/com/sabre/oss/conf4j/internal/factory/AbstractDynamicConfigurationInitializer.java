@@ -26,6 +26,7 @@ package com.sabre.oss.conf4j.internal.factory;
 
 import com.sabre.oss.conf4j.converter.TypeConverter;
 import com.sabre.oss.conf4j.internal.config.ConfigurationValueProvider;
+import com.sabre.oss.conf4j.internal.config.PropertyAccessor;
 import com.sabre.oss.conf4j.internal.config.PropertyMetadata;
 import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
 import com.sabre.oss.conf4j.internal.utils.KeyGenerator;
@@ -59,13 +60,43 @@ public abstract class AbstractDynamicConfigurationInitializer extends AbstractCo
         ConfigurationPropertiesAccessor configurationPropertiesAccessor = getConfigurationPropertiesAccessor();
 
         // don't store default value in metadata - value in the field (which is converted to proper type) is used instead.
-        PropertyMetadata metadata = new PropertyMetadata(
+        // Metadata without the default value is shared by all instances which describe the property the same way.
+        PropertyMetadata metadata = configurationValueProvider.getCanonicalPropertyMetadata(typeConverter, new PropertyMetadata(
                 propertyName, propertyMetadata.getType(), propertyMetadata.getTypeConverterClass(),
-                propertyMetadata.getKeySet(), absent(), propertyMetadata.getEncryptionProvider(), propertyMetadata.getAttributes());
+                propertyMetadata.getKeySet(), absent(), propertyMetadata.getEncryptionProvider(), propertyMetadata.getAttributes()));
+        // bind the accessor upfront (it is bound once for the canonical metadata), so it is ready when the property is accessed
+        configurationValueProvider.getPropertyAccessor(typeConverter, metadata);
         configurationPropertiesAccessor.setPropertyMetadata(propertyName, metadata);
 
         // don't fetch values from values source, just convert default value and decrypt is if needed.
         Object value = configurationValueProvider.getConfigurationValue(typeConverter, null, propertyMetadata).getOrNull();
         configurationPropertiesAccessor.setValueProperty(propertyName, value);
     }
+
+    /**
+     * Provides the metadata with the accessor bound to {@code configurationValueProvider} and {@code typeConverter}.
+     * It is used by dynamic configurations, so the type converter and the configuration value provider changed on
+     * a configuration instance are respected by the property getters.
+     * <p>
+     * When {@code metadata} is bound to other type converter or provider, it is not rebound (it can be shared by other
+     * configuration instances), the canonical metadata for {@code typeConverter} is used instead.
+     *
+     * @param configurationValueProvider configuration value provider.
+     * @param typeConverter              type converter.
+     * @param metadata                   property metadata.
+     * @return {@code metadata} when it is already bound to {@code configurationValueProvider} and
+     * {@code typeConverter}, otherwise equal metadata bound to them.
+     */
+    public static PropertyMetadata bindPropertyMetadata(ConfigurationValueProvider configurationValueProvider, TypeConverter<?> typeConverter,
+                                                        PropertyMetadata metadata) {
+        PropertyAccessor propertyAccessor = metadata.getPropertyAccessor();
+        if (propertyAccessor != null && propertyAccessor.isBoundTo(configurationValueProvider, typeConverter)) {
+            return metadata;
+        }
+        PropertyMetadata boundMetadata = configurationValueProvider.getCanonicalPropertyMetadata(typeConverter, new PropertyMetadata(
+                metadata.getPropertyName(), metadata.getType(), metadata.getTypeConverterClass(), metadata.getKeySet(),
+                metadata.getDefaultValue(), metadata.getEncryptionProvider(), metadata.getAttributes()));
+        configurationValueProvider.getPropertyAccessor(typeConverter, boundMetadata);
+        return boundMetadata;
+    }
 }
@@ -29,11 +29,28 @@ import com.sabre.oss.conf4j.internal.config.ConfigurationValueProvider;
 import com.sabre.oss.conf4j.internal.config.PropertyMetadata;
 import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
 import com.sabre.oss.conf4j.internal.utils.KeyGenerator;
+import com.sabre.oss.conf4j.source.ConfigurationEntry;
 import com.sabre.oss.conf4j.source.ConfigurationSource;
+import com.sabre.oss.conf4j.source.IterableConfigurationSource;
+import com.sabre.oss.conf4j.source.OptionalValue;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+/**
+ * Base class for initializers of static configurations, which resolve all the property values during initialization.
+ * <p>
+ * Property values of the configuration and all its sub-configurations are collected first, and then resolved with
+ * a single {@link ConfigurationSource#findEntries(Collection, Map)} invocation for each distinct set of attributes.
+ */
 public abstract class AbstractStaticConfigurationInitializer extends AbstractConfigurationInitializer {
+    private PendingProperties pendingProperties;
+
     protected AbstractStaticConfigurationInitializer(
             Object configuration,
             ConfigurationModel configurationModel,
@@ -49,10 +66,158 @@ public abstract class AbstractStaticConfigurationInitializer extends AbstractCon
                 keyGenerator, fallbackKeyPrefix, defaultValues, attributes, configurationValueProvider);
     }
 
+    @Override
+    public void initializeConfiguration() {
+        if (pendingProperties != null) {
+            // initialized as a part of the parent configuration, properties are resolved by the parent
+            super.initializeConfiguration();
+            return;
+        }
+        pendingProperties = new PendingProperties();
+        try {
+            super.initializeConfiguration();
+            pendingProperties.resolve();
+        } finally {
+            pendingProperties = null;
+        }
+    }
+
+    @Override
+    public Object createSubConfiguration(
+            ConfigurationModel subConfigurationModel, KeyGenerator keyGenerator, String fallbackKey,
+            Map<String, String> defaultValues, Map<String, String> attributes) {
+
+        if (pendingProperties == null) {
+            // e.g. elements added to sub-configuration list after initialization
+            return super.createSubConfiguration(subConfigurationModel, keyGenerator, fallbackKey, defaultValues, attributes);
+        }
+
+        Object subConfiguration = configurationInstanceCreator.createInstance(subConfigurationModel, classLoader);
+
+        ConfigurationInitializer subConfigurationInitializer = createSubConfigurationInitializer(
+                subConfiguration, subConfigurationModel, keyGenerator, fallbackKey, defaultValues, attributes);
+        if (subConfigurationInitializer instanceof AbstractStaticConfigurationInitializer) {
+            AbstractStaticConfigurationInitializer staticInitializer = (AbstractStaticConfigurationInitializer) subConfigurationInitializer;
+            staticInitializer.pendingProperties = pendingProperties;
+            try {
+                staticInitializer.initializeConfiguration();
+            } finally {
+                staticInitializer.pendingProperties = null;
+            }
+        } else {
+            subConfigurationInitializer.initializeConfiguration();
+        }
+
+        return subConfiguration;
+    }
+
     @Override
     protected void storePropertyMetadata(PropertyMetadata propertyMetadata) {
         // Don't store metadata - it is not required by static configuration. Store only value resolved from source.
+        if (pendingProperties != null) {
+            pendingProperties.add(getConfigurationPropertiesAccessor(), propertyMetadata);
+            return;
+        }
         Object value = configurationValueProvider.getConfigurationValue(typeConverter, configurationSource, propertyMetadata).getOrNull();
         getConfigurationPropertiesAccessor().setValueProperty(propertyMetadata.getPropertyName(), value);
     }
+
+    /**
+     * Properties which values are not resolved yet, grouped by attributes.
+     */
+    private final class PendingProperties {
+        private final Map<Map<String, String>, List<PendingProperty>> properties = new LinkedHashMap<>();
+
+        void add(ConfigurationPropertiesAccessor accessor, PropertyMetadata metadata) {
+            properties.computeIfAbsent(metadata.getAttributes(), k -> new ArrayList<>()).add(new PendingProperty(accessor, metadata));
+        }
+
+        void resolve() {
+            for (Map.Entry<Map<String, String>, List<PendingProperty>> group : properties.entrySet()) {
+                List<PendingProperty> pending = group.getValue();
+                List<List<String>> keySets = new ArrayList<>(pending.size());
+                for (PendingProperty property : pending) {
+                    keySets.add(property.metadata.getKeySet());
+                }
+                Set<List<String>> resolvedKeySets = new HashSet<>(keySets);
+                Map<List<String>, ConfigurationEntry> entries = configurationSource.findEntries(keySets, group.getKey());
+                // iterable source allows sizes of sub-configuration lists to be derived from the list items
+                ConfigurationSource resolved = configurationSource instanceof IterableConfigurationSource
+                        ? new ResolvedIterableConfigurationSource(resolvedKeySets, entries, (IterableConfigurationSource) configurationSource)
+                        : new ResolvedConfigurationSource(resolvedKeySets, entries, configurationSource);
+                for (PendingProperty property : pending) {
+                    Object value = configurationValueProvider.getConfigurationValue(typeConverter, resolved, property.metadata).getOrNull();
+                    property.accessor.setValueProperty(property.metadata.getPropertyName(), value);
+                }
+            }
+            properties.clear();
+        }
+    }
+
+    private static final class PendingProperty {
+        private final ConfigurationPropertiesAccessor accessor;
+        private final PropertyMetadata metadata;
+
+        private PendingProperty(ConfigurationPropertiesAccessor accessor, PropertyMetadata metadata) {
+            this.accessor = accessor;
+            this.metadata = metadata;
+        }
+    }
+
+    /**
+     * Serves entries resolved in bulk, other lookups are delegated to the original source.
+     */
+    private static final class ResolvedConfigurationSource implements ConfigurationSource {
+        private final Set<List<String>> keySets;
+        private final Map<List<String>, ConfigurationEntry> entries;
+        private final ConfigurationSource source;
+
+        private ResolvedConfigurationSource(Set<List<String>> keySets, Map<List<String>, ConfigurationEntry> entries,
+                                            ConfigurationSource source) {
+            this.keySets = keySets;
+            this.entries = entries;
+            this.source = source;
+        }
+
+        @Override
+        public OptionalValue<String> getValue(String key, Map<String, String> attributes) {
+            return source.getValue(key, attributes);
+        }
+
+        @Override
+        public ConfigurationEntry findEntry(Collection<String> keys, Map<String, String> attributes) {
+            return keySets.contains(keys) ? entries.get(keys) : source.findEntry(keys, attributes);
+        }
+    }
+
+    private static final class ResolvedIterableConfigurationSource implements IterableConfigurationSource {
+        private final ResolvedConfigurationSource resolved;
+        private final IterableConfigurationSource source;
+
+        private ResolvedIterableConfigurationSource(Set<List<String>> keySets, Map<List<String>, ConfigurationEntry> entries,
+                                                    IterableConfigurationSource source) {
+            this.resolved = new ResolvedConfigurationSource(keySets, entries, source);
+            this.source = source;
+        }
+
+        @Override
+        public OptionalValue<String> getValue(String key, Map<String, String> attributes) {
+            return source.getValue(key, attributes);
+        }
+
+        @Override
+        public ConfigurationEntry findEntry(Collection<String> keys, Map<String, String> attributes) {
+            return resolved.findEntry(keys, attributes);
+        }
+
+        @Override
+        public Iterable<ConfigurationEntry> getAllConfigurationEntries() {
+            return source.getAllConfigurationEntries();
+        }
+
+        @Override
+        public Iterable<ConfigurationEntry> getConfigurationEntriesWithPrefix(String prefix) {
+            return source.getConfigurationEntriesWithPrefix(prefix);
+        }
+    }
 }
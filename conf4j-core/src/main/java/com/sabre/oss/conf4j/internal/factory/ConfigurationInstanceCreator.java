@@ -44,4 +44,15 @@ public interface ConfigurationInstanceCreator {
      * @return configuration instance.
      */
     <T> T createInstance(ConfigurationModel configurationModel, ClassLoader classLoader);
+
+    /**
+     * Prepares everything which is required for creating configuration instances, especially the implementation class,
+     * so subsequent {@link #createInstance(ConfigurationModel, ClassLoader)} invocations are cheap.
+     * Default implementation does nothing.
+     *
+     * @param configurationModel configuration model.
+     * @param classLoader        class loader.
+     */
+    default void prepareClass(ConfigurationModel configurationModel, ClassLoader classLoader) {
+    }
 }
@@ -0,0 +1,265 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.internal.factory;
+
+import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
+import com.sabre.oss.conf4j.internal.model.PropertyModel;
+import com.sabre.oss.conf4j.internal.model.SubConfigurationListPropertyModel;
+import com.sabre.oss.conf4j.internal.model.SubConfigurationPropertyModel;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.sabre.oss.conf4j.internal.Constants.COLLECTION_SIZE_SUFFIX;
+import static com.sabre.oss.conf4j.internal.Constants.LIST_SUFFIX;
+import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable dispatch table shared by all configuration instances (JDK proxy invocation handlers, cglib method
+ * interceptors) created for the same {@link ConfigurationModel}.
+ * <p>
+ * Every property (including internal list size and list holder properties) is assigned a slot which is used
+ * as an index to the per-instance property arrays. Getter methods are mapped to {@link PropertyMethod}
+ * which specifies how the method should be handled, so invoking a getter doesn't require any string
+ * manipulation.
+ */
+public final class PropertyDispatchTable implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Dispatch tables of the configuration type. There is usually one model per type, but different model providers
+     * (and evicted models) may produce more of them, so tables are additionally keyed by the model.
+     */
+    private static final ClassValue<DispatchTables> dispatchTables = new ClassValue<DispatchTables>() {
+        @Override
+        protected DispatchTables computeValue(Class<?> type) {
+            return new DispatchTables();
+        }
+    };
+
+    private final Class<?> configurationType;
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final Map<String, PropertyMethod> propertyMethodsByName = new HashMap<>();
+    /**
+     * Getters mapped by {@link Method}. It includes all zero-argument methods of the configuration type with the name
+     * of a property getter, because proxies may pass an overridden method (like a method with less specific return
+     * type or a bridge method) instead of the one from the model. {@link Method} is not serializable, so the map is
+     * rebuilt when the table is deserialized.
+     */
+    private transient Map<Method, PropertyMethod> propertyMethods;
+
+    private PropertyDispatchTable(ConfigurationModel configurationModel) {
+        requireNonNull(configurationModel, "configurationModel cannot be null");
+
+        configurationType = configurationModel.getConfigurationType();
+        for (PropertyModel propertyModel : configurationModel.getProperties()) {
+            String propertyName = propertyModel.getPropertyName();
+            PropertyMethod propertyMethod;
+            if (propertyModel instanceof SubConfigurationPropertyModel) {
+                propertyMethod = new PropertyMethod(PropertyMethod.SUB_CONFIGURATION, addSlot(propertyName), -1);
+            } else if (propertyModel instanceof SubConfigurationListPropertyModel) {
+                int sizeSlot = addSlot(propertyName + COLLECTION_SIZE_SUFFIX);
+                propertyMethod = new PropertyMethod(PropertyMethod.SUB_CONFIGURATION_LIST, addSlot(propertyName + LIST_SUFFIX), sizeSlot);
+            } else {
+                propertyMethod = new PropertyMethod(PropertyMethod.VALUE, addSlot(propertyName), -1);
+            }
+            propertyMethodsByName.put(propertyModel.getMethod().getName(), propertyMethod);
+        }
+        propertyMethods = mapMethods();
+    }
+
+    /**
+     * Provides dispatch table for the configuration model. Dispatch tables are cached with the configuration type
+     * as long as the configuration model is reachable.
+     *
+     * @param configurationModel configuration model.
+     * @return dispatch table.
+     */
+    public static PropertyDispatchTable getDispatchTable(ConfigurationModel configurationModel) {
+        requireNonNull(configurationModel, "configurationModel cannot be null");
+
+        return dispatchTables.get(configurationModel.getConfigurationType()).get(configurationModel);
+    }
+
+    /**
+     * Number of slots required to store all properties.
+     *
+     * @return number of slots.
+     */
+    public int getSize() {
+        return slots.size();
+    }
+
+    /**
+     * Provides the slot assigned to the property.
+     *
+     * @param propertyName property name.
+     * @return slot or {@code -1} when the property is unknown.
+     */
+    public int getSlot(String propertyName) {
+        Integer slot = slots.get(propertyName);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Finds {@link PropertyMethod} associated with the getter method.
+     *
+     * @param method method invoked on the proxy.
+     * @return property method or {@code null} when the method is not a property getter.
+     */
+    public PropertyMethod getPropertyMethod(Method method) {
+        return propertyMethods.get(method);
+    }
+
+    private int addSlot(String propertyName) {
+        int slot = slots.size();
+        slots.put(propertyName, slot);
+        return slot;
+    }
+
+    private Map<Method, PropertyMethod> mapMethods() {
+        Map<Method, PropertyMethod> methods = new HashMap<>();
+        Set<Class<?>> visited = new HashSet<>();
+        Deque<Class<?>> types = new ArrayDeque<>();
+        types.add(configurationType);
+        while (!types.isEmpty()) {
+            Class<?> type = types.poll();
+            if (type == Object.class || !visited.add(type)) {
+                continue;
+            }
+            for (Method method : type.getDeclaredMethods()) {
+                PropertyMethod propertyMethod = propertyMethodsByName.get(method.getName());
+                if (propertyMethod != null && method.getParameterCount() == 0 && !Modifier.isStatic(method.getModifiers())) {
+                    methods.put(method, propertyMethod);
+                }
+            }
+            if (type.getSuperclass() != null) {
+                types.add(type.getSuperclass());
+            }
+            types.addAll(asList(type.getInterfaces()));
+        }
+        return methods;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        propertyMethods = mapMethods();
+    }
+
+    /**
+     * Holds dispatch tables of single configuration type. The reads are lock free, the models are referenced weakly
+     * so they can be garbage collected.
+     */
+    private static final class DispatchTables {
+        private volatile Entry[] entries = new Entry[0];
+
+        PropertyDispatchTable get(ConfigurationModel configurationModel) {
+            PropertyDispatchTable dispatchTable = find(entries, configurationModel);
+            return dispatchTable != null ? dispatchTable : add(configurationModel);
+        }
+
+        private synchronized PropertyDispatchTable add(ConfigurationModel configurationModel) {
+            PropertyDispatchTable dispatchTable = find(entries, configurationModel);
+            if (dispatchTable == null) {
+                dispatchTable = new PropertyDispatchTable(configurationModel);
+                List<Entry> current = new ArrayList<>(entries.length + 1);
+                for (Entry entry : entries) {
+                    // skip entries of garbage collected models
+                    if (entry.configurationModel.get() != null) {
+                        current.add(entry);
+                    }
+                }
+                current.add(new Entry(configurationModel, dispatchTable));
+                entries = current.toArray(new Entry[0]);
+            }
+            return dispatchTable;
+        }
+
+        private static PropertyDispatchTable find(Entry[] entries, ConfigurationModel configurationModel) {
+            for (Entry entry : entries) {
+                if (entry.configurationModel.get() == configurationModel) {
+                    return entry.dispatchTable;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class Entry {
+        private final WeakReference<ConfigurationModel> configurationModel;
+        private final PropertyDispatchTable dispatchTable;
+
+        Entry(ConfigurationModel configurationModel, PropertyDispatchTable dispatchTable) {
+            this.configurationModel = new WeakReference<>(configurationModel);
+            this.dispatchTable = dispatchTable;
+        }
+    }
+
+    /**
+     * Describes how the property getter is dispatched.
+     */
+    public static final class PropertyMethod implements Serializable {
+        public static final int VALUE = 0;
+        public static final int SUB_CONFIGURATION = 1;
+        public static final int SUB_CONFIGURATION_LIST = 2;
+
+        private static final long serialVersionUID = 1L;
+
+        private final int kind;
+        private final int slot;
+        private final int sizeSlot;
+
+        private PropertyMethod(int kind, int slot, int sizeSlot) {
+            this.kind = kind;
+            this.slot = slot;
+            this.sizeSlot = sizeSlot;
+        }
+
+        public int getKind() {
+            return kind;
+        }
+
+        public int getSlot() {
+            return slot;
+        }
+
+        public int getSizeSlot() {
+            return sizeSlot;
+        }
+    }
+}
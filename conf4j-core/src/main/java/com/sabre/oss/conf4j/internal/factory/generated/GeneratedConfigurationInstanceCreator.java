@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.sabre.oss.conf4j.internal.factory.generated;
+
+import com.sabre.oss.conf4j.internal.factory.ConfigurationInstanceCreator;
+import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
+import com.sabre.oss.conf4j.internal.utils.ReflectionUtils;
+
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Creates instances of configuration implementation classes generated at build time by the conf4j annotation
+ * processor. The generated class is named after the binary name of the configuration type with
+ * {@value #GENERATED_CLASS_NAME_SUFFIX} suffix and provides a nested {@value #FACTORY_CLASS_NAME} class which creates
+ * its instances.
+ * <p>
+ * The factory is looked up once per configuration type, instances are created by a plain constructor invocation.
+ * The generated classes are always loaded by the class loader of the configuration type.
+ */
+public class GeneratedConfigurationInstanceCreator implements ConfigurationInstanceCreator {
+    public static final String GENERATED_CLASS_NAME_SUFFIX = "$Conf4jGenerated";
+    public static final String FACTORY_CLASS_NAME = "Factory";
+
+    private static final ClassValue<Supplier<?>> factories = new ClassValue<Supplier<?>>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> type) {
+            return loadFactory(type);
+        }
+    };
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException when there is no generated implementation of the configuration type.
+     */
+    @Override
+    public <T> T createInstance(ConfigurationModel configurationModel, ClassLoader classLoader) {
+        @SuppressWarnings("unchecked")
+        T instance = (T) factories.get(configurationModel.getConfigurationType()).get();
+        return instance;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException when there is no generated implementation of the configuration type.
+     */
+    @Override
+    public void prepareClass(ConfigurationModel configurationModel, ClassLoader classLoader) {
+        factories.get(configurationModel.getConfigurationType());
+    }
+
+    /**
+     * Provides the name of the class generated for the configuration type.
+     *
+     * @param configurationTypeName binary name of the configuration type.
+     * @return binary name of the generated class.
+     * @throws NullPointerException when {@code configurationTypeName} is {@code null}.
+     */
+    public static String getGeneratedClassName(String configurationTypeName) {
+        requireNonNull(configurationTypeName, "configurationTypeName cannot be null");
+
+        return configurationTypeName + GENERATED_CLASS_NAME_SUFFIX;
+    }
+
+    private static Supplier<?> loadFactory(Class<?> configurationType) {
+        String factoryClassName = getGeneratedClassName(configurationType.getName()) + '$' + FACTORY_CLASS_NAME;
+        Class<?> factoryClass;
+        try {
+            factoryClass = Class.forName(factoryClassName, true, configurationType.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException(format("There is no generated implementation of %s configuration type. " +
+                    "Make sure conf4j-annotation-processor is used when the configuration type is compiled.", configurationType.getName()), e);
+        }
+        return (Supplier<?>) ReflectionUtils.createInstance(factoryClass);
+    }
+}
@@ -26,63 +26,62 @@ package com.sabre.oss.conf4j.internal.factory.jdkproxy;
 
 import com.sabre.oss.conf4j.internal.config.PropertyMetadata;
 import com.sabre.oss.conf4j.internal.factory.ConfigurationPropertiesAccessor;
+import com.sabre.oss.conf4j.internal.factory.PropertyDispatchTable;
+import com.sabre.oss.conf4j.internal.factory.PropertyDispatchTable.PropertyMethod;
 import com.sabre.oss.conf4j.internal.factory.SubConfigurationList;
 import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
-import com.sabre.oss.conf4j.internal.model.PropertyModel;
-import com.sabre.oss.conf4j.internal.model.SubConfigurationListPropertyModel;
-import com.sabre.oss.conf4j.internal.model.SubConfigurationPropertyModel;
 
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
 
 import static com.sabre.oss.conf4j.internal.Constants.LIST_SUFFIX;
-import static com.sabre.oss.conf4j.internal.Constants.METADATA_SUFFIX;
 import static com.sabre.oss.conf4j.internal.factory.jdkproxy.DefaultMethodUtils.getLookup;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toSet;
 
 abstract class AbstractJdkProxyConfigurationInvocationHandler implements InvocationHandler, Serializable, ConfigurationPropertiesAccessor {
     private static final long serialVersionUID = 1L;
 
     /**
-     * Holds properties.
+     * Dispatch table shared by all handlers of the same configuration model.
      */
-    protected final Map<String, Object> properties = new HashMap<>();
+    protected final PropertyDispatchTable dispatchTable;
 
     /**
-     * Holds property metadata.
+     * Holds properties, indexed by the slot assigned by the {@link #dispatchTable}.
      */
-    protected final Map<String, PropertyMetadata> propertiesMetadata = new HashMap<>();
+    protected final Object[] properties;
 
     /**
-     * Set of sub-configuration properties.
+     * Holds property metadata, indexed by the slot assigned by the {@link #dispatchTable}.
      */
-    protected final Set<String> subConfigurationProperties;
-
-    /**
-     * Set of sub-configuration list properties.
-     */
-    protected final Set<String> subConfigurationListProperties;
+    protected final PropertyMetadata[] propertiesMetadata;
 
     protected AbstractJdkProxyConfigurationInvocationHandler(ConfigurationModel configurationModel) {
         requireNonNull(configurationModel, "configurationModel cannot be null");
 
-        subConfigurationProperties = configurationModel.getProperties().stream()
-                .filter(p -> p instanceof SubConfigurationPropertyModel)
-                .map(PropertyModel::getPropertyName)
-                .collect(toSet());
-
-        subConfigurationListProperties = configurationModel.getProperties().stream()
-                .filter(p -> p instanceof SubConfigurationListPropertyModel)
-                .map(PropertyModel::getPropertyName)
-                .collect(toSet());
+        dispatchTable = PropertyDispatchTable.getDispatchTable(configurationModel);
+        properties = new Object[dispatchTable.getSize()];
+        propertiesMetadata = new PropertyMetadata[dispatchTable.getSize()];
     }
 
+    /**
+     * Invoked for property getters.
+     *
+     * @param propertyMethod property method from the dispatch table.
+     * @return property value.
+     */
+    protected abstract Object invokeProperty(PropertyMethod propertyMethod);
+
+    /**
+     * Invoked for all methods which are not property getters nor {@link Object} methods.
+     *
+     * @param proxy  proxy instance.
+     * @param method invoked method.
+     * @param args   method arguments.
+     * @return method result.
+     */
     protected abstract Object invokeInternal(Object proxy, Method method, Object[] args);
 
     @Override
@@ -98,6 +97,11 @@ abstract class AbstractJdkProxyConfigurationInvocationHandler implements Invocat
                     .invokeWithArguments(args);
         }
 
+        PropertyMethod propertyMethod = dispatchTable.getPropertyMethod(method);
+        if (propertyMethod != null) {
+            return invokeProperty(propertyMethod);
+        }
+
         // Handle Object methods
         switch (method.getName()) {
             case "equals":
@@ -125,41 +129,55 @@ abstract class AbstractJdkProxyConfigurationInvocationHandler implements Invocat
 
     @Override
     public PropertyMetadata getPropertyMetadata(String propertyName) {
-        return propertiesMetadata.get(propertyName + METADATA_SUFFIX);
+        int slot = dispatchTable.getSlot(propertyName);
+        return slot < 0 ? null : propertiesMetadata[slot];
     }
 
     @Override
     public void setPropertyMetadata(String propertyName, PropertyMetadata propertyMetadata) {
-        propertiesMetadata.put(propertyName + METADATA_SUFFIX, propertyMetadata);
+        propertiesMetadata[getRequiredSlot(propertyName)] = propertyMetadata;
     }
 
     @Override
     public Object getValueProperty(String propertyName) {
-        return properties.get(propertyName);
+        return getProperty(propertyName);
     }
 
     @Override
     public void setValueProperty(String propertyName, Object value) {
-        properties.put(propertyName, value);
+        properties[getRequiredSlot(propertyName)] = value;
     }
 
     @Override
     public Object getSubConfigurationProperty(String propertyName) {
-        return properties.get(propertyName);
+        return getProperty(propertyName);
     }
 
     @Override
     public void setSubConfigurationProperty(String propertyName, Object subConfiguration) {
-        properties.put(propertyName, subConfiguration);
+        properties[getRequiredSlot(propertyName)] = subConfiguration;
     }
 
     @Override
     public SubConfigurationList getSubConfigurationListProperty(String propertyName) {
-        return (SubConfigurationList) properties.get(propertyName + LIST_SUFFIX);
+        return (SubConfigurationList) getProperty(propertyName + LIST_SUFFIX);
     }
 
     @Override
     public void setSubConfigurationListProperty(String propertyName, SubConfigurationList list) {
-        properties.put(propertyName + LIST_SUFFIX, list);
+        properties[getRequiredSlot(propertyName + LIST_SUFFIX)] = list;
+    }
+
+    private Object getProperty(String propertyName) {
+        int slot = dispatchTable.getSlot(propertyName);
+        return slot < 0 ? null : properties[slot];
+    }
+
+    private int getRequiredSlot(String propertyName) {
+        int slot = dispatchTable.getSlot(propertyName);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Unknown property " + propertyName);
+        }
+        return slot;
     }
 }
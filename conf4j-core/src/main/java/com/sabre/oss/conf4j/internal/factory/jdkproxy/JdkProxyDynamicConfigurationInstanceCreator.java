@@ -32,6 +32,11 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
 
 public class JdkProxyDynamicConfigurationInstanceCreator implements ConfigurationInstanceCreator {
+    @Override
+    public void prepareClass(ConfigurationModel configurationModel, ClassLoader classLoader) {
+        generateClass(configurationModel, classLoader);
+    }
+
     @Override
     public <T> T createInstance(ConfigurationModel configurationModel, ClassLoader classLoader) {
         InvocationHandler invocationHandler = new JdkProxyDynamicConfigurationInvocationHandler(configurationModel);
@@ -28,18 +28,26 @@ import com.sabre.oss.conf4j.converter.TypeConverter;
 import com.sabre.oss.conf4j.internal.config.ConfigurationValueProvider;
 import com.sabre.oss.conf4j.internal.config.DefaultDynamicConfiguration;
 import com.sabre.oss.conf4j.internal.config.DynamicConfiguration;
+import com.sabre.oss.conf4j.internal.config.PropertyAccessor;
 import com.sabre.oss.conf4j.internal.config.PropertyMetadata;
+import com.sabre.oss.conf4j.internal.config.PropertyValueMemo;
+import com.sabre.oss.conf4j.internal.factory.PropertyDispatchTable.PropertyMethod;
+import com.sabre.oss.conf4j.internal.factory.SubConfigurationList;
 import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
 import com.sabre.oss.conf4j.source.ConfigurationSource;
 import com.sabre.oss.conf4j.source.OptionalValue;
 
 import java.lang.reflect.Method;
 
-import static com.sabre.oss.conf4j.internal.Constants.COLLECTION_SIZE_SUFFIX;
-import static com.sabre.oss.conf4j.internal.utils.PropertyUtils.getPropertyName;
+import static com.sabre.oss.conf4j.internal.factory.AbstractDynamicConfigurationInitializer.bindPropertyMetadata;
 
 class JdkProxyDynamicConfigurationInvocationHandler extends AbstractJdkProxyConfigurationInvocationHandler {
     private final DynamicConfiguration dynamicConfiguration = new DefaultDynamicConfiguration();
+    /**
+     * Holds memoized property values, indexed by the slot assigned by the {@link #dispatchTable}.
+     * Memos are allocated on the first read of the property and only when its accessor memoizes values.
+     */
+    private volatile PropertyValueMemo[] memos;
 
     JdkProxyDynamicConfigurationInvocationHandler(ConfigurationModel configurationModel) {
         super(configurationModel);
@@ -62,33 +70,76 @@ class JdkProxyDynamicConfigurationInvocationHandler extends AbstractJdkProxyConf
     }
 
     @Override
-    protected Object invokeInternal(Object proxy, Method method, Object[] args) {
-        if (method.getDeclaringClass() == DynamicConfiguration.class) {
-            return invokeDynamicConfigurationMethod(method, args);
-        }
-
-        String propertyName = getPropertyName(method);
-        if (subConfigurationProperties.contains(propertyName)) {
+    protected Object invokeProperty(PropertyMethod propertyMethod) {
+        if (propertyMethod.getKind() == PropertyMethod.SUB_CONFIGURATION) {
             // return sub-configuration
-            return getSubConfigurationProperty(propertyName);
+            return properties[propertyMethod.getSlot()];
         }
 
-        TypeConverter<?> typeConverter = dynamicConfiguration.getTypeConverter();
         ConfigurationSource configurationSource = dynamicConfiguration.getConfigurationSource();
-        ConfigurationValueProvider configurationValueProvider = dynamicConfiguration.getConfigurationValueProvider();
-        if (subConfigurationListProperties.contains(propertyName)) {
+        if (propertyMethod.getKind() == PropertyMethod.SUB_CONFIGURATION_LIST) {
             // return sub-configuration list
-            String sizePropertyName = propertyName + COLLECTION_SIZE_SUFFIX;
-            PropertyMetadata listSizePropertyMetadata = getPropertyMetadata(sizePropertyName);
-            OptionalValue<?> size = configurationValueProvider.getConfigurationValue(typeConverter, configurationSource, listSizePropertyMetadata);
-            int actualSize = (Integer) (size.isPresent() ? size.get() : getValueProperty(sizePropertyName));
-            return getSubConfigurationListProperty(propertyName).asUnmodifiableList(actualSize);
+            int sizeSlot = propertyMethod.getSizeSlot();
+            PropertyAccessor listSizePropertyAccessor = getPropertyAccessor(sizeSlot);
+            int actualSize = listSizePropertyAccessor.getIntValue(configurationSource, getMemo(sizeSlot, listSizePropertyAccessor), (Integer) properties[sizeSlot]);
+            return ((SubConfigurationList) properties[propertyMethod.getSlot()]).asUnmodifiableList(actualSize);
         }
 
         // return value property
-        PropertyMetadata metadata = getPropertyMetadata(propertyName);
-        OptionalValue<?> configurationValue = configurationValueProvider.getConfigurationValue(typeConverter, configurationSource, metadata);
-        return configurationValue.isPresent() ? configurationValue.get() : getValueProperty(propertyName);
+        int slot = propertyMethod.getSlot();
+        PropertyAccessor propertyAccessor = getPropertyAccessor(slot);
+        OptionalValue<?> configurationValue = propertyAccessor.getConfigurationValue(configurationSource, getMemo(slot, propertyAccessor));
+        return configurationValue.isPresent() ? configurationValue.get() : properties[slot];
+    }
+
+    /**
+     * Provides the accessor of the property in {@code slot} bound to the current type converter and configuration
+     * value provider. When any of them was changed, the property is rebound and its memoized value is discarded.
+     */
+    private PropertyAccessor getPropertyAccessor(int slot) {
+        PropertyMetadata metadata = propertiesMetadata[slot];
+        ConfigurationValueProvider configurationValueProvider = dynamicConfiguration.getConfigurationValueProvider();
+        TypeConverter<?> typeConverter = dynamicConfiguration.getTypeConverter();
+        PropertyAccessor propertyAccessor = metadata.getPropertyAccessor();
+        if (!propertyAccessor.isBoundTo(configurationValueProvider, typeConverter)) {
+            metadata = bindPropertyMetadata(configurationValueProvider, typeConverter, metadata);
+            propertiesMetadata[slot] = metadata;
+            PropertyValueMemo[] memos = this.memos;
+            if (memos != null) {
+                memos[slot] = null;
+            }
+            propertyAccessor = metadata.getPropertyAccessor();
+        }
+        return propertyAccessor;
+    }
+
+    /**
+     * Provides the memo of the property in {@code slot} or {@code null} when {@code propertyAccessor} doesn't memoize
+     * values. Memo lost by concurrent allocation only causes the value to be resolved again.
+     */
+    private PropertyValueMemo getMemo(int slot, PropertyAccessor propertyAccessor) {
+        if (!propertyAccessor.isMemoizing()) {
+            return null;
+        }
+        PropertyValueMemo[] memos = this.memos;
+        if (memos == null) {
+            memos = new PropertyValueMemo[dispatchTable.getSize()];
+            this.memos = memos;
+        }
+        PropertyValueMemo memo = memos[slot];
+        if (memo == null) {
+            memo = new PropertyValueMemo();
+            memos[slot] = memo;
+        }
+        return memo;
+    }
+
+    @Override
+    protected Object invokeInternal(Object proxy, Method method, Object[] args) {
+        if (method.getDeclaringClass() == DynamicConfiguration.class) {
+            return invokeDynamicConfigurationMethod(method, args);
+        }
+        throw new IllegalStateException("Unknown method: " + method);
     }
 
     private Object invokeDynamicConfigurationMethod(Method method, Object[] args) {
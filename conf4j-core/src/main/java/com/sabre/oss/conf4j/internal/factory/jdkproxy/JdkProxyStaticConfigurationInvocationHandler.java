@@ -24,14 +24,12 @@
 
 package com.sabre.oss.conf4j.internal.factory.jdkproxy;
 
+import com.sabre.oss.conf4j.internal.factory.PropertyDispatchTable.PropertyMethod;
 import com.sabre.oss.conf4j.internal.factory.SubConfigurationList;
 import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
 
 import java.lang.reflect.Method;
 
-import static com.sabre.oss.conf4j.internal.Constants.COLLECTION_SIZE_SUFFIX;
-import static com.sabre.oss.conf4j.internal.utils.PropertyUtils.getPropertyName;
-
 class JdkProxyStaticConfigurationInvocationHandler extends AbstractJdkProxyConfigurationInvocationHandler {
     private static final long serialVersionUID = 1L;
 
@@ -40,22 +38,20 @@ class JdkProxyStaticConfigurationInvocationHandler extends AbstractJdkProxyConfi
     }
 
     @Override
-    protected Object invokeInternal(Object proxy, Method method, Object[] args) {
-        String propertyName = getPropertyName(method);
-
-        if (subConfigurationProperties.contains(propertyName)) {
-            // return sub-configuration
-            return getSubConfigurationProperty(propertyName);
-        }
-
-        if (subConfigurationListProperties.contains(propertyName)) {
+    protected Object invokeProperty(PropertyMethod propertyMethod) {
+        if (propertyMethod.getKind() == PropertyMethod.SUB_CONFIGURATION_LIST) {
             // return sub-configuration list
-            Integer size = (Integer) getValueProperty(propertyName + COLLECTION_SIZE_SUFFIX);
-            SubConfigurationList list = getSubConfigurationListProperty(propertyName);
+            Integer size = (Integer) properties[propertyMethod.getSizeSlot()];
+            SubConfigurationList list = (SubConfigurationList) properties[propertyMethod.getSlot()];
             return list.asUnmodifiableList(size);
         }
 
-        // return value property
-        return getValueProperty(propertyName);
+        // return value property or sub-configuration
+        return properties[propertyMethod.getSlot()];
+    }
+
+    @Override
+    protected Object invokeInternal(Object proxy, Method method, Object[] args) {
+        throw new IllegalStateException("Unknown method: " + method);
     }
 }
@@ -27,14 +27,11 @@ package com.sabre.oss.conf4j.internal.model.provider;
 import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
 import com.sabre.oss.conf4j.internal.model.ConfigurationModelProvider;
 import com.sabre.oss.conf4j.internal.model.PropertyModel;
-import com.sabre.oss.conf4j.internal.utils.spring.ConcurrentReferenceHashMap;
 
 import java.lang.reflect.Method;
 import java.util.*;
-import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
-import static com.sabre.oss.conf4j.internal.utils.spring.ConcurrentReferenceHashMap.ReferenceType.SOFT;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
@@ -43,10 +40,14 @@ import static java.util.stream.Collectors.toList;
 /**
  * Base class which simplifies implementation of {@link ConfigurationModelProvider}.
  * It provides caching capability, and default validations.
+ * <p>
+ * Models are cached with {@link ClassValue}, so they stay cached as long as the configuration type is reachable
+ * (they are never evicted due to memory pressure) and don't prevent its class loader from being garbage collected.
+ * Cached models can be removed explicitly by {@link #evict(Class)} and {@link #clear()}.
  */
 public abstract class AbstractConfigurationModelProvider implements ConfigurationModelProvider {
-    protected final ConcurrentMap<Class<?>, ConfigurationModel> modelCache = new ConcurrentReferenceHashMap<>(64, SOFT);
-    protected final ConcurrentMap<Class<?>, Boolean> isConfigurationCache = new ConcurrentReferenceHashMap<>(64, SOFT);
+    private volatile ClassValue<ConfigurationModel> modelCache = createModelCache();
+    private volatile ClassValue<Boolean> isConfigurationCache = createIsConfigurationCache();
 
     protected final MetadataExtractor metadataExtractor;
     protected final MethodsProvider methodsProvider = new MethodsProvider();
@@ -64,7 +65,7 @@ public abstract class AbstractConfigurationModelProvider implements Configuratio
     public boolean isConfigurationType(Class<?> type) {
         requireNonNull(type, "type cannot be null");
 
-        return isConfigurationCache.computeIfAbsent(type, (key) -> metadataExtractor.isConfigurationClass(type));
+        return isConfigurationCache.get(type);
     }
 
     /**
@@ -74,7 +75,46 @@ public abstract class AbstractConfigurationModelProvider implements Configuratio
     public ConfigurationModel getConfigurationModel(Class<?> configurationType) {
         requireNonNull(configurationType, "configurationType cannot be null");
 
-        return modelCache.computeIfAbsent(configurationType, (key) -> parseConfiguration(configurationType));
+        return modelCache.get(configurationType);
+    }
+
+    /**
+     * Removes the cached model of {@code configurationType}.
+     *
+     * @param configurationType configuration type.
+     * @throws NullPointerException when {@code configurationType} is {@code null}.
+     */
+    public void evict(Class<?> configurationType) {
+        requireNonNull(configurationType, "configurationType cannot be null");
+
+        modelCache.remove(configurationType);
+        isConfigurationCache.remove(configurationType);
+    }
+
+    /**
+     * Removes all cached models.
+     */
+    public void clear() {
+        modelCache = createModelCache();
+        isConfigurationCache = createIsConfigurationCache();
+    }
+
+    private ClassValue<ConfigurationModel> createModelCache() {
+        return new ClassValue<ConfigurationModel>() {
+            @Override
+            protected ConfigurationModel computeValue(Class<?> type) {
+                return parseConfiguration(type);
+            }
+        };
+    }
+
+    private ClassValue<Boolean> createIsConfigurationCache() {
+        return new ClassValue<Boolean>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                return metadataExtractor.isConfigurationClass(type);
+            }
+        };
     }
 
     protected ConfigurationModel parseConfiguration(Class<?> configurationType) {
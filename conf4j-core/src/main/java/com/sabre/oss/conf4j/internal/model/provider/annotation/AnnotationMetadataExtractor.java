@@ -242,14 +242,14 @@ public class AnnotationMetadataExtractor implements MetadataExtractor {
         Class<?> defaultsAnnotation = findAnnotation(method.getReturnType(), DefaultsAnnotation.class).value();
         @SuppressWarnings("unchecked")
         Annotation annotation = findAnnotation(method, (Class<? extends Annotation>) defaultsAnnotation);
-        return getDefaultValues(annotation);
+        return getDefaultValues(method.getDeclaringClass(), annotation);
     }
 
     @Override
     public List<Map<String, String>> getSubConfigurationListDefaultValues(Class<?> configurationType, Method method) {
         Class<?> subConfigurationClazz = getSubConfigurationListElementType(configurationType, method);
         Annotation[] defaultsAnnotations = getDefaultsAnnotations(subConfigurationClazz, method);
-        return getDefaultValues(defaultsAnnotations);
+        return getDefaultValues(method.getDeclaringClass(), defaultsAnnotations);
     }
 
     @Override
@@ -319,23 +319,23 @@ public class AnnotationMetadataExtractor implements MetadataExtractor {
         }
     }
 
-    private List<Map<String, String>> getDefaultValues(Annotation[] annotations) {
+    private List<Map<String, String>> getDefaultValues(Class<?> declaringClass, Annotation[] annotations) {
         if (ArrayUtils.isEmpty(annotations)) {
             return emptyList();
         }
         List<Map<String, String>> result = new ArrayList<>(annotations.length);
         for (Annotation annotation : annotations) {
-            result.add(getDefaultValues(annotation));
+            result.add(getDefaultValues(declaringClass, annotation));
         }
         return unmodifiableList(result);
     }
 
-    private Map<String, String> getDefaultValues(Annotation annotation) {
+    private Map<String, String> getDefaultValues(Class<?> declaringClass, Annotation annotation) {
         if (annotation == null) {
             return emptyMap();
         }
         Map<String, String> values = new HashMap<>();
-        for (Entry<String, Object> entry : getAnnotationAttributes(annotation).entrySet()) {
+        for (Entry<String, Object> entry : getAnnotationAttributes(declaringClass, annotation).entrySet()) {
             String key = entry.getKey();
             Object value = entry.getValue();
             if (value != null && !(value instanceof String)) {
@@ -369,7 +369,7 @@ public class AnnotationMetadataExtractor implements MetadataExtractor {
 
         Annotation defaultsValueAnnotation = findAnnotation(method, targetCollectionDefaultsAnnotationClass);
         if (defaultsValueAnnotation != null) {
-            if (getAnnotationAttributes(defaultsValueAnnotation) == null) {
+            if (getAnnotationAttributes(method.getDeclaringClass(), defaultsValueAnnotation) == null) {
                 throw new IllegalArgumentException(targetCollectionDefaultsAnnotationClass.getName() + " requires non null value on method " + method.getName());
             }
         }
@@ -378,7 +378,7 @@ public class AnnotationMetadataExtractor implements MetadataExtractor {
         if (annotation == null) {
             return EMPTY_ANNOTATIONS;
         }
-        Object value = getAnnotationAttributes(annotation).get("value");
+        Object value = getAnnotationAttributes(method.getDeclaringClass(), annotation).get("value");
         if (value instanceof Annotation[]) {
             return (Annotation[]) value;
         }
@@ -34,7 +34,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.*;
 
-import static com.sabre.oss.conf4j.internal.utils.CachedAnnotationUtils.getAnnotationAttributes;
+import static com.sabre.oss.conf4j.internal.utils.spring.AnnotationUtils.getAnnotationAttributes;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Collections.reverse;
@@ -28,62 +28,99 @@ import com.sabre.oss.conf4j.internal.utils.spring.AnnotationUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.function.Supplier;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableMap;
 
+/**
+ * Cached variants of {@link AnnotationUtils} lookups.
+ * <p>
+ * The results are kept in {@link ClassValueCache}s associated with the class which declares the inspected
+ * element, so they are released together with the class. Use {@link #evict(Class)} or {@link #clear()}
+ * to remove them explicitly.
+ */
 public final class CachedAnnotationUtils {
-    private static final Cache<List<Annotation>> getMethodAnnotationsCache = new Cache<>();
-    private static final Cache<Annotation> getMethodAnnotationCache = new Cache<>();
-    private static final Cache<Annotation> findMethodAnnotationCache = new Cache<>();
-    private static final Cache<Boolean> annotationDeclaredLocallyCache = new Cache<>();
-    private static final Cache<? extends Annotation> classAnnotationCache = new Cache<>();
-    private static final Cache<Map<String, Object>> annotationAttributesCache = new Cache<>();
-    private static final Cache<Annotation> classMethodAnnotationCache = new Cache<>();
-    private static final Cache<Boolean> classAnnotatedByAnnotationInPackageCache = new Cache<>();
+    private static final ClassValueCache<List<Annotation>> getMethodAnnotationsCache = new ClassValueCache<>();
+    private static final ClassValueCache<Annotation> getMethodAnnotationCache = new ClassValueCache<>();
+    private static final ClassValueCache<Annotation> findMethodAnnotationCache = new ClassValueCache<>();
+    private static final ClassValueCache<Boolean> annotationDeclaredLocallyCache = new ClassValueCache<>();
+    private static final ClassValueCache<Annotation> classAnnotationCache = new ClassValueCache<>();
+    private static final ClassValueCache<Map<String, Object>> annotationAttributesCache = new ClassValueCache<>();
+    private static final ClassValueCache<Annotation> classMethodAnnotationCache = new ClassValueCache<>();
+    private static final ClassValueCache<Boolean> classAnnotatedByAnnotationInPackageCache = new ClassValueCache<>();
+    private static final List<ClassValueCache<?>> caches = asList(
+            getMethodAnnotationsCache, getMethodAnnotationCache, findMethodAnnotationCache, annotationDeclaredLocallyCache,
+            classAnnotationCache, annotationAttributesCache, classMethodAnnotationCache, classAnnotatedByAnnotationInPackageCache);
 
     private CachedAnnotationUtils() {
         // Do nothing
     }
 
     public static List<Annotation> getAnnotations(Method method) {
-        return getMethodAnnotationsCache.get(() -> Arrays.asList(AnnotationUtils.getAnnotations(method)), method);
+        return getMethodAnnotationsCache.get(method.getDeclaringClass(), method, (type, m) -> asList(AnnotationUtils.getAnnotations(m)));
     }
 
     public static <A extends Annotation> A findAnnotation(Method method, Class<A> annotationType) {
-        return annotationType.cast(findMethodAnnotationCache.get(() -> findAnnotationInternal(method, annotationType), method, annotationType));
+        return annotationType.cast(findMethodAnnotationCache.get(method.getDeclaringClass(), method, annotationType, (type, m, a) -> findAnnotationInternal(m, a)));
     }
 
     public static boolean isAnnotationDeclaredLocally(Class<?> clazz, Class<? extends Annotation> annotationType) {
-        Supplier<Boolean> provider = () -> AnnotationUtils.isAnnotationDeclaredLocally(annotationType, clazz);
-
-        return annotationDeclaredLocallyCache.get(provider, annotationType, clazz);
+        return annotationDeclaredLocallyCache.get(clazz, annotationType, (type, a) -> AnnotationUtils.isAnnotationDeclaredLocally(a, type));
     }
 
     public static <A extends Annotation> A findAnnotation(Class<?> clazz, Class<A> annotationType) {
-        return annotationType.cast(classAnnotationCache.get((Supplier<Annotation>) () -> AnnotationUtils.findAnnotation(clazz, annotationType), clazz, annotationType));
+        return annotationType.cast(classAnnotationCache.get(clazz, annotationType, (type, a) -> AnnotationUtils.findAnnotation(type, a)));
     }
 
-    public static Map<String, Object> getAnnotationAttributes(Annotation annotation) {
-        return annotationAttributesCache.get(() -> unmodifiableMap(AnnotationUtils.getAnnotationAttributes(annotation)), annotation);
+    /**
+     * Provides attributes of the annotation declared on {@code declaringClass} (or on its member).
+     * <p>
+     * The result is associated with {@code declaringClass} rather than with the annotation type. Attribute values
+     * can reference classes loaded by the class loader of {@code declaringClass}, so keeping them with the annotation
+     * type (which is usually loaded by a parent class loader) would prevent that class loader from being released.
+     *
+     * @param declaringClass class which declares the annotation or the annotated member.
+     * @param annotation     annotation.
+     * @return unmodifiable map of annotation attributes.
+     */
+    public static Map<String, Object> getAnnotationAttributes(Class<?> declaringClass, Annotation annotation) {
+        return annotationAttributesCache.get(declaringClass, annotation, (type, a) -> unmodifiableMap(AnnotationUtils.getAnnotationAttributes(a)));
     }
 
     private static <A extends Annotation> A getAnnotation(Method method, Class<A> annotationType) {
-        return annotationType.cast(getMethodAnnotationCache.get(() -> AnnotationUtils.getAnnotation(method, annotationType), method, annotationType));
+        return annotationType.cast(getMethodAnnotationCache.get(method.getDeclaringClass(), method, annotationType, (type, m, a) -> AnnotationUtils.getAnnotation(m, a)));
     }
 
     public static <A extends Annotation> A findMethodAnnotation(Class<?> clazz, Method method, Class<A> annotationType) {
-        return annotationType.cast(classMethodAnnotationCache.get(() -> findMethodAnnotationInternal(clazz, method, annotationType), clazz, method, annotationType));
+        return annotationType.cast(classMethodAnnotationCache.get(clazz, method, annotationType, CachedAnnotationUtils::findMethodAnnotationInternal));
     }
 
     public static boolean isClassAnnotatedByAnyAnnotationInPackage(Class<?> configurationClass, String packageName) {
-        return classAnnotatedByAnnotationInPackageCache.get(() -> isClassAnnotatedByAnyAnnotationInPackageInternal(configurationClass, packageName), configurationClass, packageName);
+        return classAnnotatedByAnnotationInPackageCache.get(configurationClass, packageName, CachedAnnotationUtils::isClassAnnotatedByAnyAnnotationInPackageInternal);
+    }
+
+    /**
+     * Removes cached results associated with {@code type}, i.e. related to the class itself, the methods
+     * it declares and the annotations declared on them.
+     *
+     * @param type class which cached results should be removed.
+     * @throws NullPointerException when {@code type} is {@code null}.
+     */
+    public static void evict(Class<?> type) {
+        for (ClassValueCache<?> cache : caches) {
+            cache.evict(type);
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public static void clear() {
+        for (ClassValueCache<?> cache : caches) {
+            cache.clear();
+        }
     }
 
     private static <A extends Annotation> A findAnnotationInternal(Method method, Class<A> annotationType) {
@@ -171,50 +208,4 @@ public final class CachedAnnotationUtils {
 
         return false;
     }
-
-
-    private static class Cache<V> {
-        private static final Object NULL = new Object();
-
-        private final ConcurrentMap<MultiKey, Object> cache = new ConcurrentHashMap<>();
-
-        @SuppressWarnings("unchecked")
-        public V get(Supplier<? super V> supplier, Object... params) {
-            MultiKey key = new MultiKey(params);
-            Object value = cache.get(key);
-            if (value == null) {
-                value = supplier.get();
-                cache.putIfAbsent(key, (value != null) ? value : NULL);
-            }
-            return (V) ((value != NULL) ? value : null);
-        }
-    }
-
-    private static final class MultiKey {
-        private final Object[] keys;
-        private final int hashCode;
-
-        private MultiKey(Object[] keys) {
-            this.keys = keys;
-            this.hashCode = Objects.hash(keys);
-        }
-
-        @Override
-        public boolean equals(Object other) {
-            if (other == this) {
-                return true;
-            } else if (other instanceof MultiKey) {
-                MultiKey otherMulti = (MultiKey) other;
-                return Arrays.equals(this.keys, otherMulti.keys);
-            } else {
-                return false;
-            }
-        }
-
-        @Override
-        public int hashCode() {
-            return hashCode;
-        }
-    }
-
 }
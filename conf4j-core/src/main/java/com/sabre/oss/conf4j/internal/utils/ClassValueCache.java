@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.internal.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Cache of values associated with a class, backed by {@link ClassValue}.
+ * <p>
+ * Values are stored together with the class they are associated with, so they are strongly reachable
+ * only as long as the class is, and don't prevent its class loader from being garbage collected.
+ * Lookups don't allocate - the keys are resolved through nested maps instead of a composite key.
+ * <p>
+ * A cache instance should be used either with single-key or with two-key lookups, not with both.
+ * {@code null} values are supported and cached as well.
+ *
+ * @param <V> type of the cached values.
+ */
+public final class ClassValueCache<V> {
+    private static final Object NULL = new Object();
+
+    private volatile ClassValue<ConcurrentMap<Object, Object>> values = createValues();
+
+    /**
+     * Provides a value associated with {@code type} and {@code key}, loading it when not cached yet.
+     *
+     * @param type   class the value is associated with.
+     * @param key    key of the value.
+     * @param loader function which loads the value from {@code type} and {@code key}.
+     * @param <K>    type of the key.
+     * @return cached or loaded value.
+     * @throws NullPointerException when {@code type}, {@code key} or {@code loader} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public <K> V get(Class<?> type, K key, BiFunction<Class<?>, ? super K, ? extends V> loader) {
+        ConcurrentMap<Object, Object> map = values.get(type);
+        Object value = map.get(key);
+        if (value == null) {
+            value = loader.apply(type, key);
+            value = putIfAbsent(map, key, value);
+        }
+        return (V) (value != NULL ? value : null);
+    }
+
+    /**
+     * Provides a value associated with {@code type}, {@code key1} and {@code key2}, loading it when not cached yet.
+     *
+     * @param type   class the value is associated with.
+     * @param key1   first key of the value.
+     * @param key2   second key of the value.
+     * @param loader loader which loads the value from {@code type}, {@code key1} and {@code key2}.
+     * @param <A>    type of the first key.
+     * @param <B>    type of the second key.
+     * @return cached or loaded value.
+     * @throws NullPointerException when {@code type}, {@code key1}, {@code key2} or {@code loader} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public <A, B> V get(Class<?> type, A key1, B key2, Loader<? super A, ? super B, ? extends V> loader) {
+        ConcurrentMap<Object, Object> map = values.get(type);
+        ConcurrentMap<Object, Object> nested = (ConcurrentMap<Object, Object>) map.get(key1);
+        if (nested == null) {
+            nested = (ConcurrentMap<Object, Object>) putIfAbsent(map, key1, new ConcurrentHashMap<>(4));
+        }
+        Object value = nested.get(key2);
+        if (value == null) {
+            value = loader.load(type, key1, key2);
+            value = putIfAbsent(nested, key2, value);
+        }
+        return (V) (value != NULL ? value : null);
+    }
+
+    /**
+     * Removes all values associated with {@code type}.
+     *
+     * @param type class which values should be removed.
+     * @throws NullPointerException when {@code type} is {@code null}.
+     */
+    public void evict(Class<?> type) {
+        values.remove(requireNonNull(type, "type cannot be null"));
+    }
+
+    /**
+     * Removes all values from the cache.
+     */
+    public void clear() {
+        values = createValues();
+    }
+
+    private static Object putIfAbsent(ConcurrentMap<Object, Object> map, Object key, Object value) {
+        Object masked = value != null ? value : NULL;
+        Object existing = map.putIfAbsent(key, masked);
+        return existing != null ? existing : masked;
+    }
+
+    private static ClassValue<ConcurrentMap<Object, Object>> createValues() {
+        return new ClassValue<ConcurrentMap<Object, Object>>() {
+            @Override
+            protected ConcurrentMap<Object, Object> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>(8);
+            }
+        };
+    }
+
+    /**
+     * Loads a value identified by a class and two keys.
+     *
+     * @param <A> type of the first key.
+     * @param <B> type of the second key.
+     * @param <V>  type of the value.
+     */
+    @FunctionalInterface
+    public interface Loader<A, B, V> {
+        V load(Class<?> type, A key1, B key2);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.internal.utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Helper methods which recognize values of well-known immutable types, so they can be safely shared and cached.
+ */
+public final class ImmutableUtils {
+    /**
+     * Types (other than {@link String}, primitive wrappers, enums and {@code java.time} types) whose instances are
+     * immutable.
+     */
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(asList(
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, UUID.class, Currency.class, Locale.class, Pattern.class,
+            URI.class, Charset.class));
+
+    private ImmutableUtils() {
+    }
+
+    /**
+     * Checks whether the value is an instance of well-known immutable type.
+     *
+     * @param value value to check.
+     * @return {@code true} when the value is {@code null} or it is known to be immutable, {@code false} otherwise
+     * (also when the value is immutable, but its type is not recognized).
+     */
+    public static boolean isImmutable(Object value) {
+        return value == null
+                || value instanceof String
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Enum
+                || value instanceof Class
+                || IMMUTABLE_TYPES.contains(value.getClass())
+                || value.getClass().getName().startsWith("java.time.");
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.source;
+
+import java.util.Collection;
+
+/**
+ * Immutable Bloom filter of configuration keys.
+ * <p>
+ * Bit positions are derived from {@link String#hashCode()} (which is cached by strings) using double hashing.
+ */
+final class BloomFilter {
+    private final long[] bits;
+    private final int mask;
+    private final int hashFunctions;
+
+    private BloomFilter(long[] bits, int hashFunctions) {
+        this.bits = bits;
+        this.mask = bits.length * Long.SIZE - 1;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Creates the filter of {@code keys}.
+     *
+     * @param keys       keys.
+     * @param bitsPerKey the number of bits per key, affects the false positive probability.
+     * @return Bloom filter.
+     */
+    static BloomFilter of(Collection<String> keys, int bitsPerKey) {
+        long bitCount = Math.max((long) keys.size() * bitsPerKey, Long.SIZE);
+        int words = (int) Math.min(Long.highestOneBit(bitCount - 1) << 1, 1 << 26) / Long.SIZE;
+        // optimal number of hash functions is bitsPerKey * ln(2)
+        int hashFunctions = Math.max(1, (int) Math.round(bitsPerKey * 0.69));
+        BloomFilter filter = new BloomFilter(new long[words], hashFunctions);
+        for (String key : keys) {
+            filter.add(key);
+        }
+        return filter;
+    }
+
+    boolean mightContain(String key) {
+        long hash = mix(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashFunctions; i++) {
+            int bit = (h1 + i * h2) & mask;
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(String key) {
+        long hash = mix(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashFunctions; i++) {
+            int bit = (h1 + i * h2) & mask;
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    private static long mix(int hash) {
+        // 64-bit finalizer of MurmurHash3
+        long h = hash * 0x9e3779b97f4a7c15L;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h | 1L << 32;
+    }
+}
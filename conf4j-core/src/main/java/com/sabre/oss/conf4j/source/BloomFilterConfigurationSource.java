@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.source;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.Validate.isTrue;
+
+/**
+ * Configuration value source which decorates an iterable and versioned source with the Bloom filter of its keys.
+ * <p>
+ * The filter is built from {@link IterableConfigurationSource#getAllConfigurationEntries()} and rebuilt when
+ * the version of the source changes. It allows {@link MultiConfigurationSource} to skip the source when it definitely
+ * does not contain a key, which is beneficial when a miss is expensive (e.g. remote sources).
+ * <p>
+ * It is <i>thread safe</i> when the decorated source is.
+ */
+public class BloomFilterConfigurationSource implements IterableConfigurationSource, VersionedConfigurationSource, MembershipAwareConfigurationSource {
+    private static final int DEFAULT_BITS_PER_KEY = 10;
+
+    private final IterableConfigurationSource source;
+    private final VersionedConfigurationSource versionedSource;
+    private final int bitsPerKey;
+    private volatile VersionedFilter filter;
+
+    /**
+     * Decorates the source with Bloom filter which uses 10 bits per key (the false positive probability is about 1%).
+     *
+     * @param source decorated source.
+     * @param <S>    type of the source.
+     * @throws NullPointerException when {@code source} is {@code null}.
+     */
+    public <S extends IterableConfigurationSource & VersionedConfigurationSource> BloomFilterConfigurationSource(S source) {
+        this(source, DEFAULT_BITS_PER_KEY);
+    }
+
+    /**
+     * Decorates the source with Bloom filter.
+     *
+     * @param source     decorated source.
+     * @param bitsPerKey the number of bits per key, the more bits the lower false positive probability.
+     * @param <S>        type of the source.
+     * @throws NullPointerException     when {@code source} is {@code null}.
+     * @throws IllegalArgumentException when {@code bitsPerKey} is not positive.
+     */
+    public <S extends IterableConfigurationSource & VersionedConfigurationSource> BloomFilterConfigurationSource(S source, int bitsPerKey) {
+        this.source = requireNonNull(source, "source cannot be null");
+        this.versionedSource = source;
+        isTrue(bitsPerKey > 0, "bitsPerKey must be positive");
+        this.bitsPerKey = bitsPerKey;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OptionalValue<String> getValue(String key, Map<String, String> attributes) {
+        return source.getValue(key, attributes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConfigurationEntry findEntry(Collection<String> keys, Map<String, String> attributes) {
+        return source.findEntry(keys, attributes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<List<String>, ConfigurationEntry> findEntries(Collection<List<String>> keySets, Map<String, String> attributes) {
+        return source.findEntries(keySets, attributes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterable<ConfigurationEntry> getAllConfigurationEntries() {
+        return source.getAllConfigurationEntries();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterable<ConfigurationEntry> getConfigurationEntriesWithPrefix(String prefix) {
+        return source.getConfigurationEntriesWithPrefix(prefix);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return versionedSource.getVersion();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean mightContainKey(String key) {
+        requireNonNull(key, "key cannot be null");
+
+        return getFilter().mightContain(key);
+    }
+
+    private BloomFilter getFilter() {
+        long version = versionedSource.getVersion();
+        VersionedFilter current = filter;
+        if (current == null || current.version != version) {
+            synchronized (this) {
+                current = filter;
+                if (current == null || current.version != version) {
+                    // the version is read before the entries, so modifications made meanwhile are detected later
+                    List<String> keys = new ArrayList<>();
+                    for (ConfigurationEntry entry : source.getAllConfigurationEntries()) {
+                        keys.add(entry.getKey());
+                    }
+                    current = new VersionedFilter(version, BloomFilter.of(keys, bitsPerKey));
+                    filter = current;
+                }
+            }
+        }
+        return current.filter;
+    }
+
+    private static final class VersionedFilter {
+        private final long version;
+        private final BloomFilter filter;
+
+        private VersionedFilter(long version, BloomFilter filter) {
+            this.version = version;
+            this.filter = filter;
+        }
+    }
+}
@@ -25,6 +25,7 @@
 package com.sabre.oss.conf4j.source;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -64,4 +65,19 @@ public interface ConfigurationSource {
     default ConfigurationEntry findEntry(Collection<String> keys, Map<String, String> attributes) {
         return ConfigurationSourceUtils.findEntry(this, keys, attributes);
     }
+
+    /**
+     * Returns configuration entries for many key sets at once. It is equivalent to invoking
+     * {@link #findEntry(Collection, Map)} for each key set, but sources backed by a remote or slow store
+     * should override it and resolve all key sets in a single round trip.
+     *
+     * @param keySets    collection of key sets, each of them is examined in order like in {@link #findEntry(Collection, Map)}.
+     *                   It must be not {@code null} nor contains {@code null} elements.
+     * @param attributes custom meta-data associated with properties. It can be {@code null}.
+     * @return (non null) map of key sets to configuration entries. Key sets for which no value is found are not present in the map.
+     * @throws NullPointerException when {@code keySets} or any key set in {@code keySets} is {@code null}.
+     */
+    default Map<List<String>, ConfigurationEntry> findEntries(Collection<List<String>> keySets, Map<String, String> attributes) {
+        return ConfigurationSourceUtils.findEntries(this, keySets, attributes);
+    }
 }
@@ -25,6 +25,8 @@
 package com.sabre.oss.conf4j.source;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static java.util.Objects.requireNonNull;
@@ -49,4 +51,22 @@ final class ConfigurationSourceUtils {
         }
         return null;
     }
+
+    static Map<List<String>, ConfigurationEntry> findEntries(
+            ConfigurationSource configurationSource,
+            Collection<List<String>> keySets,
+            Map<String, String> attributes
+    ) {
+        requireNonNull(configurationSource, "configurationSource cannot be null");
+        requireNonNull(keySets, "keySets cannot be null");
+
+        Map<List<String>, ConfigurationEntry> entries = new HashMap<>();
+        for (List<String> keySet : keySets) {
+            ConfigurationEntry entry = configurationSource.findEntry(requireNonNull(keySet, "keySet cannot be null"), attributes);
+            if (entry != null) {
+                entries.put(keySet, entry);
+            }
+        }
+        return entries;
+    }
 }
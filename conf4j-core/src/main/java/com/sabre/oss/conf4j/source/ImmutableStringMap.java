@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.source;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+
+/**
+ * Immutable, open-addressing map of configuration keys to values.
+ * <p>
+ * It is <i>thread safe</i> and lock-free. Entries are stored in an array, so they can be iterated without copying.
+ * Equal values are shared by all the entries which use them.
+ */
+final class ImmutableStringMap implements Iterable<ConfigurationEntry> {
+    private final ConfigurationEntry[] entries;
+    // indexes (increased by one) of entries, zero denotes an empty slot
+    private final int[] table;
+
+    private ImmutableStringMap(ConfigurationEntry[] entries) {
+        this.entries = entries;
+        this.table = new int[Integer.highestOneBit(Math.max(entries.length, 1)) << 2];
+        for (int i = 0; i < entries.length; i++) {
+            table[slot(entries[i].getKey())] = i + 1;
+        }
+    }
+
+    /**
+     * Creates the snapshot of {@code properties}, including default properties. Properties with non-string
+     * keys or values are skipped.
+     *
+     * @param properties properties.
+     * @return immutable map.
+     */
+    static ImmutableStringMap of(Properties properties) {
+        Map<String, String> values = new HashMap<>();
+        ConfigurationEntry[] entries = properties.stringPropertyNames().stream()
+                .map(key -> new ConfigurationEntry(key, deduplicate(values, properties.getProperty(key))))
+                .toArray(ConfigurationEntry[]::new);
+        return new ImmutableStringMap(entries);
+    }
+
+    /**
+     * Provides the value associated with {@code key}.
+     *
+     * @param key configuration key.
+     * @return the value or {@code null} when there is no such key.
+     */
+    String get(String key) {
+        int index = table[slot(key)];
+        return index == 0 ? null : entries[index - 1].getValue();
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    @Override
+    public Iterator<ConfigurationEntry> iterator() {
+        return new Iterator<ConfigurationEntry>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < entries.length;
+            }
+
+            @Override
+            public ConfigurationEntry next() {
+                if (index >= entries.length) {
+                    throw new NoSuchElementException();
+                }
+                return entries[index++];
+            }
+        };
+    }
+
+    /**
+     * Finds the slot of {@code key} or the empty slot where it should be placed (linear probing).
+     */
+    private int slot(String key) {
+        int mask = table.length - 1;
+        int h = key.hashCode();
+        int slot = (h ^ (h >>> 16)) & mask;
+        int index;
+        while ((index = table[slot]) != 0 && !entries[index - 1].getKey().equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static String deduplicate(Map<String, String> values, String value) {
+        String existing = values.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+}
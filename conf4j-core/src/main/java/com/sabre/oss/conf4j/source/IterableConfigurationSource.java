@@ -24,6 +24,11 @@
 
 package com.sabre.oss.conf4j.source;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
 /**
  * A configuration value source that allows iterating over all configuration entries.
  */
@@ -34,4 +39,26 @@ public interface IterableConfigurationSource extends ConfigurationSource {
      * @return an {@link Iterable} that allows navigating over all entries.
      */
     Iterable<ConfigurationEntry> getAllConfigurationEntries();
+
+    /**
+     * Provides configuration entries which keys start with {@code prefix}.
+     * <p>
+     * The default implementation filters {@link #getAllConfigurationEntries()}, sources which index their keys
+     * should override it.
+     *
+     * @param prefix key prefix, it cannot be {@code null}.
+     * @return an {@link Iterable} that allows navigating over the entries with the prefix.
+     * @throws NullPointerException when {@code prefix} is {@code null}.
+     */
+    default Iterable<ConfigurationEntry> getConfigurationEntriesWithPrefix(String prefix) {
+        requireNonNull(prefix, "prefix cannot be null");
+
+        List<ConfigurationEntry> entries = new ArrayList<>();
+        for (ConfigurationEntry entry : getAllConfigurationEntries()) {
+            if (entry.getKey().startsWith(prefix)) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
 }
@@ -28,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -67,4 +68,15 @@ public class LoggingConfigurationSource implements ConfigurationSource {
         }
         return entry;
     }
+
+    @Override
+    public Map<List<String>, ConfigurationEntry> findEntries(Collection<List<String>> keySets, Map<String, String> attributes) {
+        Map<List<String>, ConfigurationEntry> entries = source.findEntries(keySets, attributes);
+        if (log.isInfoEnabled()) {
+            for (List<String> keys : keySets) {
+                log.info("{}=[{}] {}", join(keys, ", "), entries.get(keys), Objects.toString(attributes, "(no attributes)"));
+            }
+        }
+        return entries;
+    }
 }
@@ -24,7 +24,9 @@
 
 package com.sabre.oss.conf4j.source;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.sabre.oss.conf4j.source.OptionalValue.absent;
 import static com.sabre.oss.conf4j.source.OptionalValue.present;
@@ -33,19 +35,26 @@ import static java.util.Objects.requireNonNull;
 /**
  * Configuration value source backed by {@code Map<String, String>}.
  * <p>
- * It <i>may or <b>may not</b> be thread safe</i> - it depends on the backing map.
+ * The source takes a copy of the map it is created from, so later modifications of that map are not visible.
+ * It is <i>thread safe</i>.
+ * <p>
+ * The source is {@link VersionedConfigurationSource versioned}. The copy can be modified only by subclasses
+ * (see {@link WritableMapConfigurationSource}) which must invoke {@link #incrementVersion()} after each modification,
+ * so the version covers every change of the content.
  */
-public class MapConfigurationSource implements IterableConfigurationSource {
+public class MapConfigurationSource implements IterableConfigurationSource, VersionedConfigurationSource {
     protected final Map<String, String> source;
+    private final AtomicLong version = new AtomicLong();
 
     /**
      * Constructs values source.
      *
      * @param source the map that holds configuration keys. It cannot contain {@code null} keys.
+     *               The map is copied, the iteration order is preserved.
      * @throws NullPointerException when {@code source} is null.
      */
     public MapConfigurationSource(Map<String, String> source) {
-        this.source = requireNonNull(source, "source cannot be null");
+        this.source = new LinkedHashMap<>(requireNonNull(source, "source cannot be null"));
     }
 
     /**
@@ -67,4 +76,19 @@ public class MapConfigurationSource implements IterableConfigurationSource {
     public Iterable<ConfigurationEntry> getAllConfigurationEntries() {
         return new MapConfigurationEntryIterable(source);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Increments the version of this source. It must be invoked <b>after</b> the map is modified.
+     */
+    protected void incrementVersion() {
+        version.incrementAndGet();
+    }
 }
@@ -0,0 +1,436 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.source;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+
+import static com.sabre.oss.conf4j.source.OptionalValue.absent;
+import static com.sabre.oss.conf4j.source.OptionalValue.present;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Configuration value source backed by a memory-mapped property file, suitable for very large files.
+ * <p>
+ * The file is not parsed into {@link Properties}. When the source is created, the file is scanned once and only
+ * a compact index of key hashes and offsets of the lines is built. Keys and values are decoded lazily when
+ * they are looked up, so the file contents stay off-heap, in the page cache.
+ * <p>
+ * The file must use the {@link Properties#load(java.io.InputStream)} format (ISO 8859-1 encoding, comments,
+ * line continuations and escape sequences are supported). As values are decoded lazily, a malformed
+ * {@code \}{@code uxxxx} escape sequence in a value is reported when the value is read. When a key is duplicated,
+ * the last value wins. The file must not be modified while it is used by the source and must not be larger
+ * than 2GB.
+ * <p>
+ * It is <i>thread safe</i>. The source is {@link VersionedConfigurationSource versioned}, but it never changes,
+ * so its version is always {@code 0}.
+ */
+public class MappedPropertiesConfigurationSource implements IterableConfigurationSource, VersionedConfigurationSource {
+    private static final int END = -1;
+    private static final int NO_SEPARATOR = 0;
+
+    private final Path propertyFile;
+    private final ByteBuffer buffer;
+    private final int limit;
+    // key hashes and offsets of logical lines, in the order of the first occurrence of the key
+    private final int[] hashes;
+    private final int[] offsets;
+    // indexes (increased by one) of hashes and offsets, zero denotes an empty slot
+    private final int[] table;
+
+    /**
+     * Constructs values source from a property file.
+     *
+     * @param propertyFile name of property file.
+     * @throws IllegalArgumentException when the format of a property key is invalid or the file is too large.
+     * @throws UncheckedIOException     when {@link IOException} thrown while mapping the property file.
+     */
+    public MappedPropertiesConfigurationSource(String propertyFile) {
+        this(Paths.get(requireNonNull(propertyFile, "propertyFile cannot be null")));
+    }
+
+    /**
+     * Constructs values source from a property file.
+     *
+     * @param propertyFile property file.
+     * @throws IllegalArgumentException when the format of a property key is invalid or the file is too large.
+     * @throws UncheckedIOException     when {@link IOException} thrown while mapping the property file.
+     */
+    public MappedPropertiesConfigurationSource(Path propertyFile) {
+        this.propertyFile = requireNonNull(propertyFile, "propertyFile cannot be null");
+        this.buffer = map(propertyFile);
+        this.limit = buffer.limit();
+
+        Index index = scan();
+        int[] table = new int[Integer.highestOneBit(Math.max(index.size, 1)) << 2];
+        int size = 0;
+        for (int i = 0; i < index.size; i++) {
+            int slot = slot(table, index.hashes, index.offsets, index.hashes[i], index.offsets[i]);
+            if (table[slot] == 0) {
+                index.hashes[size] = index.hashes[i];
+                index.offsets[size] = index.offsets[i];
+                table[slot] = ++size;
+            } else {
+                // duplicated key, the last value wins
+                index.offsets[table[slot] - 1] = index.offsets[i];
+            }
+        }
+        this.hashes = Arrays.copyOf(index.hashes, size);
+        this.offsets = Arrays.copyOf(index.offsets, size);
+        this.table = table;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OptionalValue<String> getValue(String key, Map<String, String> attributes) {
+        requireNonNull(key, "key cannot be null");
+
+        int mask = table.length - 1;
+        int hash = key.hashCode();
+        for (int slot = spread(hash) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if (hashes[index] == hash) {
+                Cursor cursor = new Cursor(offsets[index]);
+                if (cursor.matchKey(key)) {
+                    return present(cursor.readValue());
+                }
+            }
+        }
+        return absent();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Keys and values are decoded while iterating.
+     */
+    @Override
+    public Iterable<ConfigurationEntry> getAllConfigurationEntries() {
+        return () -> new Iterator<ConfigurationEntry>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < offsets.length;
+            }
+
+            @Override
+            public ConfigurationEntry next() {
+                if (index >= offsets.length) {
+                    throw new NoSuchElementException();
+                }
+                Cursor cursor = new Cursor(offsets[index++]);
+                String key = cursor.readKey();
+                return new ConfigurationEntry(key, cursor.readValue());
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return 0;
+    }
+
+    /**
+     * Provides the number of keys in the property file.
+     *
+     * @return number of keys.
+     */
+    public int size() {
+        return offsets.length;
+    }
+
+    /**
+     * Provides the property file.
+     *
+     * @return property file.
+     */
+    public Path getPropertyFile() {
+        return propertyFile;
+    }
+
+    private Index scan() {
+        Index index = new Index();
+        int position = 0;
+        while (position < limit) {
+            char c = charAt(position);
+            if (isWhitespace(c) || c == '\n' || c == '\r') {
+                position++;
+            } else if (c == '#' || c == '!') {
+                // comment lines are never continued
+                while (position < limit && charAt(position) != '\n' && charAt(position) != '\r') {
+                    position++;
+                }
+            } else {
+                Cursor cursor = new Cursor(position);
+                index.add(cursor.hashKey(), position);
+                position = cursor.skipLine();
+            }
+        }
+        return index;
+    }
+
+    private int slot(int[] table, int[] hashes, int[] offsets, int hash, int offset) {
+        int mask = table.length - 1;
+        int slot = spread(hash) & mask;
+        int index;
+        while ((index = table[slot]) != 0
+                && (hashes[index - 1] != hash || !new Cursor(offsets[index - 1]).matchKey(new Cursor(offset)))) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private char charAt(int position) {
+        return (char) (buffer.get(position) & 0xff);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+
+    private static ByteBuffer map(Path propertyFile) {
+        try (FileChannel channel = FileChannel.open(propertyFile, READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Property file " + propertyFile + " is too large to be mapped");
+            }
+            return channel.map(READ_ONLY, 0, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Growable arrays of key hashes and line offsets collected while scanning the file.
+     */
+    private static final class Index {
+        private int[] hashes = new int[1024];
+        private int[] offsets = new int[1024];
+        private int size;
+
+        void add(int hash, int offset) {
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            hashes[size] = hash;
+            offsets[size] = offset;
+            size++;
+        }
+    }
+
+    /**
+     * Decodes characters of a logical line, starting at the offset of the key. Line continuations are joined
+     * and escape sequences are decoded, {@link #escaped} indicates if the last character was escaped.
+     */
+    private final class Cursor {
+        private int position;
+        private boolean escaped;
+        // the character which terminated the key, END until the key is consumed, NO_SEPARATOR when there is no value
+        private int separator = END;
+
+        Cursor(int position) {
+            this.position = position;
+        }
+
+        int hashKey() {
+            int hash = 0;
+            int c;
+            while ((c = nextKeyChar()) != END) {
+                hash = 31 * hash + c;
+            }
+            return hash;
+        }
+
+        boolean matchKey(String key) {
+            int length = key.length();
+            int i = 0;
+            int c;
+            while ((c = nextKeyChar()) != END) {
+                if (i >= length || key.charAt(i++) != c) {
+                    return false;
+                }
+            }
+            return i == length;
+        }
+
+        boolean matchKey(Cursor other) {
+            int c;
+            do {
+                c = nextKeyChar();
+                if (c != other.nextKeyChar()) {
+                    return false;
+                }
+            } while (c != END);
+            return true;
+        }
+
+        String readKey() {
+            StringBuilder key = new StringBuilder();
+            int c;
+            while ((c = nextKeyChar()) != END) {
+                key.append((char) c);
+            }
+            return key.toString();
+        }
+
+        /**
+         * Reads the value, the key must be consumed first.
+         */
+        String readValue() {
+            if (separator == NO_SEPARATOR) {
+                return "";
+            }
+            boolean hasSeparator = separator == '=' || separator == ':';
+            int c = next();
+            while (c != END && !escaped && (isWhitespace(c) || (!hasSeparator && (c == '=' || c == ':')))) {
+                hasSeparator |= !isWhitespace(c);
+                c = next();
+            }
+            StringBuilder value = new StringBuilder();
+            while (c != END) {
+                value.append((char) c);
+                c = next();
+            }
+            return value.toString();
+        }
+
+        /**
+         * Skips the rest of the logical line without decoding it.
+         *
+         * @return the position of the next line.
+         */
+        int skipLine() {
+            if (separator == NO_SEPARATOR) {
+                return position;
+            }
+            while (position < limit) {
+                char c = charAt(position++);
+                if (c == '\\') {
+                    if (position < limit && charAt(position++) == '\r' && position < limit && charAt(position) == '\n') {
+                        position++;
+                    }
+                } else if (c == '\n' || c == '\r') {
+                    return skipLineFeed(c);
+                }
+            }
+            return position;
+        }
+
+        private int nextKeyChar() {
+            if (separator != END) {
+                return END;
+            }
+            int c = next();
+            if (c == END || (!escaped && (isWhitespace(c) || c == '=' || c == ':'))) {
+                separator = c == END ? NO_SEPARATOR : c;
+                return END;
+            }
+            return c;
+        }
+
+        private int next() {
+            while (position < limit) {
+                char c = charAt(position++);
+                if (c == '\n' || c == '\r') {
+                    position = skipLineFeed(c);
+                    return END;
+                }
+                if (c != '\\') {
+                    escaped = false;
+                    return c;
+                }
+                if (position >= limit) {
+                    // trailing backslash is dropped
+                    return END;
+                }
+                c = charAt(position++);
+                if (c == '\n' || c == '\r') {
+                    // line continuation, leading whitespaces of the next line are skipped
+                    position = skipLineFeed(c);
+                    while (position < limit && isWhitespace(charAt(position))) {
+                        position++;
+                    }
+                    continue;
+                }
+                escaped = true;
+                return c == 'u' ? unicode() : unescape(c);
+            }
+            return END;
+        }
+
+        private int skipLineFeed(char terminator) {
+            return terminator == '\r' && position < limit && charAt(position) == '\n' ? position + 1 : position;
+        }
+
+        private char unicode() {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = position < limit ? Character.digit(charAt(position++), 16) : -1;
+                if (digit < 0) {
+                    throw new IllegalArgumentException("Malformed \\uxxxx encoding in property file " + propertyFile);
+                }
+                value = (value << 4) + digit;
+            }
+            return (char) value;
+        }
+
+        private char unescape(char c) {
+            switch (c) {
+                case 't':
+                    return '\t';
+                case 'r':
+                    return '\r';
+                case 'n':
+                    return '\n';
+                case 'f':
+                    return '\f';
+                default:
+                    return c;
+            }
+        }
+    }
+}
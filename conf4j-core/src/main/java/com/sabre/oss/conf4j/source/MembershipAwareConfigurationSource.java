@@ -0,0 +1,43 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.source;
+
+/**
+ * A configuration value source which publishes a summary of its keys, so the clients can skip the lookup
+ * when the source definitely does not contain a key.
+ * <p>
+ * It is used by {@link MultiConfigurationSource} to avoid asking the sources which cannot provide the value.
+ *
+ * @see BloomFilterConfigurationSource
+ */
+public interface MembershipAwareConfigurationSource extends ConfigurationSource {
+    /**
+     * Checks if the source may contain the {@code key}. False positives are allowed, false negatives are not.
+     *
+     * @param key configuration key.
+     * @return {@code false} when the source definitely does not contain the {@code key}.
+     */
+    boolean mightContainKey(String key);
+}
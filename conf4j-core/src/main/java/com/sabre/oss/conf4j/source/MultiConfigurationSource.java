@@ -26,10 +26,19 @@ package com.sabre.oss.conf4j.source;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.sabre.oss.conf4j.source.OptionalValue.absent;
+import static com.sabre.oss.conf4j.source.OptionalValue.present;
+import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -39,21 +48,82 @@ import static java.util.Objects.requireNonNull;
  * will be retrieved from the first one on the list.
  * <p>
  * It <i>may or <b>may not</b> be thread safe</i> - it depends on the backing configuration value sources.
+ * <p>
+ * The version of this source combines versions of the underlying sources. When any of them is not
+ * {@link VersionedConfigurationSource}, changes cannot be detected and each {@link #getVersion()} invocation
+ * returns a new version.
+ * <p>
+ * When all the underlying sources are both {@link IterableConfigurationSource} and {@link VersionedConfigurationSource},
+ * the source can use a <i>merged index</i>. The precedence of the sources is resolved once into a single map,
+ * so a key lookup costs one probe regardless of the number of sources. The index is updated in place, when
+ * the version of a source changes, only the keys of that source which have been added, modified or removed are
+ * resolved again. A lookup checks only the versions of the sources which can affect its result (the source
+ * the value comes from and the sources with higher precedence). Each key is updated atomically, but lookups
+ * performed while the index is being updated may see some of the keys already updated. Entries of
+ * {@link MappedPropertiesConfigurationSource} are not copied into the index (they stay off-heap), such
+ * sources are looked up directly. Attributes are not passed to the underlying sources when the merged index is used.
+ * <p>
+ * Otherwise, the sources which are {@link MembershipAwareConfigurationSource} (e.g. {@link BloomFilterConfigurationSource})
+ * are skipped when they definitely do not contain the key. The number of skipped lookups is available
+ * for each source, see {@link #getSkipCount(int)}.
  */
-public class MultiConfigurationSource implements ConfigurationSource {
+public class MultiConfigurationSource implements VersionedConfigurationSource {
     protected final List<ConfigurationSource> sources;
+    private final AtomicLong unversionedGeneration = new AtomicLong();
+    private final MergedIndex mergedIndex;
+    private final MembershipAwareConfigurationSource[] membershipAwareSources;
+    private final LongAdder[] skipCounts;
 
     public MultiConfigurationSource(List<ConfigurationSource> sources) {
+        this(sources, false);
+    }
+
+    /**
+     * Constructs multi source.
+     *
+     * @param sources     configuration sources, in the order of precedence.
+     * @param mergedIndex when {@code true}, the merged index of the sources is used for lookups.
+     * @throws NullPointerException     when {@code sources} is {@code null}.
+     * @throws IllegalArgumentException when {@code mergedIndex} is {@code true} but there is a source which is not
+     *                                  both {@link IterableConfigurationSource} and {@link VersionedConfigurationSource}.
+     */
+    public MultiConfigurationSource(List<ConfigurationSource> sources, boolean mergedIndex) {
         requireNonNull(sources, "sources cannot be null");
         this.sources = new ArrayList<>(sources);
+        if (mergedIndex) {
+            for (ConfigurationSource source : this.sources) {
+                if (!(source instanceof IterableConfigurationSource && source instanceof VersionedConfigurationSource)) {
+                    throw new IllegalArgumentException("Merged index requires all sources to be iterable and versioned, but "
+                            + source + " is not.");
+                }
+            }
+        }
+        this.mergedIndex = mergedIndex ? new MergedIndex(this.sources) : null;
+
+        this.membershipAwareSources = new MembershipAwareConfigurationSource[this.sources.size()];
+        this.skipCounts = new LongAdder[this.sources.size()];
+        for (int i = 0; i < this.sources.size(); i++) {
+            ConfigurationSource source = this.sources.get(i);
+            if (source instanceof MembershipAwareConfigurationSource) {
+                membershipAwareSources[i] = (MembershipAwareConfigurationSource) source;
+            }
+            skipCounts[i] = new LongAdder();
+        }
     }
 
     @Override
     public OptionalValue<String> getValue(String key, Map<String, String> attributes) {
         requireNonNull(key, "key cannot be null");
 
-        for (ConfigurationSource source : sources) {
-            OptionalValue<String> value = source.getValue(key, attributes);
+        if (mergedIndex != null) {
+            return mergedIndex.getValue(key);
+        }
+
+        for (int i = 0; i < sources.size(); i++) {
+            if (isSkipped(i, key)) {
+                continue;
+            }
+            OptionalValue<String> value = sources.get(i).getValue(key, attributes);
             if (value.isPresent()) {
                 return value;
             }
@@ -66,8 +136,15 @@ public class MultiConfigurationSource implements ConfigurationSource {
     public ConfigurationEntry findEntry(Collection<String> keys, Map<String, String> attributes) {
         requireNonNull(keys, "keys cannot be null");
 
-        for (ConfigurationSource source : sources) {
-            ConfigurationEntry entry = source.findEntry(keys, attributes);
+        if (mergedIndex != null) {
+            return mergedIndex.findEntry(keys);
+        }
+
+        for (int i = 0; i < sources.size(); i++) {
+            if (isSkipped(i, keys)) {
+                continue;
+            }
+            ConfigurationEntry entry = sources.get(i).findEntry(keys, attributes);
             if (entry != null) {
                 return entry;
             }
@@ -75,4 +152,295 @@ public class MultiConfigurationSource implements ConfigurationSource {
 
         return null;
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each underlying source is asked once for all key sets which have not been found in sources
+     * with higher precedence.
+     */
+    @Override
+    public Map<List<String>, ConfigurationEntry> findEntries(Collection<List<String>> keySets, Map<String, String> attributes) {
+        requireNonNull(keySets, "keySets cannot be null");
+
+        if (mergedIndex != null) {
+            return mergedIndex.findEntries(keySets);
+        }
+
+        Map<List<String>, ConfigurationEntry> entries = new HashMap<>();
+        List<List<String>> remaining = new ArrayList<>(keySets);
+        for (int i = 0; i < sources.size() && !remaining.isEmpty(); i++) {
+            List<List<String>> candidates = remaining;
+            if (membershipAwareSources[i] != null) {
+                candidates = new ArrayList<>(remaining.size());
+                for (List<String> keySet : remaining) {
+                    if (!isSkipped(i, keySet)) {
+                        candidates.add(keySet);
+                    }
+                }
+                if (candidates.isEmpty()) {
+                    continue;
+                }
+            }
+            Map<List<String>, ConfigurationEntry> found = sources.get(i).findEntries(candidates, attributes);
+            if (!found.isEmpty()) {
+                entries.putAll(found);
+                List<List<String>> notFound = new ArrayList<>(remaining.size());
+                for (List<String> keySet : remaining) {
+                    if (!found.containsKey(keySet)) {
+                        notFound.add(keySet);
+                    }
+                }
+                remaining = notFound;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Provides the number of lookups which skipped the source because it definitely did not contain the key.
+     *
+     * @param index the index of the source.
+     * @return the number of skipped lookups, always {@code 0} when the source is not
+     * {@link MembershipAwareConfigurationSource} or the merged index is used.
+     * @throws IndexOutOfBoundsException when there is no source with given {@code index}.
+     */
+    public long getSkipCount(int index) {
+        return skipCounts[index].sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        long version = 0;
+        boolean unversioned = false;
+        for (ConfigurationSource source : sources) {
+            if (source instanceof VersionedConfigurationSource) {
+                version += ((VersionedConfigurationSource) source).getVersion();
+            } else {
+                unversioned = true;
+            }
+        }
+        return unversioned ? version + unversionedGeneration.incrementAndGet() : version;
+    }
+
+    private boolean isSkipped(int index, String key) {
+        MembershipAwareConfigurationSource source = membershipAwareSources[index];
+        if (source != null && !source.mightContainKey(key)) {
+            skipCounts[index].increment();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isSkipped(int index, Collection<String> keys) {
+        MembershipAwareConfigurationSource source = membershipAwareSources[index];
+        if (source == null) {
+            return false;
+        }
+        for (String key : keys) {
+            if (source.mightContainKey(key)) {
+                return false;
+            }
+        }
+        skipCounts[index].increment();
+        return true;
+    }
+
+    private static final class IndexedEntry {
+        private final ConfigurationEntry entry;
+        private final int source;
+
+        private IndexedEntry(ConfigurationEntry entry, int source) {
+            this.entry = entry;
+            this.source = source;
+        }
+    }
+
+    /**
+     * Merged index of the sources, updated in place. Updates are serialized, lookups are not blocked
+     * unless the index is not current.
+     */
+    private static final class MergedIndex {
+        private final List<ConfigurationSource> sources;
+        // memory-mapped sources are not indexed, they are looked up directly
+        private final boolean[] direct;
+        private final Map<String, IndexedEntry> resolved = new ConcurrentHashMap<>();
+        // keys resolved from each source and versions of the sources, guarded by this
+        private final Set<String>[] ownedKeys;
+        private final long[] versions;
+        // versions of the sources the index is current for, published when the update is completed
+        private volatile long[] publishedVersions;
+
+        @SuppressWarnings("unchecked")
+        private MergedIndex(List<ConfigurationSource> sources) {
+            this.sources = sources;
+            this.direct = new boolean[sources.size()];
+            this.ownedKeys = new Set[sources.size()];
+            this.versions = new long[sources.size()];
+            for (int i = 0; i < direct.length; i++) {
+                direct[i] = sources.get(i) instanceof MappedPropertiesConfigurationSource;
+                ownedKeys[i] = new HashSet<>();
+            }
+        }
+
+        OptionalValue<String> getValue(String key) {
+            IndexedEntry indexed = resolved.get(key);
+            if (!isCurrent(indexed)) {
+                update();
+                indexed = resolved.get(key);
+            }
+            int limit = indexed != null ? indexed.source : direct.length;
+            for (int i = 0; i < limit; i++) {
+                if (direct[i]) {
+                    OptionalValue<String> value = sources.get(i).getValue(key, null);
+                    if (value.isPresent()) {
+                        return value;
+                    }
+                }
+            }
+            return indexed != null ? present(indexed.entry.getValue()) : absent();
+        }
+
+        ConfigurationEntry findEntry(Collection<String> keys) {
+            IndexedEntry found = find(keys);
+            if (!isCurrent(found)) {
+                update();
+                found = find(keys);
+            }
+            return findDirect(keys, found);
+        }
+
+        Map<List<String>, ConfigurationEntry> findEntries(Collection<List<String>> keySets) {
+            // the versions are checked once for all key sets
+            if (!isCurrent(null)) {
+                update();
+            }
+            Map<List<String>, ConfigurationEntry> entries = new HashMap<>();
+            for (List<String> keySet : keySets) {
+                ConfigurationEntry entry = findDirect(keySet, find(requireNonNull(keySet, "keySet cannot be null")));
+                if (entry != null) {
+                    entries.put(keySet, entry);
+                }
+            }
+            return entries;
+        }
+
+        private IndexedEntry find(Collection<String> keys) {
+            // the precedence of sources is more important than the order of keys
+            IndexedEntry found = null;
+            for (String key : keys) {
+                IndexedEntry indexed = resolved.get(key);
+                if (indexed != null && (found == null || indexed.source < found.source)) {
+                    found = indexed;
+                }
+            }
+            return found;
+        }
+
+        private ConfigurationEntry findDirect(Collection<String> keys, IndexedEntry found) {
+            int limit = found != null ? found.source : direct.length;
+            for (int i = 0; i < limit; i++) {
+                if (direct[i]) {
+                    ConfigurationEntry entry = sources.get(i).findEntry(keys, null);
+                    if (entry != null) {
+                        return entry;
+                    }
+                }
+            }
+            return found != null ? found.entry : null;
+        }
+
+        /**
+         * Checks the versions of the sources which can affect the lookup result, i.e. the source of the found entry
+         * and the sources with higher precedence, or all the sources when nothing has been found.
+         */
+        private boolean isCurrent(IndexedEntry found) {
+            long[] current = publishedVersions;
+            if (current == null) {
+                return false;
+            }
+            int limit = found != null ? found.source + 1 : current.length;
+            for (int i = 0; i < limit; i++) {
+                if (!direct[i] && ((VersionedConfigurationSource) sources.get(i)).getVersion() != current[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private synchronized void update() {
+            if (publishedVersions == null) {
+                // sources with higher precedence override the lower ones
+                for (int i = sources.size() - 1; i >= 0; i--) {
+                    if (!direct[i]) {
+                        versions[i] = ((VersionedConfigurationSource) sources.get(i)).getVersion();
+                        for (ConfigurationEntry entry : ((IterableConfigurationSource) sources.get(i)).getAllConfigurationEntries()) {
+                            IndexedEntry previous = resolved.put(entry.getKey(), new IndexedEntry(entry, i));
+                            if (previous != null) {
+                                ownedKeys[previous.source].remove(entry.getKey());
+                            }
+                            ownedKeys[i].add(entry.getKey());
+                        }
+                    }
+                }
+            } else {
+                for (int i = 0; i < sources.size(); i++) {
+                    if (!direct[i]) {
+                        // the version is read before the entries, so modifications made meanwhile are detected later
+                        long version = ((VersionedConfigurationSource) sources.get(i)).getVersion();
+                        if (version != versions[i]) {
+                            versions[i] = version;
+                            updateSource(i);
+                        }
+                    }
+                }
+            }
+            publishedVersions = versions.clone();
+        }
+
+        private void updateSource(int index) {
+            ConfigurationSource source = sources.get(index);
+            Set<String> owned = ownedKeys[index];
+            for (ConfigurationEntry entry : ((IterableConfigurationSource) source).getAllConfigurationEntries()) {
+                String key = entry.getKey();
+                IndexedEntry current = resolved.get(key);
+                if (current == null || current.source > index) {
+                    resolved.put(key, new IndexedEntry(entry, index));
+                    if (current != null) {
+                        ownedKeys[current.source].remove(key);
+                    }
+                    owned.add(key);
+                } else if (current.source == index && !current.entry.equals(entry)) {
+                    resolved.put(key, new IndexedEntry(entry, index));
+                }
+            }
+
+            // keys removed from the source are resolved from the sources with lower precedence
+            for (Iterator<String> iterator = owned.iterator(); iterator.hasNext();) {
+                String key = iterator.next();
+                if (!source.getValue(key, null).isPresent()) {
+                    iterator.remove();
+                    resolveRemoved(key, index + 1);
+                }
+            }
+        }
+
+        private void resolveRemoved(String key, int from) {
+            List<String> keys = singletonList(key);
+            for (int i = from; i < sources.size(); i++) {
+                if (!direct[i]) {
+                    ConfigurationEntry entry = sources.get(i).findEntry(keys, null);
+                    if (entry != null) {
+                        resolved.put(key, new IndexedEntry(entry, i));
+                        ownedKeys[i].add(key);
+                        return;
+                    }
+                }
+            }
+            resolved.remove(key);
+        }
+    }
 }
@@ -29,6 +29,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.sabre.oss.conf4j.source.OptionalValue.absent;
 import static com.sabre.oss.conf4j.source.OptionalValue.present;
@@ -39,20 +40,50 @@ import static java.util.stream.Collectors.toMap;
  * Configuration value source backed by {@code Properties}.
  * <p>
  * It is <i>thread safe</i>.
+ * <p>
+ * The source takes a copy of the properties it is created from, so later modifications of those properties are not
+ * visible. The source is {@link VersionedConfigurationSource versioned}. The copy can be modified only by subclasses,
+ * which must invoke {@link #incrementVersion()} after each modification, so the version covers every change
+ * of the content.
+ * <p>
+ * When created as <i>immutable</i>, the properties are also copied into a snapshot which is read without acquiring
+ * any locks (reading {@link Properties}, which is a synchronized {@link java.util.Hashtable}, requires locking)
+ * and {@link #getAllConfigurationEntries()} iterates it without copying.
  */
-public class PropertiesConfigurationSource implements IterableConfigurationSource {
+public class PropertiesConfigurationSource implements IterableConfigurationSource, VersionedConfigurationSource {
     protected final Properties source;
+    private final ImmutableStringMap snapshot;
+    private final AtomicLong version = new AtomicLong();
 
     /**
      * Constructs values source from {@link Properties}.
      *
-     * @param source properties which holds configuration keys.
+     * @param source properties which holds configuration keys. The properties are copied.
      * @throws NullPointerException when {@code source} is null.
      */
     public PropertiesConfigurationSource(Properties source) {
-        this.source = requireNonNull(source, "source cannot be null");
+        this(source, false);
     }
 
+    /**
+     * Constructs values source from {@link Properties}.
+     *
+     * @param source    properties which holds configuration keys. The properties are copied.
+     * @param immutable when {@code true}, the snapshot of {@code source} is taken and used for lock-free reads.
+     * @throws NullPointerException when {@code source} is null.
+     */
+    public PropertiesConfigurationSource(Properties source, boolean immutable) {
+        requireNonNull(source, "source cannot be null");
+        this.source = new Properties();
+        this.source.putAll(source);
+        // default properties are not copied by putAll()
+        for (String key : source.stringPropertyNames()) {
+            if (!this.source.containsKey(key)) {
+                this.source.setProperty(key, source.getProperty(key));
+            }
+        }
+        this.snapshot = immutable ? ImmutableStringMap.of(this.source) : null;
+    }
 
     /**
      * Constructs values source from a property file.
@@ -62,8 +93,28 @@ public class PropertiesConfigurationSource implements IterableConfigurationSourc
      * @throws UncheckedIOException     when {@link IOException} thrown while loading the property file.
      */
     public PropertiesConfigurationSource(String propertyFile) {
-        requireNonNull(propertyFile, "propertyFile cannot be null");
-        this.source = loadFromFile(propertyFile);
+        this(propertyFile, false);
+    }
+
+    /**
+     * Constructs values source from a property file.
+     *
+     * @param propertyFile name of property file.
+     * @param immutable    when {@code true}, the snapshot of loaded properties is taken and used for lock-free reads.
+     * @throws IllegalArgumentException when the format of a property file is invalid.
+     * @throws UncheckedIOException     when {@link IOException} thrown while loading the property file.
+     */
+    public PropertiesConfigurationSource(String propertyFile, boolean immutable) {
+        this(loadFromFile(requireNonNull(propertyFile, "propertyFile cannot be null")), immutable);
+    }
+
+    /**
+     * Checks if the source reads the snapshot of the properties.
+     *
+     * @return {@code true} when the source is immutable.
+     */
+    public boolean isImmutable() {
+        return snapshot != null;
     }
 
     /**
@@ -73,6 +124,11 @@ public class PropertiesConfigurationSource implements IterableConfigurationSourc
     public OptionalValue<String> getValue(String key, Map<String, String> attributes) {
         requireNonNull(key, "key cannot be null");
 
+        if (snapshot != null) {
+            String value = snapshot.get(key);
+            return value != null ? present(value) : absent();
+        }
+
         String value = source.getProperty(key);
 
         return value != null || source.containsKey(key) ? present(value) : absent();
@@ -83,12 +139,31 @@ public class PropertiesConfigurationSource implements IterableConfigurationSourc
      */
     @Override
     public Iterable<ConfigurationEntry> getAllConfigurationEntries() {
+        if (snapshot != null) {
+            return snapshot;
+        }
         Map<String, String> map = source.entrySet().stream()
                 .filter(e -> e.getValue() instanceof String)
                 .collect(toMap(Object::toString, e -> (String) e.getValue()));
         return new MapIterable(map);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Increments the version of this source. It must be invoked <b>after</b> the properties are modified.
+     * Immutable sources never change, so there is no need to invoke it for them.
+     */
+    protected void incrementVersion() {
+        version.incrementAndGet();
+    }
+
     protected static Properties loadFromFile(String propertyFile) {
         try (FileReader reader = new FileReader(propertyFile)) {
             Properties properties = new Properties();
@@ -0,0 +1,320 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.source;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static com.sabre.oss.conf4j.source.OptionalValue.absent;
+import static com.sabre.oss.conf4j.source.OptionalValue.present;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.Validate.isTrue;
+
+/**
+ * Configuration value source backed by a property file which is reloaded when the file is modified.
+ * <p>
+ * It is <i>thread safe</i>. The file is loaded when the source is constructed and it is watched by a background
+ * daemon thread once the source is {@link #start() started}. The thread checks the real path (with symbolic links
+ * resolved), the modification time and the size of the file every polling interval. When the file system supports
+ * {@link WatchService}, the directory containing the file is watched as well, so the check is done as soon as any
+ * entry of the directory changes. This way the file is reloaded also when it is replaced by swapping a symbolic link,
+ * as it is done for instance for Kubernetes config maps mounted as volumes. Modifications are debounced: the file is
+ * reloaded after it was not modified for the debounce delay, so a file which is being written is not parsed several times.
+ * <p>
+ * The file is parsed off the request path and the new, immutable snapshot of the properties is published
+ * (together with its version) with a single volatile write. Readers never block on the reload. When the file
+ * cannot be loaded, the previous snapshot is retained.
+ * <p>
+ * The source is {@link VersionedConfigurationSource versioned}, the version is incremented on each reload.
+ * <p>
+ * The source should be {@link #close() closed} when it is no longer used to stop watching the file.
+ */
+public class ReloadablePropertiesConfigurationSource implements IterableConfigurationSource, VersionedConfigurationSource, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(ReloadablePropertiesConfigurationSource.class);
+
+    private static final Duration DEFAULT_DEBOUNCE_DELAY = Duration.ofMillis(500);
+    private static final Duration DEFAULT_POLLING_INTERVAL = Duration.ofSeconds(5);
+
+    private final Path propertyFile;
+    private final long debounceDelayMillis;
+    private final long pollingIntervalMillis;
+    private Thread watcher;
+    private volatile Snapshot snapshot;
+    private volatile boolean closed;
+
+    /**
+     * Constructs values source from a property file, using the default debounce delay and polling interval.
+     * The file is not watched until the source is {@link #start() started}.
+     *
+     * @param propertyFile name of property file.
+     * @throws IllegalArgumentException when the format of a property file is invalid.
+     * @throws UncheckedIOException     when {@link IOException} thrown while loading the property file.
+     */
+    public ReloadablePropertiesConfigurationSource(String propertyFile) {
+        this(Paths.get(requireNonNull(propertyFile, "propertyFile cannot be null")), DEFAULT_DEBOUNCE_DELAY, DEFAULT_POLLING_INTERVAL);
+    }
+
+    /**
+     * Constructs values source from a property file. The file is not watched until the source is {@link #start() started}.
+     *
+     * @param propertyFile    property file.
+     * @param debounceDelay   the time the file must not be modified for before it is reloaded.
+     * @param pollingInterval the interval of checking the file modification.
+     * @throws IllegalArgumentException when the format of a property file is invalid or the delays are negative.
+     * @throws UncheckedIOException     when {@link IOException} thrown while loading the property file.
+     */
+    public ReloadablePropertiesConfigurationSource(Path propertyFile, Duration debounceDelay, Duration pollingInterval) {
+        this.propertyFile = requireNonNull(propertyFile, "propertyFile cannot be null").toAbsolutePath();
+        this.debounceDelayMillis = requireNonNull(debounceDelay, "debounceDelay cannot be null").toMillis();
+        this.pollingIntervalMillis = requireNonNull(pollingInterval, "pollingInterval cannot be null").toMillis();
+        isTrue(debounceDelayMillis >= 0, "debounceDelay cannot be negative");
+        isTrue(pollingIntervalMillis > 0, "pollingInterval must be positive");
+
+        this.snapshot = new Snapshot(load(), 0L, fileState());
+    }
+
+    /**
+     * Starts watching the property file in a background daemon thread. Modifications made since the file
+     * was loaded are picked up immediately. Invoking the method on the source which is already started has no effect.
+     *
+     * @return this source.
+     * @throws IllegalStateException when the source is closed.
+     */
+    public synchronized ReloadablePropertiesConfigurationSource start() {
+        if (closed) {
+            throw new IllegalStateException("Source of " + propertyFile + " is closed");
+        }
+        if (watcher == null) {
+            WatchService watchService = createWatchService();
+            watcher = new Thread(() -> watch(watchService), "conf4j-properties-watcher-" + propertyFile.getFileName());
+            watcher.setDaemon(true);
+            watcher.start();
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OptionalValue<String> getValue(String key, Map<String, String> attributes) {
+        requireNonNull(key, "key cannot be null");
+
+        String value = snapshot.properties.get(key);
+        return value != null ? present(value) : absent();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The entries of the current snapshot are returned, they are not affected by subsequent reloads.
+     */
+    @Override
+    public Iterable<ConfigurationEntry> getAllConfigurationEntries() {
+        return snapshot.properties;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    /**
+     * Provides the property file.
+     *
+     * @return property file.
+     */
+    public Path getPropertyFile() {
+        return propertyFile;
+    }
+
+    /**
+     * Reloads the property file immediately, in the calling thread.
+     *
+     * @throws IllegalArgumentException when the format of a property file is invalid.
+     * @throws UncheckedIOException     when {@link IOException} thrown while loading the property file.
+     */
+    public synchronized void reload() {
+        FileState fileState = fileState();
+        ImmutableStringMap properties = load();
+        // single volatile write publishes both the properties and the version
+        snapshot = new Snapshot(properties, snapshot.version + 1, fileState);
+    }
+
+    /**
+     * Stops watching the property file. The last loaded snapshot is still available.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+    }
+
+    private void watch(WatchService watchService) {
+        // the state of the last reload attempt, so the file which cannot be loaded is not reloaded over and over
+        FileState checkedState = snapshot.fileState;
+        try {
+            while (!closed) {
+                if (!fileState().equals(checkedState)) {
+                    // debounce - wait until there are no modifications for the debounce delay
+                    do {
+                        checkedState = fileState();
+                        Thread.sleep(debounceDelayMillis);
+                    } while (!checkedState.equals(fileState()));
+                    reloadQuietly();
+                }
+                awaitModification(watchService);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeQuietly(watchService);
+        }
+    }
+
+    private void awaitModification(WatchService watchService) throws InterruptedException {
+        if (watchService == null) {
+            Thread.sleep(pollingIntervalMillis);
+            return;
+        }
+        // any event in the directory triggers the check, symbolic link swaps don't report the file name
+        WatchKey key = watchService.poll(pollingIntervalMillis, TimeUnit.MILLISECONDS);
+        while (key != null) {
+            key.pollEvents();
+            key.reset();
+            key = watchService.poll();
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+            log.debug("Property file {} reloaded", propertyFile);
+        } catch (RuntimeException e) {
+            log.warn("Unable to reload property file {}, previously loaded properties are used", propertyFile, e);
+        }
+    }
+
+    private WatchService createWatchService() {
+        try {
+            WatchService watchService = propertyFile.getFileSystem().newWatchService();
+            try {
+                propertyFile.getParent().register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            } catch (IOException | RuntimeException e) {
+                closeQuietly(watchService);
+                throw e;
+            }
+            return watchService;
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("Watch service is not available for {}, polling is used", propertyFile, e);
+            return null;
+        }
+    }
+
+    private void closeQuietly(WatchService watchService) {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.warn("Unable to close watch service of {}", propertyFile, e);
+            }
+        }
+    }
+
+    private ImmutableStringMap load() {
+        return ImmutableStringMap.of(PropertiesConfigurationSource.loadFromFile(propertyFile.toString()));
+    }
+
+    private FileState fileState() {
+        try {
+            Path realPath = propertyFile.toRealPath();
+            BasicFileAttributes attributes = Files.readAttributes(realPath, BasicFileAttributes.class);
+            return new FileState(realPath, attributes.lastModifiedTime().toMillis(), attributes.size());
+        } catch (IOException e) {
+            return FileState.MISSING;
+        }
+    }
+
+    private static final class Snapshot {
+        private final ImmutableStringMap properties;
+        private final long version;
+        private final FileState fileState;
+
+        private Snapshot(ImmutableStringMap properties, long version, FileState fileState) {
+            this.properties = properties;
+            this.version = version;
+            this.fileState = fileState;
+        }
+    }
+
+    private static final class FileState {
+        private static final FileState MISSING = new FileState(null, -1, -1);
+
+        private final Path realPath;
+        private final long lastModified;
+        private final long size;
+
+        private FileState(Path realPath, long lastModified, long size) {
+            this.realPath = realPath;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FileState fileState = (FileState) o;
+            return lastModified == fileState.lastModified && size == fileState.size && Objects.equals(realPath, fileState.realPath);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(realPath, lastModified, size);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.source;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.sabre.oss.conf4j.source.OptionalValue.absent;
+import static com.sabre.oss.conf4j.source.OptionalValue.present;
+import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Configuration value source backed by an immutable radix trie of the configuration keys.
+ * <p>
+ * Keys generated for hierarchical configurations (e.g. {@code connection[3].retry.maxAttempts}) share long prefixes.
+ * The trie stores each shared prefix once, so the source needs less memory than a map of the same keys
+ * for deep hierarchies. Entries with a given prefix are provided by {@link #getConfigurationEntriesWithPrefix(String)}
+ * in time proportional to the length of the prefix and the number of the entries found.
+ * <p>
+ * {@link #findEntry(Collection, Map)} walks the common prefix of consecutive keys only once.
+ * <p>
+ * Entries are provided in the order of their keys. The source takes a snapshot of the map when it is constructed,
+ * later modifications of the map are not visible.
+ * <p>
+ * It is <i>thread safe</i>. The source is {@link VersionedConfigurationSource versioned}, but it never changes,
+ * so its version is always {@code 0}.
+ */
+public class TrieConfigurationSource implements IterableConfigurationSource, VersionedConfigurationSource {
+    private static final char[] NO_CHARS = {};
+    private static final Node[] NO_NODES = {};
+
+    private final Node root;
+    private final int size;
+
+    /**
+     * Constructs values source.
+     *
+     * @param source the map that holds configuration keys. It cannot contain {@code null} keys.
+     * @throws NullPointerException when {@code source} is null or contains {@code null} key.
+     */
+    public TrieConfigurationSource(Map<String, String> source) {
+        requireNonNull(source, "source cannot be null");
+
+        String[] keys = source.keySet().toArray(new String[0]);
+        for (String key : keys) {
+            requireNonNull(key, "source cannot contain null key");
+        }
+        Arrays.sort(keys);
+        this.root = keys.length == 0 ? new Node(NO_CHARS, NO_CHARS, NO_NODES, false, null) : build(source, keys, 0, keys.length, 0);
+        this.size = keys.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OptionalValue<String> getValue(String key, Map<String, String> attributes) {
+        requireNonNull(key, "key cannot be null");
+
+        Node node = root.match(key, 0) ? find(root, key, root.label.length) : null;
+        return node != null && node.hasValue ? present(node.value) : absent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConfigurationEntry findEntry(Collection<String> keys, Map<String, String> attributes) {
+        requireNonNull(keys, "keys cannot be null");
+
+        // nodes matched by the previous key and positions in the key where their labels end
+        Node[] path = new Node[8];
+        int[] ends = new int[8];
+        int depth = 0;
+        String previous = null;
+        for (String key : keys) {
+            requireNonNull(key, "key cannot be null");
+
+            if (previous != null) {
+                int common = commonPrefixLength(previous, key);
+                while (depth > 0 && ends[depth - 1] > common) {
+                    depth--;
+                }
+            }
+            previous = key;
+
+            Node node;
+            int position;
+            if (depth > 0) {
+                node = path[depth - 1];
+                position = ends[depth - 1];
+            } else if (root.match(key, 0)) {
+                node = root;
+                position = root.label.length;
+                path[0] = root;
+                ends[0] = position;
+                depth = 1;
+            } else {
+                continue;
+            }
+
+            while (position < key.length()) {
+                Node child = node.child(key.charAt(position));
+                if (child == null || !child.match(key, position)) {
+                    node = null;
+                    break;
+                }
+                node = child;
+                position += child.label.length;
+                if (depth == path.length) {
+                    path = Arrays.copyOf(path, depth * 2);
+                    ends = Arrays.copyOf(ends, depth * 2);
+                }
+                path[depth] = node;
+                ends[depth] = position;
+                depth++;
+            }
+            if (node != null && node.hasValue) {
+                return new ConfigurationEntry(key, node.value);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterable<ConfigurationEntry> getAllConfigurationEntries() {
+        return getConfigurationEntriesWithPrefix("");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterable<ConfigurationEntry> getConfigurationEntriesWithPrefix(String prefix) {
+        requireNonNull(prefix, "prefix cannot be null");
+
+        // find the node which subtree contains all the keys with the prefix
+        Node node = root;
+        int position = 0;
+        while (true) {
+            int remaining = prefix.length() - position;
+            if (remaining <= node.label.length) {
+                if (!node.matchPrefix(prefix, position)) {
+                    return emptyList();
+                }
+                break;
+            }
+            if (!node.match(prefix, position)) {
+                return emptyList();
+            }
+            position += node.label.length;
+            node = node.child(prefix.charAt(position));
+            if (node == null) {
+                return emptyList();
+            }
+        }
+
+        List<ConfigurationEntry> entries = new ArrayList<>();
+        StringBuilder key = new StringBuilder(prefix.length() + 32).append(prefix, 0, position);
+        collect(node, key, entries);
+        return entries;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return 0;
+    }
+
+    /**
+     * Provides the number of configuration entries.
+     *
+     * @return number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the node of {@code key}, which labels up to {@code position} are already matched by {@code node}.
+     */
+    private static Node find(Node node, String key, int position) {
+        Node current = node;
+        int matched = position;
+        while (matched < key.length()) {
+            Node child = current.child(key.charAt(matched));
+            if (child == null || !child.match(key, matched)) {
+                return null;
+            }
+            current = child;
+            matched += child.label.length;
+        }
+        return current;
+    }
+
+    private static void collect(Node node, StringBuilder key, List<ConfigurationEntry> entries) {
+        int length = key.length();
+        key.append(node.label);
+        if (node.hasValue) {
+            entries.add(new ConfigurationEntry(key.toString(), node.value));
+        }
+        for (Node child : node.children) {
+            collect(child, key, entries);
+        }
+        key.setLength(length);
+    }
+
+    /**
+     * Builds the node for sorted {@code keys} in range {@code [from, to)}, which share the first {@code depth} characters.
+     */
+    private static Node build(Map<String, String> source, String[] keys, int from, int to, int depth) {
+        String first = keys[from];
+        int end = depth + commonPrefixLength(first, keys[to - 1], depth);
+        char[] label = new char[end - depth];
+        first.getChars(depth, end, label, 0);
+
+        // a key which is a prefix of other keys precedes them
+        boolean hasValue = first.length() == end;
+        List<Node> children = new ArrayList<>();
+        int i = hasValue ? from + 1 : from;
+        while (i < to) {
+            char c = keys[i].charAt(end);
+            int j = i + 1;
+            while (j < to && keys[j].charAt(end) == c) {
+                j++;
+            }
+            children.add(build(source, keys, i, j, end));
+            i = j;
+        }
+
+        if (children.isEmpty()) {
+            return new Node(label, NO_CHARS, NO_NODES, hasValue, hasValue ? source.get(first) : null);
+        }
+        char[] firstChars = new char[children.size()];
+        for (int k = 0; k < firstChars.length; k++) {
+            firstChars[k] = children.get(k).label[0];
+        }
+        return new Node(label, firstChars, children.toArray(NO_NODES), hasValue, hasValue ? source.get(first) : null);
+    }
+
+    private static int commonPrefixLength(String s1, String s2) {
+        return commonPrefixLength(s1, s2, 0);
+    }
+
+    private static int commonPrefixLength(String s1, String s2, int from) {
+        int max = Math.min(s1.length(), s2.length());
+        int i = from;
+        while (i < max && s1.charAt(i) == s2.charAt(i)) {
+            i++;
+        }
+        return i - from;
+    }
+
+    private static final class Node {
+        // characters of the edge which leads to the node
+        private final char[] label;
+        // first characters of children labels, sorted
+        private final char[] firstChars;
+        private final Node[] children;
+        private final boolean hasValue;
+        private final String value;
+
+        private Node(char[] label, char[] firstChars, Node[] children, boolean hasValue, String value) {
+            this.label = label;
+            this.firstChars = firstChars;
+            this.children = children;
+            this.hasValue = hasValue;
+            this.value = value;
+        }
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(firstChars, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        /**
+         * Checks if {@code key} contains the whole label at {@code position}.
+         */
+        private boolean match(String key, int position) {
+            if (key.length() - position < label.length) {
+                return false;
+            }
+            for (int i = 0; i < label.length; i++) {
+                if (key.charAt(position + i) != label[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Checks if the rest of {@code prefix} starting at {@code position} is a prefix of the label.
+         */
+        private boolean matchPrefix(String prefix, int position) {
+            for (int i = position; i < prefix.length(); i++) {
+                if (prefix.charAt(i) != label[i - position]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
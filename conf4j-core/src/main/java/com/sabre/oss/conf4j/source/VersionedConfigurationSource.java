@@ -0,0 +1,50 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.source;
+
+/**
+ * A configuration source which is able to report that its content has (or may have) changed.
+ * <p>
+ * The version is a monotonically increasing number which is incremented each time any configuration entry
+ * is added, modified or removed. When two calls of {@link #getVersion()} return the same value, all lookups
+ * performed between them are guaranteed to return the same result. It allows the callers (caches, dynamic
+ * configurations) to detect changes by a single comparison instead of re-reading the configuration entries.
+ * <p>
+ * The opposite is not required - the version may be incremented even when the content has not changed.
+ * <p>
+ * A source can increment the version only for the modifications it is aware of, so its content must not be
+ * modifiable without involving the source. That is why {@link MapConfigurationSource} and
+ * {@link PropertiesConfigurationSource} take a copy of the map or properties they are created from. Otherwise
+ * the callers which rely on the version, such as memoized configuration values or the merged index
+ * of {@link MultiConfigurationSource}, would keep using the values read before the modification.
+ */
+public interface VersionedConfigurationSource extends ConfigurationSource {
+    /**
+     * Provides the current version of the configuration source.
+     *
+     * @return current version.
+     */
+    long getVersion();
+}
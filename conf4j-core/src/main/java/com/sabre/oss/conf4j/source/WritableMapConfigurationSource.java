@@ -31,9 +31,12 @@ import static com.sabre.oss.conf4j.source.OptionalValue.present;
 import static java.util.Objects.requireNonNull;
 
 /**
- * Configuration value source backed by {@code Map<String, String>}.
+ * Configuration value source backed by {@code Map<String, String>} which can be modified.
  * <p>
- * It <i>may or <b>may not</b> be thread safe</i> - it depends on the backing map.
+ * The source takes a copy of the map it is created from and it is modified only by
+ * {@link #setValue(String, String, Map)} and {@link #removeValue(String, Map)}, which increment the
+ * {@link #getVersion() version}. It is <i>not thread safe</i>, it must not be modified concurrently with other
+ * operations.
  */
 public class WritableMapConfigurationSource extends MapConfigurationSource implements WritableConfigurationSource {
     /**
@@ -53,6 +56,7 @@ public class WritableMapConfigurationSource extends MapConfigurationSource imple
     public void setValue(String key, String value, Map<String, String> attributes) {
         requireNonNull(key, "key cannot be null");
         source.put(key, value);
+        incrementVersion();
     }
 
     /**
@@ -62,6 +66,11 @@ public class WritableMapConfigurationSource extends MapConfigurationSource imple
     public OptionalValue<String> removeValue(String key, Map<String, String> attributes) {
         requireNonNull(key, "key cannot be null");
 
-        return source.containsKey(key) ? present(source.remove(key)) : absent();
+        if (!source.containsKey(key)) {
+            return absent();
+        }
+        String removed = source.remove(key);
+        incrementVersion();
+        return present(removed);
     }
 }
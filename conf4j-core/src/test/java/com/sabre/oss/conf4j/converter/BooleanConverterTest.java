@@ -268,4 +268,16 @@ public class BooleanConverterTest {
                 .isExactlyInstanceOf(NullPointerException.class)
                 .hasMessage("type cannot be null");
     }
+
+    @Test
+    public void shouldConvertFromStringToPrimitiveWhenFormatSpecified() {
+        // given
+        Map<String, String> attributes = singletonMap("format", "yes/no");
+
+        // when
+        boolean fromConversion = converter.fromStringToBoolean(Boolean.TYPE, "yes", attributes);
+
+        // then
+        assertThat(fromConversion).isTrue();
+    }
 }
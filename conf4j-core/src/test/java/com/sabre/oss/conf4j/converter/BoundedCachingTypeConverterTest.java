@@ -0,0 +1,241 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.converter;
+
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedCachingTypeConverterTest {
+    private final CountingConverter countingConverter = new CountingConverter();
+
+    @Test
+    public void shouldReturnCachedValue() {
+        // given
+        BoundedCachingTypeConverter<Pattern> converter = new BoundedCachingTypeConverter<>(countingConverter, 16);
+        Map<String, String> attributes = singletonMap("key", "value");
+
+        // when
+        Pattern first = converter.fromString(Pattern.class, "[a-z]+", attributes);
+        Pattern second = converter.fromString(Pattern.class, "[a-z]+", attributes);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(countingConverter.conversions).isEqualTo(1);
+        assertThat(converter.getHitCount()).isEqualTo(1);
+        assertThat(converter.getMissCount()).isEqualTo(1);
+        assertThat(converter.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void shouldNotShareValuesConvertedWithDifferentAttributes() {
+        // given
+        BoundedCachingTypeConverter<Pattern> converter = new BoundedCachingTypeConverter<>(countingConverter, 16);
+
+        // when
+        converter.fromString(Pattern.class, "[a-z]+", singletonMap("key", "value"));
+        converter.fromString(Pattern.class, "[a-z]+", singletonMap("key", "other"));
+
+        // then
+        assertThat(countingConverter.conversions).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldBeBounded() {
+        // given
+        BoundedCachingTypeConverter<Pattern> converter = new BoundedCachingTypeConverter<>(countingConverter, 8);
+
+        // when
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 100; i++) {
+                converter.fromString(Pattern.class, "value" + i, null);
+            }
+        }
+
+        // then
+        assertThat(converter.getSize()).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    public void shouldNotEvictFrequentlyUsedValueByValuesUsedOnce() {
+        // given
+        BoundedCachingTypeConverter<Pattern> converter = new BoundedCachingTypeConverter<>(countingConverter, 8);
+        for (int i = 0; i < 10; i++) {
+            converter.fromString(Pattern.class, "frequent", null);
+        }
+
+        // when
+        long frequentMisses = 0;
+        for (int i = 0; i < 1000; i++) {
+            converter.fromString(Pattern.class, "once" + i, null);
+            if (i % 10 == 0) {
+                long missCount = converter.getMissCount();
+                converter.fromString(Pattern.class, "frequent", null);
+                frequentMisses += converter.getMissCount() - missCount;
+            }
+        }
+
+        // then
+        assertThat(frequentMisses).isZero();
+        assertThat(converter.getEvictionCount()).isPositive();
+    }
+
+    @Test
+    public void shouldNotCacheNullValue() {
+        // given
+        BoundedCachingTypeConverter<Pattern> converter = new BoundedCachingTypeConverter<>(countingConverter, 8);
+
+        // when
+        converter.fromString(Pattern.class, null, null);
+        converter.fromString(Pattern.class, null, null);
+
+        // then
+        assertThat(countingConverter.conversions).isEqualTo(2);
+        assertThat(converter.getSize()).isZero();
+    }
+
+    @Test
+    public void shouldNotCacheMutableValue() {
+        // given
+        BoundedCachingTypeConverter<Object> converter = new BoundedCachingTypeConverter<>(new JsonLikeConverter(new StringConverter()), 8);
+        Type type = TypeUtils.parameterize(List.class, String.class);
+
+        // when
+        @SuppressWarnings("unchecked")
+        List<String> first = (List<String>) converter.fromString(type, "[a,b]", null);
+        first.add("c");
+        Object second = converter.fromString(type, "[a,b]", null);
+
+        // then
+        assertThat(second).isEqualTo(asList("a", "b"));
+        assertThat(converter.getSize()).isZero();
+    }
+
+    @Test
+    public void shouldCacheImmutableCollections() {
+        // given
+        BoundedCachingTypeConverter<Object> converter = new BoundedCachingTypeConverter<>(new JsonLikeConverter(new StringConverter(), true, true), 8);
+        Type type = TypeUtils.parameterize(List.class, String.class);
+
+        // when
+        Object first = converter.fromString(type, "[a,b]", null);
+        Object second = converter.fromString(type, "[a,b]", null);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(converter.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldBeBoundedByWeight() {
+        // given
+        BoundedCachingTypeConverter<Pattern> converter = new BoundedCachingTypeConverter<>(countingConverter, 64, 20);
+
+        // when
+        converter.fromString(Pattern.class, "too-heavy-to-be-cached", null);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 100; i++) {
+                converter.fromString(Pattern.class, "value" + i, null);
+            }
+        }
+
+        // then
+        assertThat(converter.getWeight()).isLessThanOrEqualTo(20);
+        assertThat(converter.getSize()).isBetween(1, 4);
+    }
+
+    @Test
+    public void shouldKeepWeightConsistentWhenValuesAreAdmittedConcurrently() throws Exception {
+        // given
+        BoundedCachingTypeConverter<Pattern> converter = new BoundedCachingTypeConverter<>(new PatternConverter(), 16, 40);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        converter.fromString(Pattern.class, String.format("v%03d", i % 200), null);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(converter.getWeight()).isEqualTo(4L * converter.getSize()).isLessThanOrEqualTo(40);
+        converter.clear();
+        assertThat(converter.getWeight()).isZero();
+    }
+
+    @Test
+    public void shouldDecorateConverterUsingFactory() {
+        // given
+        DecoratingConverterFactory factory = BoundedCachingTypeConverter.factory(8);
+
+        // when
+        TypeConverter<?> converter = factory.create(countingConverter);
+
+        // then
+        assertThat(converter).isInstanceOf(BoundedCachingTypeConverter.class);
+        assertThat(converter.isApplicable(Pattern.class, null)).isTrue();
+        assertThat(converter.isAttributeIndependent()).isTrue();
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenMaximumSizeIsNotPositive() {
+        assertThatThrownBy(() -> new BoundedCachingTypeConverter<>(countingConverter, 0))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maximumSize must be positive");
+    }
+
+    private static class CountingConverter extends PatternConverter {
+        private int conversions;
+
+        @Override
+        public Pattern fromString(Type type, String value, Map<String, String> attributes) {
+            conversions++;
+            return super.fromString(type, value, attributes);
+        }
+    }
+}
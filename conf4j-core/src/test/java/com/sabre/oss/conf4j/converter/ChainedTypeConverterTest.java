@@ -26,8 +26,11 @@ package com.sabre.oss.conf4j.converter;
 
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.Map;
 
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -75,4 +78,86 @@ public class ChainedTypeConverterTest {
                 () -> new ChainedTypeConverter(Arrays.asList(new StringConverter(), null))
         );
     }
+
+    @Test
+    public void shouldDelegateConversionToPrimitivesToTheConvertersInTheChain() {
+        ChainedTypeConverter converter = new ChainedTypeConverter(new BooleanConverter(), new IntegerConverter(), new LongConverter(), new DoubleConverter());
+
+        assertThat(converter.fromStringToBoolean(Boolean.TYPE, "true", null)).isTrue();
+        assertThat(converter.fromStringToInt(Integer.TYPE, "10", null)).isEqualTo(10);
+        assertThat(converter.fromStringToLong(Long.TYPE, "10", null)).isEqualTo(10L);
+        assertThat(converter.fromStringToDouble(Double.TYPE, "10.5", null)).isEqualTo(10.5);
+    }
+
+    @Test
+    public void shouldConvertToPrimitiveWhenConverterInTheChainDoesNotSupportPrimitives() {
+        ChainedTypeConverter converter = new ChainedTypeConverter(new ShortConverter(), new TypeConverter<Integer>() {
+            @Override
+            public boolean isApplicable(Type type, Map<String, String> attributes) {
+                return type == Integer.TYPE;
+            }
+
+            @Override
+            public Integer fromString(Type type, String value, Map<String, String> attributes) {
+                return Integer.valueOf(value);
+            }
+
+            @Override
+            public String toString(Type type, Integer value, Map<String, String> attributes) {
+                return value.toString();
+            }
+        });
+
+        assertThat(converter.fromStringToInt(Integer.TYPE, "10", null)).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldBeAttributeIndependentWhenAllConvertersInTheChainAre() {
+        assertThat(new ChainedTypeConverter(new StringConverter(), new IntegerConverter()).isAttributeIndependent()).isTrue();
+        assertThat(DefaultTypeConverters.getDefaultTypeConverter().isAttributeIndependent()).isTrue();
+        assertThat(new ChainedTypeConverter(new StringConverter(), new AttributeDependentConverter()).isAttributeIndependent()).isFalse();
+    }
+
+    @Test
+    public void shouldLookupConverterOnlyOnceEvenWhenTypeIsNotSupported() {
+        CountingConverter countingConverter = new CountingConverter();
+        TypeConverter<Object> converter = new ChainedTypeConverter(countingConverter);
+
+        assertThrows(IllegalArgumentException.class, () -> converter.fromString(Long.class, "10", null));
+        assertThrows(IllegalArgumentException.class, () -> converter.fromString(Long.class, "10", null));
+        assertThat(converter.isApplicable(Long.class, singletonMap("format", "#"))).isFalse();
+
+        assertThat(countingConverter.applicabilityChecks).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldTakeAttributesIntoAccountWhenConverterIsAttributeDependent() {
+        TypeConverter<Object> converter = new ChainedTypeConverter(new AttributeDependentConverter());
+
+        assertThat(converter.isApplicable(String.class, singletonMap("applicable", "true"))).isTrue();
+        assertThat(converter.isApplicable(String.class, singletonMap("applicable", "false"))).isFalse();
+        assertThat(converter.isApplicable(String.class, null)).isFalse();
+    }
+
+    private static class CountingConverter extends StringConverter {
+        private int applicabilityChecks;
+
+        @Override
+        public boolean isApplicable(Type type, Map<String, String> attributes) {
+            applicabilityChecks++;
+            return super.isApplicable(type, attributes);
+        }
+    }
+
+    private static class AttributeDependentConverter extends StringConverter {
+        @Override
+        public boolean isApplicable(Type type, Map<String, String> attributes) {
+            return attributes != null && "true".equals(attributes.get("applicable")) && super.isApplicable(type, attributes);
+        }
+
+        @Override
+        public boolean isAttributeIndependent() {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CompactCollectionsTest {
+
+    @Test
+    public void shouldShareEmptyInstances() {
+        // given
+        Object[] items = {"a", "b"};
+
+        // when / then
+        assertThat(CompactCollections.list(items, 1, 1)).isSameAs(emptyList());
+        assertThat(CompactCollections.map(items, 1, 1)).isSameAs(emptyMap());
+    }
+
+    @Test
+    public void shouldCreateImmutableList() {
+        // given
+        Object[] items = {"skipped", "a", null, "c"};
+
+        // when
+        List<Object> list = CompactCollections.list(items, 1, 4);
+        items[1] = "changed";
+
+        // then
+        assertThat(list).containsExactly("a", null, "c");
+        assertThat(list).isEqualTo(asList("a", null, "c"));
+        assertThatThrownBy(() -> list.add("d")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void shouldCreateImmutableMapPreservingOrder() {
+        // given
+        Object[] entries = {"k1", "v1", null, "v2", "k3", null, "k1", "v4"};
+        Map<Object, Object> expected = new LinkedHashMap<>();
+        expected.put("k1", "v4");
+        expected.put(null, "v2");
+        expected.put("k3", null);
+
+        // when
+        Map<Object, Object> map = CompactCollections.map(entries, 0, entries.length);
+
+        // then
+        assertThat(map).isEqualTo(expected);
+        assertThat(map.keySet()).containsExactly("k1", null, "k3");
+        assertThat(map.get(null)).isEqualTo("v2");
+        assertThat(map.containsKey("k3")).isTrue();
+        assertThat(map.containsKey("k4")).isFalse();
+        assertThat(map.get("k4")).isNull();
+        assertThatThrownBy(() -> map.put("k4", "v4")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void shouldFindAllKeysOfLargeMap() {
+        // given
+        Object[] entries = new Object[2000];
+        for (int i = 0; i < 1000; i++) {
+            entries[2 * i] = "key" + i;
+            entries[2 * i + 1] = i;
+        }
+
+        // when
+        Map<Object, Object> map = CompactCollections.map(entries, 0, entries.length);
+
+        // then
+        assertThat(map).hasSize(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(map.get("key" + i)).isEqualTo(i);
+        }
+    }
+}
@@ -225,4 +225,13 @@ public class DoubleConverterTest {
                 .isExactlyInstanceOf(NullPointerException.class)
                 .hasMessage("type cannot be null");
     }
+
+    @Test
+    public void shouldConvertFromStringToPrimitiveWhenFormatNotSpecified() {
+        // when
+        double fromConversion = doubleTypeConverter.fromStringToDouble(Double.TYPE, "12.5", emptyMap());
+
+        // then
+        assertThat(fromConversion).isEqualTo(12.5);
+    }
 }
@@ -192,4 +192,41 @@ public class IntegerConverterTest {
                 .isExactlyInstanceOf(NullPointerException.class)
                 .hasMessage("type cannot be null");
     }
+
+    @Test
+    public void shouldConvertFromStringToPrimitiveWhenFormatNotSpecified() {
+        // when
+        int fromConversion = converter.fromStringToInt(Integer.TYPE, "1234", emptyMap());
+
+        // then
+        assertThat(fromConversion).isEqualTo(1234);
+    }
+
+    @Test
+    public void shouldConvertFromStringToPrimitiveWhenFormatSpecified() {
+        // given
+        Map<String, String> attributes = singletonMap("format", "0.##E0");
+
+        // when
+        int fromConversion = converter.fromStringToInt(Integer.TYPE, "1.234E3", attributes);
+
+        // then
+        assertThat(fromConversion).isEqualTo(1234);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenConvertingFromStringToPrimitiveAndWrongValue() {
+        // then
+        assertThatThrownBy(() -> converter.fromStringToInt(Integer.TYPE, "12a", emptyMap()))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unable to convert to int: 12a");
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenConvertingFromStringToPrimitiveAndValueIsNull() {
+        // then
+        assertThatThrownBy(() -> converter.fromStringToInt(Integer.TYPE, null, emptyMap()))
+                .isExactlyInstanceOf(NullPointerException.class)
+                .hasMessage("value cannot be null");
+    }
 }
@@ -27,7 +27,6 @@ package com.sabre.oss.conf4j.converter;
 import org.apache.commons.text.StringEscapeUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
 
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
@@ -38,9 +37,12 @@ import java.util.Map;
 import static com.sabre.oss.conf4j.converter.JsonLikeConverter.*;
 import static com.sabre.oss.conf4j.internal.utils.MapUtils.of;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.*;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SuppressWarnings("ConstantConditions")
 public class JsonLikeConverterTest {
@@ -194,47 +196,83 @@ public class JsonLikeConverterTest {
     }
 
     @Test
-    public void shouldProperlyConsumeJsonNullsAndAddNullValuesToBuilder() {
+    public void shouldConvertLargeListWithAndWithoutEscapes() {
+        for (boolean compact : new boolean[]{true, false}) {
+            // given
+            typeConverter = createConverter(compact);
+            List<String> in = range(0, 5000).mapToObj(i -> i % 10 == 0 ? TEXT1 + i : "item" + i).collect(toList());
+            String out = typeConverter.toString(SUPPORTED_LIST_TYPE, in, null);
+            // when
+            Object outObj = typeConverter.fromString(SUPPORTED_LIST_TYPE, out, null);
+            // then
+            assertThat(outObj).isEqualTo(in);
+        }
+    }
+
+    @Test
+    public void shouldConvertToImmutableCollections() {
         // given
-        boolean compact = false;
-        ObjectBuilder builder = Mockito.mock(ObjectBuilder.class);
+        typeConverter = new JsonLikeConverter(new StringConverter(false), true, true);
+        // when
+        Map<List<String>, Map<String, List<String>>> out = (Map<List<String>, Map<String, List<String>>>)
+                typeConverter.fromString(SUPPORTED_COMPLEX_TYPE, "{[key1]:{sub1:[],sub2:[a,b]},[key2,key3]:{}}", null);
+        // then
+        assertThat(out).containsOnlyKeys(singletonList("key1"), asList("key2", "key3"));
+        assertThat(out.get(singletonList("key1"))).containsEntry("sub1", emptyList()).containsEntry("sub2", asList("a", "b"));
+        assertThat(out.get(asList("key2", "key3"))).isEmpty();
+        assertThatThrownBy(() -> out.clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> out.get(singletonList("key1")).get("sub2").add("c")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void shouldRejectMalformedValues() {
+        // given
+        typeConverter = createConverter(true);
         // when / then
-        assertThat(typeConverter.consumeNull(JSON_NULL, 0, builder, compact)).isEqualTo(JSON_NULL.length());
-        assertThat(typeConverter.consumeNull(JSON_NULL + ',', 0, builder, compact)).isEqualTo(JSON_NULL.length());
-        assertThat(typeConverter.consumeNull("ABC" + JSON_NULL, 3, builder, compact)).isEqualTo(JSON_NULL.length());
-        assertThat(typeConverter.consumeNull("ABC" + JSON_NULL + ',', 3, builder, compact)).isEqualTo(JSON_NULL.length());
-        assertThat(typeConverter.consumeNull("ABC" + JSON_NULL + ':', 3, builder, compact)).isEqualTo(JSON_NULL.length());
-        assertThat(typeConverter.consumeNull("ABC" + JSON_NULL + '}', 3, builder, compact)).isEqualTo(JSON_NULL.length());
-        assertThat(typeConverter.consumeNull("ABC" + JSON_NULL + ']', 3, builder, compact)).isEqualTo(JSON_NULL.length());
-
-        assertThat(typeConverter.consumeNull("ABC" + COMPACT_JSON_NULL + ',', 2, builder, compact)).isEqualTo(0);
-        assertThat(typeConverter.consumeNull("ABC" + JSON_NULL + '{', 3, builder, compact)).isEqualTo(0);
-        assertThat(typeConverter.consumeNull("ABC" + JSON_NULL + '[', 3, builder, compact)).isEqualTo(0);
-        assertThat(typeConverter.consumeNull("ABC" + JSON_NULL + '[', 3, builder, compact)).isEqualTo(0);
-
-        verify(builder, times(7)).addValue(eq(null));
+        assertThatThrownBy(() -> typeConverter.fromString(SUPPORTED_LIST_TYPE, "[a,b", null))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> typeConverter.fromString(SUPPORTED_LIST_TYPE, "[a,b],", null))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Object successfully constructed but not all characters have been consumed");
+        assertThatThrownBy(() -> typeConverter.fromString(SUPPORTED_MAP_TYPE, "{a:b,}", null))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> typeConverter.fromString(SUPPORTED_MAP_TYPE, "{a:b,c}", null))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> createConverter(false).fromString(SUPPORTED_LIST_TYPE, "[\"a]", null))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
-    public void shouldProperlyConsumeCompactJsonNullsAndAddNullValuesToBuilder() {
+    public void shouldConvertJsonNullsFollowedByDelimiters() {
         // given
-        boolean compact = true;
-        ObjectBuilder builder = Mockito.mock(ObjectBuilder.class);
+        typeConverter = createConverter(false);
+
+        // when / then
+        assertThat(typeConverter.fromString(SUPPORTED_LIST_TYPE, "[null]", null)).isEqualTo(singletonList(null));
+        assertThat(typeConverter.fromString(SUPPORTED_LIST_TYPE, "[null,\"a\",null]", null)).isEqualTo(asList(null, "a", null));
+        assertThat(typeConverter.fromString(SUPPORTED_MAP_TYPE, "{null:\"a\",\"b\":null}", null)).isEqualTo(of(null, "a", "b", null));
+        assertThat(typeConverter.fromString(SUPPORTED_COMPLEX_TYPE, "{null:{\"a\":null}}", null)).isEqualTo(of(null, of("a", null)));
+        assertThat(typeConverter.fromString(SUPPORTED_LIST_TYPE, "[\"null\"]", null)).isEqualTo(singletonList(JSON_NULL));
+
+        assertThatThrownBy(() -> typeConverter.fromString(SUPPORTED_LIST_TYPE, "[nullx]", null))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> typeConverter.fromString(SUPPORTED_LIST_TYPE, "[null[]]", null))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> typeConverter.fromString(SUPPORTED_LIST_TYPE, "[\\@null]", null))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldConvertCompactJsonNullsFollowedByDelimiters() {
+        // given
+        typeConverter = createConverter(true);
+
         // when / then
-        assertThat(typeConverter.consumeNull(COMPACT_JSON_NULL, 0, builder, compact)).isEqualTo(COMPACT_JSON_NULL.length());
-        assertThat(typeConverter.consumeNull(COMPACT_JSON_NULL + ',', 0, builder, compact)).isEqualTo(COMPACT_JSON_NULL.length());
-        assertThat(typeConverter.consumeNull("ABC" + COMPACT_JSON_NULL, 3, builder, compact)).isEqualTo(COMPACT_JSON_NULL.length());
-        assertThat(typeConverter.consumeNull("ABC" + COMPACT_JSON_NULL + ',', 3, builder, compact)).isEqualTo(COMPACT_JSON_NULL.length());
-        assertThat(typeConverter.consumeNull("ABC" + COMPACT_JSON_NULL + ':', 3, builder, compact)).isEqualTo(COMPACT_JSON_NULL.length());
-        assertThat(typeConverter.consumeNull("ABC" + COMPACT_JSON_NULL + '}', 3, builder, compact)).isEqualTo(COMPACT_JSON_NULL.length());
-        assertThat(typeConverter.consumeNull("ABC" + COMPACT_JSON_NULL + ']', 3, builder, compact)).isEqualTo(COMPACT_JSON_NULL.length());
-
-        assertThat(typeConverter.consumeNull("ABC" + COMPACT_JSON_NULL + ',', 2, builder, compact)).isEqualTo(0);
-        assertThat(typeConverter.consumeNull("ABC" + COMPACT_JSON_NULL + '{', 3, builder, compact)).isEqualTo(0);
-        assertThat(typeConverter.consumeNull("ABC" + COMPACT_JSON_NULL + '{', 3, builder, compact)).isEqualTo(0);
-        assertThat(typeConverter.consumeNull("ABC" + JSON_NULL + '[', 3, builder, compact)).isEqualTo(0);
-
-        verify(builder, times(7)).addValue(eq(null));
+        assertThat(typeConverter.fromString(SUPPORTED_LIST_TYPE, "[\\@null]", null)).isEqualTo(singletonList(null));
+        assertThat(typeConverter.fromString(SUPPORTED_LIST_TYPE, "[\\@null,a,\\@null]", null)).isEqualTo(asList(null, "a", null));
+        assertThat(typeConverter.fromString(SUPPORTED_MAP_TYPE, "{\\@null:a,b:\\@null}", null)).isEqualTo(of(null, "a", "b", null));
+        assertThat(typeConverter.fromString(SUPPORTED_COMPLEX_TYPE, "{\\@null:{a:\\@null}}", null)).isEqualTo(of(null, of("a", null)));
+        assertThat(typeConverter.fromString(SUPPORTED_LIST_TYPE, "[null,nullx]", null)).isEqualTo(asList(JSON_NULL, "nullx"));
     }
 
     protected void assertSymmetricConversion(boolean compactMode, Type type, Object object, String string) {
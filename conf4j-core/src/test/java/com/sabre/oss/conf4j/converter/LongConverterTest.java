@@ -179,4 +179,13 @@ public class LongConverterTest {
                 .isExactlyInstanceOf(NullPointerException.class)
                 .hasMessage("type cannot be null");
     }
+
+    @Test
+    public void shouldConvertFromStringToPrimitiveWhenFormatNotSpecified() {
+        // when
+        long fromConversion = longTypeConverter.fromStringToLong(Long.TYPE, "1234567890123", emptyMap());
+
+        // then
+        assertThat(fromConversion).isEqualTo(1234567890123L);
+    }
 }
@@ -24,6 +24,7 @@
 
 package com.sabre.oss.conf4j.internal.config;
 
+import com.sabre.oss.conf4j.converter.IntegerConverter;
 import com.sabre.oss.conf4j.converter.TypeConverter;
 import com.sabre.oss.conf4j.internal.factory.KeySetUtils;
 import com.sabre.oss.conf4j.internal.utils.KeyGenerator;
@@ -31,6 +32,7 @@ import com.sabre.oss.conf4j.processor.ConfigurationValue;
 import com.sabre.oss.conf4j.processor.ConfigurationValueProcessor;
 import com.sabre.oss.conf4j.source.OptionalValue;
 import com.sabre.oss.conf4j.source.TestConfigurationSource;
+import com.sabre.oss.conf4j.source.VersionedConfigurationSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,6 +42,8 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.sabre.oss.conf4j.internal.utils.KeyGenerator.emptyKeyGenerator;
 import static com.sabre.oss.conf4j.internal.utils.KeyGenerator.keyGenerator;
@@ -69,8 +73,8 @@ public class DefaultConfigurationValueProviderTest {
     @BeforeEach
     public void before() {
         reset(source);
-        when(source.getValue(anyString(), any())).thenReturn(absent());
-        when(typeConverter.fromString(any(), anyString(), any())).thenAnswer(invocation -> invocation.getArguments()[1]);
+        lenient().when(source.getValue(anyString(), any())).thenReturn(absent());
+        lenient().when(typeConverter.fromString(any(), anyString(), any())).thenAnswer(invocation -> invocation.getArguments()[1]);
     }
 
     private PropertyMetadata metadata(List<String> keySet, String defaultValue, String encryptionProvider) {
@@ -190,4 +194,147 @@ public class DefaultConfigurationValueProviderTest {
         // then
         verify(configurationValueProcessor, times(1)).process(any(ConfigurationValue.class));
     }
+
+    @Test
+    public void shouldMemoizeValueUntilSourceVersionChanges() {
+        // given
+        when(source.getValue("fallback.key", null)).thenReturn(present("value"));
+        AtomicLong version = new AtomicLong();
+        VersionedConfigurationSource versionedSource = versionedSource(version);
+        PropertyMetadata metadata = metadata(getKeySet(), defaultValue, notEncrypted);
+        provider = new DefaultConfigurationValueProvider(emptyList(), true);
+        PropertyAccessor accessor = provider.getPropertyAccessor(typeConverter, metadata);
+        PropertyValueMemo memo = new PropertyValueMemo();
+
+        // when
+        accessor.getConfigurationValue(versionedSource, memo);
+        OptionalValue<Object> memoized = accessor.getConfigurationValue(versionedSource, memo);
+        version.incrementAndGet();
+        OptionalValue<Object> reloaded = accessor.getConfigurationValue(versionedSource, memo);
+
+        // then
+        assertThat(memoized).isEqualTo(present("value"));
+        assertThat(reloaded).isEqualTo(present("value"));
+        verify(source, times(2)).getValue("fallback.key", null);
+        verify(typeConverter, times(2)).fromString(any(), eq("value"), any());
+    }
+
+    @Test
+    public void shouldNotMemoizeValueWhenSourceIsNotVersioned() {
+        // given
+        when(source.getValue("fallback.key", null)).thenReturn(present("value"));
+        PropertyMetadata metadata = metadata(getKeySet(), defaultValue, notEncrypted);
+        provider = new DefaultConfigurationValueProvider(emptyList(), true);
+
+        // when
+        provider.getConfigurationValue(typeConverter, source, metadata);
+        provider.getConfigurationValue(typeConverter, source, metadata);
+
+        // then
+        verify(source, times(2)).getValue("fallback.key", null);
+        verify(typeConverter, times(2)).fromString(any(), eq("value"), any());
+    }
+
+    @Test
+    public void shouldNotMemoizeValueWithoutMemo() {
+        // given
+        when(source.getValue("fallback.key", null)).thenReturn(present("value"));
+        VersionedConfigurationSource versionedSource = versionedSource(new AtomicLong());
+        PropertyMetadata metadata = metadata(getKeySet(), defaultValue, notEncrypted);
+        provider = new DefaultConfigurationValueProvider(emptyList(), true);
+
+        // when
+        provider.getConfigurationValue(typeConverter, versionedSource, metadata);
+        provider.getConfigurationValue(typeConverter, versionedSource, metadata);
+
+        // then
+        verify(source, times(2)).getValue("fallback.key", null);
+    }
+
+    @Test
+    public void shouldKeepMemoizedValuesPerMemo() {
+        // given
+        AtomicLong version = new AtomicLong();
+        TestConfigurationSource otherSource = spy(TestConfigurationSource.class);
+        when(source.getValue("fallback.key", null)).thenReturn(present("value"));
+        when(otherSource.getValue("fallback.key", null)).thenReturn(present("other"));
+        VersionedConfigurationSource versionedSource = versionedSource(version);
+        VersionedConfigurationSource otherVersionedSource = versionedSource(version, otherSource);
+        provider = new DefaultConfigurationValueProvider(emptyList(), true);
+        PropertyAccessor accessor = provider.getPropertyAccessor(typeConverter, metadata(getKeySet(), defaultValue, notEncrypted));
+        PropertyValueMemo memo = new PropertyValueMemo();
+        PropertyValueMemo otherMemo = new PropertyValueMemo();
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            assertThat(accessor.getConfigurationValue(versionedSource, memo)).isEqualTo(present("value"));
+            assertThat(accessor.getConfigurationValue(otherVersionedSource, otherMemo)).isEqualTo(present("other"));
+        }
+
+        // then
+        verify(source, times(1)).getValue("fallback.key", null);
+        verify(otherSource, times(1)).getValue("fallback.key", null);
+    }
+
+    @Test
+    public void shouldReturnPrimitiveValue() {
+        // given
+        when(source.getValue("fallback.key", null)).thenReturn(present("10"));
+        PropertyMetadata metadata = new PropertyMetadata("anything", Integer.TYPE, null, getKeySet(), absent(), notEncrypted, null);
+
+        // when
+        int value = provider.getIntConfigurationValue(new IntegerConverter(), source, metadata, -1);
+
+        // then
+        assertThat(value).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldReturnPrimitiveValueIfAbsentWhenValueIsNotAvailable() {
+        // given
+        PropertyMetadata metadata = new PropertyMetadata("anything", Integer.TYPE, null, getKeySet(), absent(), notEncrypted, null);
+
+        // when
+        int value = provider.getIntConfigurationValue(new IntegerConverter(), source, metadata, -1);
+
+        // then
+        assertThat(value).isEqualTo(-1);
+    }
+
+    @Test
+    public void shouldShareCanonicalPropertyMetadata() {
+        // given
+        DefaultConfigurationValueProvider provider = new DefaultConfigurationValueProvider(emptyList());
+        TypeConverter<?> typeConverter = new IntegerConverter();
+        PropertyMetadata metadata = new PropertyMetadata("property", Integer.class, null, asList("key", "fallback"), present("1"), null, null);
+        PropertyMetadata equalMetadata = new PropertyMetadata("property", Integer.class, null, asList("key", "fallback"), present("1"), null, null);
+        PropertyMetadata otherMetadata = new PropertyMetadata("property", Integer.class, null, asList("key", "fallback"), present("2"), null, null);
+
+        // when
+        PropertyMetadata canonical = provider.getCanonicalPropertyMetadata(typeConverter, metadata);
+
+        // then
+        assertThat(canonical).isSameAs(metadata);
+        assertThat(provider.getCanonicalPropertyMetadata(typeConverter, equalMetadata)).isSameAs(metadata);
+        assertThat(provider.getCanonicalPropertyMetadata(typeConverter, otherMetadata)).isSameAs(otherMetadata);
+        assertThat(provider.getCanonicalPropertyMetadata(new IntegerConverter(), equalMetadata)).isSameAs(equalMetadata);
+    }
+
+    private VersionedConfigurationSource versionedSource(AtomicLong version) {
+        return versionedSource(version, source);
+    }
+
+    private static VersionedConfigurationSource versionedSource(AtomicLong version, TestConfigurationSource source) {
+        return new VersionedConfigurationSource() {
+            @Override
+            public long getVersion() {
+                return version.get();
+            }
+
+            @Override
+            public OptionalValue<String> getValue(String key, Map<String, String> attributes) {
+                return source.getValue(key, attributes);
+            }
+        };
+    }
 }
@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.internal.config;
+
+import com.sabre.oss.conf4j.converter.ChainedTypeConverter;
+import com.sabre.oss.conf4j.converter.IntegerConverter;
+import com.sabre.oss.conf4j.converter.StringConverter;
+import com.sabre.oss.conf4j.converter.TypeConverter;
+import com.sabre.oss.conf4j.source.ConfigurationEntry;
+import com.sabre.oss.conf4j.source.IterableConfigurationSource;
+import com.sabre.oss.conf4j.source.MapConfigurationSource;
+import com.sabre.oss.conf4j.source.OptionalValue;
+import com.sabre.oss.conf4j.source.WritableMapConfigurationSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static com.sabre.oss.conf4j.internal.Constants.COLLECTION_SIZE_SUFFIX;
+import static com.sabre.oss.conf4j.source.OptionalValue.absent;
+import static com.sabre.oss.conf4j.source.OptionalValue.present;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PropertyAccessorTest {
+    private final ConfigurationValueProvider provider = new DefaultConfigurationValueProvider(emptyList());
+    @Mock
+    private TypeConverter<String> typeConverter;
+
+    @Test
+    public void shouldReuseAccessorBoundToTheSameTypeConverter() {
+        // given
+        PropertyMetadata metadata = metadata(String.class, absent());
+        TypeConverter<?> otherTypeConverter = new StringConverter();
+
+        // when
+        PropertyAccessor accessor = provider.getPropertyAccessor(typeConverter, metadata);
+        PropertyAccessor sameAccessor = provider.getPropertyAccessor(typeConverter, metadata);
+        PropertyAccessor otherAccessor = provider.getPropertyAccessor(otherTypeConverter, metadata);
+
+        // then
+        assertThat(sameAccessor).isSameAs(accessor);
+        assertThat(otherAccessor).isNotSameAs(accessor);
+        assertThat(metadata.getPropertyAccessor()).isSameAs(otherAccessor);
+    }
+
+    @Test
+    public void shouldConvertDefaultValueOnlyOnce() {
+        // given
+        when(typeConverter.fromString(any(), eq("default"), any())).thenReturn("converted");
+        PropertyAccessor accessor = provider.getPropertyAccessor(typeConverter, metadata(String.class, present("default")));
+
+        // when
+        OptionalValue<Object> first = accessor.getConfigurationValue(null);
+        OptionalValue<Object> second = accessor.getConfigurationValue(new MapConfigurationSource(singletonMap("other", "value")));
+
+        // then
+        assertThat(first).isEqualTo(present("converted"));
+        assertThat(second).isEqualTo(present("converted"));
+        verify(typeConverter, times(1)).fromString(any(), eq("default"), any());
+    }
+
+    @Test
+    public void shouldNotShareMutableDefaultValue() {
+        // given
+        TypeConverter<List<String>> listConverter = mock(TypeConverter.class);
+        when(listConverter.fromString(any(), eq("[a, b]"), any())).thenAnswer(invocation -> new ArrayList<>(asList("a", "b")));
+        PropertyMetadata metadata = new PropertyMetadata("property", List.class, null, singletonList("key"), present("[a, b]"), null, null);
+        PropertyAccessor accessor = provider.getPropertyAccessor(listConverter, metadata);
+
+        // when
+        List<?> first = (List<?>) accessor.getConfigurationValue(null).get();
+        first.clear();
+        Object second = accessor.getConfigurationValue(null).get();
+
+        // then
+        assertThat(second).isEqualTo(asList("a", "b"));
+    }
+
+    @Test
+    public void shouldProvidePrimitiveValueUsingConverterFromTheChain() {
+        // given
+        TypeConverter<?> chainedTypeConverter = new ChainedTypeConverter(new StringConverter(), new IntegerConverter());
+        PropertyAccessor accessor = provider.getPropertyAccessor(chainedTypeConverter, metadata(Integer.TYPE, present("1")));
+        MapConfigurationSource source = new MapConfigurationSource(singletonMap("key", "10"));
+
+        // when
+        int fromSource = accessor.getIntValue(source, -1);
+        int fromDefault = accessor.getIntValue(null, -1);
+
+        // then
+        assertThat(fromSource).isEqualTo(10);
+        assertThat(fromDefault).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldDeriveListSizeFromListItems() {
+        // given
+        PropertyMetadata metadata = new PropertyMetadata("list" + COLLECTION_SIZE_SUFFIX, Integer.TYPE, null,
+                asList("prefix.list.size", "list.size"), present("1"), null, null);
+        PropertyAccessor accessor = provider.getPropertyAccessor(new IntegerConverter(), metadata);
+        WritableMapConfigurationSource source = new WritableMapConfigurationSource(new HashMap<>());
+        source.setValue("prefix.list[0].value", "0", null);
+        source.setValue("list[2].value", "2", null);
+        source.setValue("list[x].value", "x", null);
+
+        // when
+        int derived = accessor.getIntValue(source, -1);
+        source.setValue("prefix.list[3].value", "3", null);
+        int derivedAfterChange = accessor.getIntValue(source, -1);
+        source.setValue("list.size", "2", null);
+        int explicit = accessor.getIntValue(source, -1);
+
+        // then
+        assertThat(derived).isEqualTo(3);
+        assertThat(derivedAfterChange).isEqualTo(4);
+        assertThat(explicit).isEqualTo(2);
+        assertThat(accessor.getIntValue(new WritableMapConfigurationSource(new HashMap<>()), -1)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldUseValueIfAbsentWhenListHasNoItems() {
+        // given
+        PropertyMetadata metadata = new PropertyMetadata("list" + COLLECTION_SIZE_SUFFIX, Integer.TYPE, null,
+                singletonList("list.size"), absent(), null, null);
+        PropertyAccessor accessor = provider.getPropertyAccessor(new IntegerConverter(), metadata);
+
+        // when
+        int size = accessor.getIntValue(new WritableMapConfigurationSource(new HashMap<>()), 2);
+
+        // then
+        assertThat(size).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldCacheDerivedListSizePerSourceVersionWhenMemoizationIsDisabled() {
+        // given
+        PropertyMetadata metadata = new PropertyMetadata("list" + COLLECTION_SIZE_SUFFIX, Integer.TYPE, null,
+                singletonList("list.size"), absent(), null, null);
+        PropertyAccessor accessor = provider.getPropertyAccessor(new IntegerConverter(), metadata);
+        WritableMapConfigurationSource source = spy(new WritableMapConfigurationSource(new HashMap<>()));
+        source.setValue("list[0].value", "0", null);
+
+        // when
+        int derived = accessor.getIntValue(source, -1);
+        int cached = accessor.getIntValue(source, -1);
+        source.setValue("list[1].value", "1", null);
+        int derivedAfterChange = accessor.getIntValue(source, -1);
+
+        // then
+        assertThat(derived).isEqualTo(1);
+        assertThat(cached).isEqualTo(1);
+        assertThat(derivedAfterChange).isEqualTo(2);
+        verify(source, times(2)).getConfigurationEntriesWithPrefix("list[");
+    }
+
+    @Test
+    public void shouldDeriveListSizeOnlyOnceForNotVersionedSource() {
+        // given
+        PropertyMetadata metadata = new PropertyMetadata("list" + COLLECTION_SIZE_SUFFIX, Integer.TYPE, null,
+                singletonList("list.size"), absent(), null, null);
+        PropertyAccessor accessor = provider.getPropertyAccessor(new IntegerConverter(), metadata);
+        IterableConfigurationSource source = mock(IterableConfigurationSource.class);
+        when(source.getConfigurationEntriesWithPrefix("list["))
+                .thenReturn(singletonList(new ConfigurationEntry("list[2].value", "2")));
+
+        // when
+        int derived = accessor.getIntValue(source, -1);
+        int cached = accessor.getIntValue(source, -1);
+
+        // then
+        assertThat(derived).isEqualTo(3);
+        assertThat(cached).isEqualTo(3);
+        verify(source, times(1)).getConfigurationEntriesWithPrefix("list[");
+    }
+
+    private static PropertyMetadata metadata(Class<?> type, OptionalValue<String> defaultValue) {
+        return new PropertyMetadata("property", type, null, singletonList("key"), defaultValue, null, null);
+    }
+}
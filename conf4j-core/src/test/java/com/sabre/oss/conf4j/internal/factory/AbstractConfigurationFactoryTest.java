@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.internal.factory;
+
+import com.sabre.oss.conf4j.annotation.Key;
+import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
+import com.sabre.oss.conf4j.source.ConfigurationSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AbstractConfigurationFactoryTest {
+    private final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private final AbstractConfigurationFactory factory = new AbstractConfigurationFactory(new SlowConfigurationInstanceCreator()) {
+        @Override
+        protected void initializeConfiguration(Object configurationInstance, ConfigurationModel configurationModel, ConfigurationSource configurationSource, ClassLoader classLoader) {
+        }
+    };
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        forkJoinPool.shutdown();
+        forkJoinPool.awaitTermination(1, MINUTES);
+    }
+
+    @Test
+    public void shouldPrepareSharedSubConfigurationBeforeEveryConfigurationWhichUsesIt() {
+        // when
+        Map<Class<?>, Duration> timings = factory.preload(asList(FirstConfiguration.class, SecondConfiguration.class), null, forkJoinPool);
+
+        // then
+        assertThat(timings).containsOnlyKeys(FirstConfiguration.class, SecondConfiguration.class, SharedConfiguration.class);
+        assertThat(events).containsExactlyInAnyOrder(
+                "start " + SharedConfiguration.class.getSimpleName(),
+                "end " + SharedConfiguration.class.getSimpleName(),
+                "start " + FirstConfiguration.class.getSimpleName(),
+                "end " + FirstConfiguration.class.getSimpleName(),
+                "start " + SecondConfiguration.class.getSimpleName(),
+                "end " + SecondConfiguration.class.getSimpleName());
+        int sharedEnd = events.indexOf("end " + SharedConfiguration.class.getSimpleName());
+        assertThat(events.indexOf("start " + FirstConfiguration.class.getSimpleName())).isGreaterThan(sharedEnd);
+        assertThat(events.indexOf("start " + SecondConfiguration.class.getSimpleName())).isGreaterThan(sharedEnd);
+    }
+
+    private class SlowConfigurationInstanceCreator implements ConfigurationInstanceCreator {
+        @Override
+        public <T> T createInstance(ConfigurationModel configurationModel, ClassLoader classLoader) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void prepareClass(ConfigurationModel configurationModel, ClassLoader classLoader) {
+            String name = configurationModel.getConfigurationType().getSimpleName();
+            events.add("start " + name);
+            if (configurationModel.getConfigurationType() == SharedConfiguration.class) {
+                // gives the other configuration type a chance to reach the shared one while it is being prepared
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add("end " + name);
+        }
+    }
+
+    public interface FirstConfiguration {
+        SharedConfiguration getShared();
+    }
+
+    public interface SecondConfiguration {
+        SharedConfiguration getShared();
+    }
+
+    public interface SharedConfiguration {
+        @Key
+        String getValue();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.internal.factory;
+
+import com.sabre.oss.conf4j.annotation.Key;
+import com.sabre.oss.conf4j.internal.factory.PropertyDispatchTable.PropertyMethod;
+import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
+import com.sabre.oss.conf4j.internal.model.provider.annotation.AnnotationConfigurationModelProvider;
+import com.sabre.oss.conf4j.internal.model.provider.convention.ConventionConfigurationModelProvider;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+import static com.sabre.oss.conf4j.internal.Constants.COLLECTION_SIZE_SUFFIX;
+import static com.sabre.oss.conf4j.internal.Constants.LIST_SUFFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PropertyDispatchTableTest {
+    private final ConfigurationModel configurationModel = AnnotationConfigurationModelProvider.getInstance().getConfigurationModel(Configuration.class);
+
+    @Test
+    public void shouldDispatchPropertyGetters() throws NoSuchMethodException {
+        // when
+        PropertyDispatchTable dispatchTable = PropertyDispatchTable.getDispatchTable(configurationModel);
+
+        // then
+        assertThat(dispatchTable.getSize()).isEqualTo(4);
+        PropertyMethod name = dispatchTable.getPropertyMethod(Configuration.class.getMethod("getName"));
+        assertThat(name.getKind()).isEqualTo(PropertyMethod.VALUE);
+        assertThat(name.getSlot()).isEqualTo(dispatchTable.getSlot("name"));
+
+        PropertyMethod sub = dispatchTable.getPropertyMethod(Configuration.class.getMethod("getSub"));
+        assertThat(sub.getKind()).isEqualTo(PropertyMethod.SUB_CONFIGURATION);
+        assertThat(sub.getSlot()).isEqualTo(dispatchTable.getSlot("sub"));
+
+        PropertyMethod subs = dispatchTable.getPropertyMethod(Configuration.class.getMethod("getSubs"));
+        assertThat(subs.getKind()).isEqualTo(PropertyMethod.SUB_CONFIGURATION_LIST);
+        assertThat(subs.getSlot()).isEqualTo(dispatchTable.getSlot("subs" + LIST_SUFFIX));
+        assertThat(subs.getSizeSlot()).isEqualTo(dispatchTable.getSlot("subs" + COLLECTION_SIZE_SUFFIX));
+        assertThat(dispatchTable.getSlot("unknown")).isEqualTo(-1);
+    }
+
+    @Test
+    public void shouldNotDispatchOverloadsAndOtherMethods() throws NoSuchMethodException {
+        // when
+        PropertyDispatchTable dispatchTable = PropertyDispatchTable.getDispatchTable(configurationModel);
+
+        // then
+        assertThat(dispatchTable.getPropertyMethod(Configuration.class.getMethod("getName", String.class))).isNull();
+        assertThat(dispatchTable.getPropertyMethod(Object.class.getMethod("toString"))).isNull();
+        assertThat(dispatchTable.getPropertyMethod(Object.class.getMethod("equals", Object.class))).isNull();
+    }
+
+    @Test
+    public void shouldShareDispatchTableOfTheSameModel() {
+        // given
+        ConfigurationModel conventionModel = ConventionConfigurationModelProvider.getInstance().getConfigurationModel(Configuration.class);
+
+        // when
+        PropertyDispatchTable dispatchTable = PropertyDispatchTable.getDispatchTable(configurationModel);
+
+        // then
+        assertThat(PropertyDispatchTable.getDispatchTable(configurationModel)).isSameAs(dispatchTable);
+        assertThat(PropertyDispatchTable.getDispatchTable(conventionModel)).isNotSameAs(dispatchTable);
+    }
+
+    @Test
+    public void shouldDispatchOverriddenGettersByMethod() throws NoSuchMethodException {
+        // given
+        ConfigurationModel model = AnnotationConfigurationModelProvider.getInstance().getConfigurationModel(CovariantConfiguration.class);
+
+        // when
+        PropertyDispatchTable dispatchTable = PropertyDispatchTable.getDispatchTable(model);
+
+        // then
+        PropertyMethod overriding = dispatchTable.getPropertyMethod(CovariantConfiguration.class.getMethod("getName"));
+        PropertyMethod overridden = dispatchTable.getPropertyMethod(BaseConfiguration.class.getMethod("getName"));
+        assertThat(overriding).isNotNull();
+        assertThat(overridden).isSameAs(overriding);
+    }
+
+    @Test
+    public void shouldDispatchGettersOfDeserializedTable() throws Exception {
+        // given
+        PropertyDispatchTable dispatchTable = PropertyDispatchTable.getDispatchTable(configurationModel);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(dispatchTable);
+        }
+
+        // when
+        PropertyDispatchTable deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (PropertyDispatchTable) in.readObject();
+        }
+
+        // then
+        PropertyMethod name = deserialized.getPropertyMethod(Configuration.class.getMethod("getName"));
+        assertThat(name.getSlot()).isEqualTo(dispatchTable.getSlot("name"));
+    }
+
+    public interface BaseConfiguration {
+        Object getName();
+    }
+
+    public interface CovariantConfiguration extends BaseConfiguration {
+        @Override
+        @Key
+        String getName();
+    }
+
+    public interface Configuration {
+        @Key
+        String getName();
+
+        default String getName(String suffix) {
+            return getName() + suffix;
+        }
+
+        SubConfiguration getSub();
+
+        List<SubConfiguration> getSubs();
+    }
+
+    public interface SubConfiguration {
+        @Key
+        String getValue();
+    }
+}
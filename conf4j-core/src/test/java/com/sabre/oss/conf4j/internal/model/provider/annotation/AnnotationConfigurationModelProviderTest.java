@@ -86,6 +86,23 @@ public class AnnotationConfigurationModelProviderTest {
         assertThat(allTimeoutsProperty.getDefaultValues()).isEmpty();
     }
 
+    @Test
+    public void shouldCacheConfigurationModelUntilEvicted() {
+        // given
+        AnnotationConfigurationModelProvider modelProvider = new AnnotationConfigurationModelProvider();
+        ConfigurationModel model = modelProvider.getConfigurationModel(ConnectionConfiguration.class);
+
+        // when
+        ConfigurationModel cached = modelProvider.getConfigurationModel(ConnectionConfiguration.class);
+        modelProvider.evict(ConnectionConfiguration.class);
+        ConfigurationModel reparsed = modelProvider.getConfigurationModel(ConnectionConfiguration.class);
+
+        // then
+        assertThat(cached).isSameAs(model);
+        assertThat(reparsed).isNotSameAs(model);
+        assertThat(reparsed.getConfigurationType()).isSameAs(ConnectionConfiguration.class);
+    }
+
     @SuppressWarnings("unchecked")
     private <T extends PropertyModel> T property(ConfigurationModel configurationModel, String property) {
         return configurationModel.getProperties().stream()
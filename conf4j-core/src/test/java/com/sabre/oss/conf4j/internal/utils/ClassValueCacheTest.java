@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.internal.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassValueCacheTest {
+    private final ClassValueCache<String> cache = new ClassValueCache<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void shouldLoadValueOnce() {
+        // when
+        String first = cache.get(String.class, "key", this::load);
+        String second = cache.get(String.class, "key", this::load);
+
+        // then
+        assertThat(first).isEqualTo("String:key");
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    public void shouldCacheNullValues() {
+        // when
+        String first = cache.get(String.class, "key", (type, key) -> loadNull());
+        String second = cache.get(String.class, "key", (type, key) -> loadNull());
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    public void shouldDistinguishTypesAndKeys() {
+        // when
+        String value = cache.get(String.class, 1, "a", this::load);
+        String otherKey = cache.get(String.class, 1, "b", this::load);
+        String otherType = cache.get(Integer.class, 1, "a", this::load);
+
+        // then
+        assertThat(value).isEqualTo("String:1:a");
+        assertThat(otherKey).isEqualTo("String:1:b");
+        assertThat(otherType).isEqualTo("Integer:1:a");
+        assertThat(cache.get(String.class, 1, "a", this::load)).isSameAs(value);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    public void shouldReloadEvictedValues() {
+        // given
+        cache.get(String.class, "key", this::load);
+        cache.get(Integer.class, "key", this::load);
+
+        // when
+        cache.evict(String.class);
+        cache.get(String.class, "key", this::load);
+        cache.get(Integer.class, "key", this::load);
+
+        // then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    public void shouldReloadValuesAfterClear() {
+        // given
+        cache.get(String.class, "key", this::load);
+        cache.get(Integer.class, "key", this::load);
+
+        // when
+        cache.clear();
+        cache.get(String.class, "key", this::load);
+        cache.get(Integer.class, "key", this::load);
+
+        // then
+        assertThat(loads).hasValue(4);
+    }
+
+    private String load(Class<?> type, Object key) {
+        loads.incrementAndGet();
+        return type.getSimpleName() + ':' + key;
+    }
+
+    private String load(Class<?> type, Object key1, Object key2) {
+        loads.incrementAndGet();
+        return type.getSimpleName() + ':' + key1 + ':' + key2;
+    }
+
+    private String loadNull() {
+        loads.incrementAndGet();
+        return null;
+    }
+}
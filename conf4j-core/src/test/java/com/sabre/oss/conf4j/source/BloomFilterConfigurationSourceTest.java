@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.source;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.sabre.oss.conf4j.internal.utils.MapUtils.of;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BloomFilterConfigurationSourceTest {
+
+    @Test
+    public void shouldNotReportFalseNegatives() {
+        // given
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            map.put("key" + i, "value" + i);
+        }
+        BloomFilterConfigurationSource source = new BloomFilterConfigurationSource(new MapConfigurationSource(map));
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(source.mightContainKey("key" + i)).isTrue();
+            if (source.mightContainKey("missing" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(source.getValue("key1", null).get()).isEqualTo("value1");
+    }
+
+    @Test
+    public void shouldRebuildFilterWhenSourceIsModified() {
+        // given
+        WritableMapConfigurationSource writableSource = new WritableMapConfigurationSource(new HashMap<>(of("key1", "value1")));
+        BloomFilterConfigurationSource source = new BloomFilterConfigurationSource(writableSource);
+        assertThat(source.mightContainKey("key1")).isTrue();
+        long version = source.getVersion();
+
+        // when
+        writableSource.setValue("key2", "value2", null);
+
+        // then
+        assertThat(source.getVersion()).isGreaterThan(version);
+        assertThat(source.mightContainKey("key2")).isTrue();
+    }
+
+    @Test
+    public void shouldRejectInvalidBitsPerKey() {
+        assertThatThrownBy(() -> new BloomFilterConfigurationSource(new MapConfigurationSource(new HashMap<>()), 0))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bitsPerKey must be positive");
+    }
+}
@@ -26,7 +26,13 @@ package com.sabre.oss.conf4j.source;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static com.sabre.oss.conf4j.internal.utils.MapUtils.of;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class MapConfigurationSourceTest {
@@ -51,4 +57,35 @@ public class MapConfigurationSourceTest {
         // then
         assertThat(iterable).containsExactly(new ConfigurationEntry("key1", "value1"), new ConfigurationEntry("key2", "value2"));
     }
+
+    @Test
+    public void shouldCopyMap() {
+        // given
+        Map<String, String> map = new HashMap<>(of("key1", "value1"));
+
+        // when
+        MapConfigurationSource source = new MapConfigurationSource(map);
+        long version = source.getVersion();
+        map.put("key1", "modified");
+        map.put("key2", "added");
+
+        // then
+        assertThat(source.getValue("key1", null).get()).isEqualTo("value1");
+        assertThat(source.getValue("key2", null).isAbsent()).isTrue();
+        assertThat(source.getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    public void shouldFindEntriesForManyKeySets() {
+        // given
+        MapConfigurationSource source = new MapConfigurationSource(of("key1", "value1", "key2", "value2"));
+        // when
+        Map<List<String>, ConfigurationEntry> entries = source.findEntries(
+                asList(asList("missing", "key2"), singletonList("missing"), asList("key1", "key2")), null);
+        // then
+        assertThat(entries)
+                .hasSize(2)
+                .containsEntry(asList("missing", "key2"), new ConfigurationEntry("key2", "value2"))
+                .containsEntry(asList("key1", "key2"), new ConfigurationEntry("key1", "value1"));
+    }
 }
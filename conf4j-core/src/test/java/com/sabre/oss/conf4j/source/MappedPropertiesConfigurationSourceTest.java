@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.source;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.file.Files.createTempDirectory;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MappedPropertiesConfigurationSourceTest {
+    private Path directory;
+    private Path file;
+
+    @BeforeEach
+    public void createTempDirectoryWithFile() throws IOException {
+        directory = createTempDirectory("tmp");
+        file = directory.resolve("sample.properties");
+    }
+
+    @AfterEach
+    public void deleteTempDirectoryWithFile() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    public void shouldReadPropertiesLikeProperties() throws IOException {
+        // given
+        String content = "# comment\n" +
+                "! another comment \\\n" +
+                "key1=value1\n" +
+                "   key2 : value2  \r\n" +
+                "key3 value3\r" +
+                "key4\n" +
+                "key5=\n" +
+                "key\\=6=value\\:6\n" +
+                "key\\ 7 = multi \\\n" +
+                "      line \\\r\n" +
+                "   value\n" +
+                "key8=\\u0041\\t\\n\\\\\\x\n" +
+                "key1 = duplicated\n" +
+                "\n" +
+                "  \t \n" +
+                "key9==value9\n" +
+                "key10 \t:= value10\n" +
+                "=empty key\n" +
+                "key11=value11\\";
+        write(content);
+        Properties properties = load(content);
+
+        // when
+        MappedPropertiesConfigurationSource source = new MappedPropertiesConfigurationSource(file);
+
+        // then
+        assertThat(source.size()).isEqualTo(properties.size());
+        for (String key : properties.stringPropertyNames()) {
+            assertThat(source.getValue(key, null).get()).as(key).isEqualTo(properties.getProperty(key));
+        }
+        assertThat(toMap(source)).isEqualTo(properties);
+        assertThat(source.getValue("key", null).isAbsent()).isTrue();
+        assertThat(source.getValue("key1=", null).isAbsent()).isTrue();
+    }
+
+    @Test
+    public void shouldReadLargeFile() throws IOException {
+        // given
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            content.append("route.").append(i).append('=').append("target-").append(i % 100).append('\n');
+        }
+        write(content.toString());
+
+        // when
+        MappedPropertiesConfigurationSource source = new MappedPropertiesConfigurationSource(file.toString());
+
+        // then
+        assertThat(source.size()).isEqualTo(100_000);
+        assertThat(source.getValue("route.0", null).get()).isEqualTo("target-0");
+        assertThat(source.getValue("route.99999", null).get()).isEqualTo("target-99");
+        assertThat(source.getValue("route.100000", null).isAbsent()).isTrue();
+    }
+
+    @Test
+    public void shouldReportMalformedValueWhenRead() throws IOException {
+        // given
+        write("key1=\\u00zz\nkey2=value2\n");
+        MappedPropertiesConfigurationSource source = new MappedPropertiesConfigurationSource(file);
+
+        // when / then
+        assertThat(source.getValue("key2", null).get()).isEqualTo("value2");
+        assertThatThrownBy(() -> source.getValue("key1", null))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void write(String content) throws IOException {
+        Files.write(file, content.getBytes(ISO_8859_1));
+    }
+
+    private static Properties load(String content) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new ByteArrayInputStream(content.getBytes(ISO_8859_1)));
+        return properties;
+    }
+
+    private static Map<Object, Object> toMap(IterableConfigurationSource source) {
+        Map<Object, Object> map = new HashMap<>();
+        for (ConfigurationEntry entry : source.getAllConfigurationEntries()) {
+            map.put(entry.getKey(), entry.getValue());
+        }
+        return map;
+    }
+}
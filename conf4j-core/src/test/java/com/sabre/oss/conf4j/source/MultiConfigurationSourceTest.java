@@ -27,9 +27,22 @@ package com.sabre.oss.conf4j.source;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static com.sabre.oss.conf4j.internal.utils.MapUtils.of;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 public class MultiConfigurationSourceTest {
     static final String A_KEY = "A";
@@ -55,4 +68,173 @@ public class MultiConfigurationSourceTest {
     public void shouldFindValuesInProperSource() {
         assertThat(source.findEntry(asList("NotExistingKey", B_KEY), null)).isEqualTo(new ConfigurationEntry(B_KEY, B_KEY));
     }
+
+    @Test
+    public void shouldChangeVersionWhenAnySourceIsModified() {
+        // given
+        WritableMapConfigurationSource first = new WritableMapConfigurationSource(new HashMap<>());
+        WritableMapConfigurationSource second = new WritableMapConfigurationSource(new HashMap<>());
+        MultiConfigurationSource multiSource = new MultiConfigurationSource(asList(first, second));
+        long initialVersion = multiSource.getVersion();
+
+        // when
+        second.setValue(A_KEY, A_KEY, null);
+
+        // then
+        assertThat(multiSource.getVersion()).isGreaterThan(initialVersion);
+        assertThat(multiSource.getVersion()).isEqualTo(multiSource.getVersion());
+    }
+
+    @Test
+    public void shouldChangeVersionOnEachCallWhenAnySourceIsNotVersioned() {
+        // given
+        MultiConfigurationSource multiSource = new MultiConfigurationSource(asList(
+                new MapConfigurationSource(of(A_KEY, A_KEY)),
+                new TestConfigurationSource()));
+
+        // when
+        long version = multiSource.getVersion();
+
+        // then
+        assertThat(multiSource.getVersion()).isGreaterThan(version);
+    }
+
+    @Test
+    public void shouldResolvePrecedenceUsingMergedIndex() {
+        // given
+        MultiConfigurationSource multiSource = new MultiConfigurationSource(asList(
+                new MapConfigurationSource(of(A_KEY, A_KEY)),
+                new MapConfigurationSource(of(A_KEY, A_KEY + A_KEY, B_KEY, B_KEY))), true);
+
+        // when / then
+        assertThat(multiSource.getValue(A_KEY, null).get()).isEqualTo(A_KEY);
+        assertThat(multiSource.getValue(B_KEY, null).get()).isEqualTo(B_KEY);
+        assertThat(multiSource.getValue("NotExistingKey", null).isAbsent()).isTrue();
+        assertThat(multiSource.findEntry(asList("NotExistingKey", B_KEY), null)).isEqualTo(new ConfigurationEntry(B_KEY, B_KEY));
+        assertThat(multiSource.findEntry(asList(B_KEY, A_KEY), null)).isEqualTo(new ConfigurationEntry(A_KEY, A_KEY));
+    }
+
+    @Test
+    public void shouldUpdateMergedIndexWhenSourceIsModified() {
+        // given
+        WritableMapConfigurationSource first = new WritableMapConfigurationSource(new HashMap<>(of(A_KEY, A_KEY)));
+        WritableMapConfigurationSource second = new WritableMapConfigurationSource(new HashMap<>(of(A_KEY, A_KEY + A_KEY, B_KEY, B_KEY)));
+        MultiConfigurationSource multiSource = new MultiConfigurationSource(asList(first, second), true);
+        assertThat(multiSource.getValue(A_KEY, null).get()).isEqualTo(A_KEY);
+
+        // when
+        first.removeValue(A_KEY, null);
+        second.setValue(B_KEY, null, null);
+        second.setValue("C", "C", null);
+
+        // then
+        assertThat(multiSource.getValue(A_KEY, null).get()).isEqualTo(A_KEY + A_KEY);
+        assertThat(multiSource.getValue(B_KEY, null).isPresent()).isTrue();
+        assertThat(multiSource.getValue(B_KEY, null).get()).isNull();
+        assertThat(multiSource.getValue("C", null).get()).isEqualTo("C");
+
+        // when
+        first.setValue(B_KEY, B_KEY, null);
+        second.removeValue(A_KEY, null);
+
+        // then
+        assertThat(multiSource.getValue(A_KEY, null).isAbsent()).isTrue();
+        assertThat(multiSource.getValue(B_KEY, null).get()).isEqualTo(B_KEY);
+    }
+
+    @Test
+    public void shouldCheckOnlyVersionsOfSourcesWhichCanAffectMergedIndexLookup() {
+        // given
+        MapConfigurationSource first = spy(new MapConfigurationSource(of(A_KEY, A_KEY)));
+        MapConfigurationSource second = spy(new MapConfigurationSource(of(B_KEY, B_KEY)));
+        MultiConfigurationSource multiSource = new MultiConfigurationSource(asList(first, second), true);
+        assertThat(multiSource.getValue(A_KEY, null).get()).isEqualTo(A_KEY);
+        clearInvocations(first, second);
+
+        // when
+        OptionalValue<String> value = multiSource.getValue(A_KEY, null);
+
+        // then
+        assertThat(value.get()).isEqualTo(A_KEY);
+        verify(first, times(1)).getVersion();
+        verify(second, never()).getVersion();
+        verify(first, never()).getAllConfigurationEntries();
+        verify(second, never()).getAllConfigurationEntries();
+    }
+
+    @Test
+    public void shouldLookUpMappedSourcesDirectlyWhenMergedIndexIsUsed() throws IOException {
+        // given
+        Path file = Files.createTempFile("multi", ".properties");
+        try {
+            Files.write(file, ("A=mapped\nC=mapped\n").getBytes(ISO_8859_1));
+            MappedPropertiesConfigurationSource mapped = spy(new MappedPropertiesConfigurationSource(file));
+            MultiConfigurationSource multiSource = new MultiConfigurationSource(asList(
+                    new MapConfigurationSource(of(A_KEY, A_KEY)),
+                    mapped,
+                    new MapConfigurationSource(of(B_KEY, B_KEY, "C", "C"))), true);
+
+            // when / then
+            assertThat(multiSource.getValue(A_KEY, null).get()).isEqualTo(A_KEY);
+            assertThat(multiSource.getValue(B_KEY, null).get()).isEqualTo(B_KEY);
+            assertThat(multiSource.getValue("C", null).get()).isEqualTo("mapped");
+            assertThat(multiSource.findEntry(asList(B_KEY, "C"), null)).isEqualTo(new ConfigurationEntry("C", "mapped"));
+            assertThat(multiSource.findEntries(asList(singletonList(A_KEY), singletonList("C")), null))
+                    .containsEntry(singletonList(A_KEY), new ConfigurationEntry(A_KEY, A_KEY))
+                    .containsEntry(singletonList("C"), new ConfigurationEntry("C", "mapped"));
+            verify(mapped, never()).getAllConfigurationEntries();
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void shouldRejectMergedIndexWhenSourceIsNotIterable() {
+        assertThatThrownBy(() -> new MultiConfigurationSource(asList(
+                new MapConfigurationSource(of(A_KEY, A_KEY)),
+                new TestConfigurationSource()), true))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldSkipSourcesWhichDoNotContainKey() {
+        // given
+        MapConfigurationSource first = spy(new MapConfigurationSource(of(A_KEY, A_KEY)));
+        MapConfigurationSource second = new MapConfigurationSource(of(A_KEY, A_KEY + A_KEY, B_KEY, B_KEY));
+        MultiConfigurationSource multiSource = new MultiConfigurationSource(asList(
+                new BloomFilterConfigurationSource(first),
+                new BloomFilterConfigurationSource(second)));
+
+        // when
+        OptionalValue<String> value = multiSource.getValue(B_KEY, null);
+        ConfigurationEntry entry = multiSource.findEntry(asList("NotExistingKey", B_KEY), null);
+
+        // then
+        assertThat(value.get()).isEqualTo(B_KEY);
+        assertThat(entry).isEqualTo(new ConfigurationEntry(B_KEY, B_KEY));
+        assertThat(multiSource.getSkipCount(0)).isEqualTo(2);
+        assertThat(multiSource.getSkipCount(1)).isZero();
+        verify(first, never()).getValue(eq(B_KEY), any());
+        verify(first, never()).findEntry(any(), any());
+    }
+
+    @Test
+    public void shouldFindEntriesInProperSources() {
+        // given
+        MapConfigurationSource first = spy(new MapConfigurationSource(of(A_KEY, A_KEY)));
+        MapConfigurationSource second = spy(new MapConfigurationSource(of(A_KEY, A_KEY + A_KEY, B_KEY, B_KEY)));
+        MultiConfigurationSource multiSource = new MultiConfigurationSource(asList(first, second));
+
+        // when
+        Map<List<String>, ConfigurationEntry> entries = multiSource.findEntries(
+                asList(singletonList(A_KEY), singletonList(B_KEY), singletonList("NotExistingKey")), null);
+
+        // then
+        assertThat(entries)
+                .hasSize(2)
+                .containsEntry(singletonList(A_KEY), new ConfigurationEntry(A_KEY, A_KEY))
+                .containsEntry(singletonList(B_KEY), new ConfigurationEntry(B_KEY, B_KEY));
+        verify(first, times(1)).findEntries(any(), any());
+        verify(second, times(1)).findEntries(eq(asList(singletonList(B_KEY), singletonList("NotExistingKey"))), any());
+    }
 }
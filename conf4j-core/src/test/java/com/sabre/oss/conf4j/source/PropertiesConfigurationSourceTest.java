@@ -70,6 +70,54 @@ public class PropertiesConfigurationSourceTest {
         assertThat(source.getValue("non-existing-key", null).isAbsent()).isTrue();
     }
 
+    @Test
+    public void shouldCopyProperties() {
+        // given
+        Properties defaults = new Properties();
+        defaults.setProperty("key0", "default");
+        Properties properties = new Properties(defaults);
+        properties.setProperty("key1", "value1");
+
+        // when
+        PropertiesConfigurationSource source = new PropertiesConfigurationSource(properties);
+        long version = source.getVersion();
+        properties.setProperty("key1", "modified");
+        properties.setProperty("key2", "added");
+
+        // then
+        assertThat(source.isImmutable()).isFalse();
+        assertThat(source.getValue("key0", null).get()).isEqualTo("default");
+        assertThat(source.getValue("key1", null).get()).isEqualTo("value1");
+        assertThat(source.getValue("key2", null).isAbsent()).isTrue();
+        assertThat(source.getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    public void shouldReadSnapshotWhenImmutable() {
+        // given
+        Properties defaults = new Properties();
+        defaults.setProperty("key0", "default");
+        Properties properties = new Properties(defaults);
+        for (int i = 1; i <= 1000; i++) {
+            properties.setProperty("key" + i, "value" + i % 10);
+        }
+        // when
+        PropertiesConfigurationSource source = new PropertiesConfigurationSource(properties, true);
+        properties.setProperty("key1", "modified");
+        properties.setProperty("key1001", "added");
+
+        // then
+        assertThat(source.isImmutable()).isTrue();
+        assertThat(source.getValue("key0", null).get()).isEqualTo("default");
+        assertThat(source.getValue("key1", null).get()).isEqualTo("value1");
+        assertThat(source.getValue("key1000", null).get()).isEqualTo("value0");
+        assertThat(source.getValue("key1001", null).isAbsent()).isTrue();
+        assertThat(source.getValue("key11", null).get()).isSameAs(source.getValue("key21", null).get());
+        assertThat(source.getAllConfigurationEntries()).hasSize(1001)
+                .contains(new ConfigurationEntry("key0", "default"), new ConfigurationEntry("key1000", "value0"));
+        assertThat(source.getAllConfigurationEntries()).isSameAs(source.getAllConfigurationEntries());
+    }
+
     @Test
     public void shouldLoadPropertiesFromFile() {
         // when
@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.source;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.file.Files.createTempDirectory;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Comparator.reverseOrder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ReloadablePropertiesConfigurationSourceTest {
+    private static final Duration DEBOUNCE_DELAY = Duration.ofMillis(50);
+    private static final Duration POLLING_INTERVAL = Duration.ofMillis(50);
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private Path directory;
+    private Path file;
+    private ReloadablePropertiesConfigurationSource source;
+
+    @BeforeEach
+    public void createTempDirectoryWithFile() throws IOException {
+        directory = createTempDirectory("tmp");
+        file = directory.resolve("sample.properties");
+        write("key1=value1\nkey2=value2\n");
+    }
+
+    @AfterEach
+    public void deleteTempDirectoryWithFile() throws IOException {
+        if (source != null) {
+            source.close();
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void shouldLoadPropertiesFromFile() {
+        // when
+        source = new ReloadablePropertiesConfigurationSource(file, DEBOUNCE_DELAY, POLLING_INTERVAL);
+
+        // then
+        assertThat(source.getVersion()).isZero();
+        assertThat(source.getValue("key1", null).get()).isEqualTo("value1");
+        assertThat(source.getValue("key3", null).isAbsent()).isTrue();
+        assertThat(source.getAllConfigurationEntries())
+                .containsExactlyInAnyOrder(new ConfigurationEntry("key1", "value1"), new ConfigurationEntry("key2", "value2"));
+    }
+
+    @Test
+    public void shouldReloadModifiedFile() throws Exception {
+        // given
+        source = new ReloadablePropertiesConfigurationSource(file, DEBOUNCE_DELAY, POLLING_INTERVAL).start();
+        Iterable<ConfigurationEntry> entries = source.getAllConfigurationEntries();
+
+        // when
+        write("key1=modified\nkey3=value3\n");
+
+        // then
+        awaitUntil(() -> source.getValue("key3", null).isPresent());
+        assertThat(source.getVersion()).isPositive();
+        assertThat(source.getValue("key1", null).get()).isEqualTo("modified");
+        assertThat(source.getValue("key2", null).isAbsent()).isTrue();
+        assertThat(entries).contains(new ConfigurationEntry("key2", "value2"));
+    }
+
+    @Test
+    public void shouldWatchFileOnlyWhenStarted() throws Exception {
+        // given
+        source = new ReloadablePropertiesConfigurationSource(file, DEBOUNCE_DELAY, POLLING_INTERVAL);
+        write("key1=modified\nkey3=value3\n");
+        Thread.sleep(4 * (DEBOUNCE_DELAY.toMillis() + POLLING_INTERVAL.toMillis()));
+        assertThat(source.getVersion()).isZero();
+
+        // when
+        source.start();
+
+        // then
+        awaitUntil(() -> source.getValue("key3", null).isPresent());
+        assertThat(source.getValue("key1", null).get()).isEqualTo("modified");
+    }
+
+    @Test
+    public void shouldReloadFileReplacedBySymbolicLinkSwap() throws Exception {
+        // given - the layout of a Kubernetes config map volume
+        Files.delete(file);
+        Path firstData = Files.createDirectory(directory.resolve("..data_1"));
+        Files.write(firstData.resolve("sample.properties"), "key1=value1\n".getBytes(ISO_8859_1));
+        Path data = Files.createSymbolicLink(directory.resolve("..data"), firstData.getFileName());
+        Files.createSymbolicLink(file, data.getFileName().resolve("sample.properties"));
+        source = new ReloadablePropertiesConfigurationSource(file, DEBOUNCE_DELAY, POLLING_INTERVAL).start();
+        assertThat(source.getValue("key1", null).get()).isEqualTo("value1");
+
+        // when
+        Path secondData = Files.createDirectory(directory.resolve("..data_2"));
+        Files.write(secondData.resolve("sample.properties"), "key1=value2\n".getBytes(ISO_8859_1));
+        Path newData = Files.createSymbolicLink(directory.resolve("..data_tmp"), secondData.getFileName());
+        Files.move(newData, data, ATOMIC_MOVE, REPLACE_EXISTING);
+
+        // then
+        awaitUntil(() -> source.getValue("key1", null).get().equals("value2"));
+        assertThat(source.getVersion()).isPositive();
+    }
+
+    @Test
+    public void shouldNotStartClosedSource() {
+        // given
+        source = new ReloadablePropertiesConfigurationSource(file, DEBOUNCE_DELAY, POLLING_INTERVAL);
+        source.close();
+
+        // when / then
+        assertThatThrownBy(() -> source.start()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void shouldReloadOnDemand() throws IOException {
+        // given
+        source = new ReloadablePropertiesConfigurationSource(file, Duration.ofHours(1), Duration.ofHours(1));
+        write("key1=modified\n");
+
+        // when
+        source.reload();
+
+        // then
+        assertThat(source.getVersion()).isEqualTo(1);
+        assertThat(source.getValue("key1", null).get()).isEqualTo("modified");
+    }
+
+    @Test
+    public void shouldRetainPropertiesWhenFileCannotBeLoaded() throws IOException {
+        // given
+        source = new ReloadablePropertiesConfigurationSource(file, DEBOUNCE_DELAY, POLLING_INTERVAL);
+        Files.delete(file);
+
+        // when / then
+        assertThatThrownBy(() -> source.reload()).isInstanceOf(RuntimeException.class);
+        assertThat(source.getVersion()).isZero();
+        assertThat(source.getValue("key1", null).get()).isEqualTo("value1");
+    }
+
+    private void write(String content) throws IOException {
+        Files.write(file, content.getBytes(ISO_8859_1));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
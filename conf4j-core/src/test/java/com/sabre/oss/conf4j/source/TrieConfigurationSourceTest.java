@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.source;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.sabre.oss.conf4j.internal.utils.MapUtils.of;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TrieConfigurationSourceTest {
+    private final TrieConfigurationSource source = new TrieConfigurationSource(createMap());
+
+    @Test
+    public void shouldProvideValues() {
+        assertThat(source.size()).isEqualTo(5);
+        assertThat(source.getValue("connection", null).get()).isEqualTo("default");
+        assertThat(source.getValue("connection[0].retry.maxAttempts", null).get()).isEqualTo("3");
+        assertThat(source.getValue("connection[0]", null).isAbsent()).isTrue();
+        assertThat(source.getValue("connection[0].url.missing", null).isAbsent()).isTrue();
+        assertThat(source.getValue("", null).isAbsent()).isTrue();
+    }
+
+    @Test
+    public void shouldProvideEntriesWithPrefixInKeyOrder() {
+        assertThat(source.getConfigurationEntriesWithPrefix("connection[")).containsExactly(
+                new ConfigurationEntry("connection[0].retry.maxAttempts", "3"),
+                new ConfigurationEntry("connection[0].url", "url0"),
+                new ConfigurationEntry("connection[1].url", "url1"));
+        assertThat(source.getConfigurationEntriesWithPrefix("connection[1].url"))
+                .containsExactly(new ConfigurationEntry("connection[1].url", "url1"));
+        assertThat(source.getConfigurationEntriesWithPrefix("connection[2")).isEmpty();
+        assertThat(source.getAllConfigurationEntries()).hasSize(5);
+    }
+
+    @Test
+    public void shouldFindFirstAvailableEntry() {
+        assertThat(source.findEntry(asList("connection[0].timeout", "connection[0].url", "connection[1].url"), null))
+                .isEqualTo(new ConfigurationEntry("connection[0].url", "url0"));
+        assertThat(source.findEntry(asList("connection[0].retry.delay", "connection[1].retry.maxAttempts"), null)).isNull();
+        assertThat(source.findEntry(asList("missing", "connection[0].retry.maxAttempts"), null))
+                .isEqualTo(new ConfigurationEntry("connection[0].retry.maxAttempts", "3"));
+    }
+
+    @Test
+    public void shouldTakeSnapshotOfMap() {
+        // given
+        Map<String, String> map = new HashMap<>(of("key", "value"));
+        TrieConfigurationSource snapshot = new TrieConfigurationSource(map);
+
+        // when
+        map.put("key", "modified");
+
+        // then
+        assertThat(snapshot.getValue("key", null).get()).isEqualTo("value");
+        assertThat(snapshot.getVersion()).isZero();
+        assertThat(new TrieConfigurationSource(emptyMap()).getAllConfigurationEntries()).isEmpty();
+    }
+
+    private static Map<String, String> createMap() {
+        Map<String, String> map = new HashMap<>();
+        map.put("connection[0].url", "url0");
+        map.put("connection[0].retry.maxAttempts", "3");
+        map.put("connection[1].url", "url1");
+        map.put("connection", "default");
+        map.put("timeout", "10");
+        return map;
+    }
+}
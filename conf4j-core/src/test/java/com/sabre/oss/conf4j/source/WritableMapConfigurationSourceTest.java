@@ -69,4 +69,23 @@ public class WritableMapConfigurationSourceTest {
         // then
         assertThat(mapConfigurationSource.getValue("key", null).isPresent()).isFalse();
     }
+
+    @Test
+    public void shouldIncrementVersionWhenModified() {
+        // given
+        WritableMapConfigurationSource mapConfigurationSource = new WritableMapConfigurationSource(new HashMap<>());
+        long initialVersion = mapConfigurationSource.getVersion();
+
+        // when
+        mapConfigurationSource.setValue("key", "value", null);
+        long versionAfterSet = mapConfigurationSource.getVersion();
+        mapConfigurationSource.removeValue("key", null);
+        long versionAfterRemove = mapConfigurationSource.getVersion();
+        mapConfigurationSource.removeValue("key", null);
+
+        // then
+        assertThat(versionAfterSet).isGreaterThan(initialVersion);
+        assertThat(versionAfterRemove).isGreaterThan(versionAfterSet);
+        assertThat(mapConfigurationSource.getVersion()).isEqualTo(versionAfterRemove);
+    }
 }
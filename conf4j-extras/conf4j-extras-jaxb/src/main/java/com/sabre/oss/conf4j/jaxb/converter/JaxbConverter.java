@@ -77,6 +77,11 @@ public class JaxbConverter<T> implements TypeConverter<T> {
         return type instanceof Class && ((AnnotatedElement) type).getAnnotation(XmlRootElement.class) != null;
     }
 
+    @Override
+    public boolean isAttributeIndependent() {
+        return true;
+    }
+
     @Override
     public T fromString(Type type, String value, Map<String, String> attributes) {
         requireNonNull(type, "type cannot be null");
@@ -82,6 +82,14 @@ public class JsonConverter<T> implements TypeConverter<T> {
         return ignoreConverterAttribute || Objects.equals(converter, JSON);
     }
 
+    /**
+     * The converter is attribute independent only when {@value com.sabre.oss.conf4j.json.converter.Json#CONVERTER} meta-attribute is ignored.
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return ignoreConverterAttribute;
+    }
+
     @Override
     public T fromString(Type type, String value, Map<String, String> attributes) {
         requireNonNull(type, "type cannot be null");
@@ -86,6 +86,14 @@ public class YamlConverter<T> implements TypeConverter<T> {
         return ignoreConverterAttribute || Objects.equals(converter, YAML);
     }
 
+    /**
+     * The converter is attribute independent only when {@value com.sabre.oss.conf4j.yaml.converter.Yaml#CONVERTER} meta-attribute is ignored.
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return ignoreConverterAttribute;
+    }
+
     @Override
     public T fromString(Type type, String value, Map<String, String> attributes) {
         requireNonNull(type, "type cannot be null");
@@ -27,8 +27,8 @@ package com.sabre.oss.conf4j.factory.javassist;
 import com.sabre.oss.conf4j.converter.DefaultTypeConverters;
 import com.sabre.oss.conf4j.converter.TypeConverter;
 import com.sabre.oss.conf4j.factory.ConfigurationFactory;
-import com.sabre.oss.conf4j.internal.config.DefaultConfigurationValueProvider;
 import com.sabre.oss.conf4j.internal.factory.AbstractConfigurationFactory;
+import com.sabre.oss.conf4j.internal.factory.javassist.JavassistClassCache;
 import com.sabre.oss.conf4j.internal.factory.javassist.JavassistDynamicConfigurationInitializer;
 import com.sabre.oss.conf4j.internal.factory.javassist.JavassistDynamicConfigurationInstanceCreator;
 import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
@@ -54,6 +54,18 @@ public class JavassistDynamicConfigurationFactory extends AbstractConfigurationF
         super(new JavassistDynamicConfigurationInstanceCreator());
     }
 
+    /**
+     * Sets persistent cache of generated implementation classes. When it is set, implementation classes are defined
+     * from the bytecode cached by previous runs instead of being generated and compiled again.
+     * Caching is disabled by default.
+     *
+     * @param classCache class cache or {@code null} to disable caching.
+     * @see JavassistClassCache
+     */
+    public void setClassCache(JavassistClassCache classCache) {
+        ((JavassistDynamicConfigurationInstanceCreator) configurationInstanceCreator).setClassCache(classCache);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -68,7 +80,7 @@ public class JavassistDynamicConfigurationFactory extends AbstractConfigurationF
                 null,
                 emptyMap(),
                 configurationModel.getAttributes(),
-                new DefaultConfigurationValueProvider(configurationValueProcessors)
+                createConfigurationValueProvider()
         ).initializeConfiguration();
     }
 }
@@ -27,8 +27,8 @@ package com.sabre.oss.conf4j.factory.javassist;
 import com.sabre.oss.conf4j.converter.DefaultTypeConverters;
 import com.sabre.oss.conf4j.converter.TypeConverter;
 import com.sabre.oss.conf4j.factory.ConfigurationFactory;
-import com.sabre.oss.conf4j.internal.config.DefaultConfigurationValueProvider;
 import com.sabre.oss.conf4j.internal.factory.AbstractConfigurationFactory;
+import com.sabre.oss.conf4j.internal.factory.javassist.JavassistClassCache;
 import com.sabre.oss.conf4j.internal.factory.javassist.JavassistStaticConfigurationInitializer;
 import com.sabre.oss.conf4j.internal.factory.javassist.JavassistStaticConfigurationInstanceCreator;
 import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
@@ -62,6 +62,18 @@ public class JavassistStaticConfigurationFactory extends AbstractConfigurationFa
         super(new JavassistStaticConfigurationInstanceCreator());
     }
 
+    /**
+     * Sets persistent cache of generated implementation classes. When it is set, implementation classes are defined
+     * from the bytecode cached by previous runs instead of being generated and compiled again.
+     * Caching is disabled by default.
+     *
+     * @param classCache class cache or {@code null} to disable caching.
+     * @see JavassistClassCache
+     */
+    public void setClassCache(JavassistClassCache classCache) {
+        ((JavassistStaticConfigurationInstanceCreator) configurationInstanceCreator).setClassCache(classCache);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -76,7 +88,7 @@ public class JavassistStaticConfigurationFactory extends AbstractConfigurationFa
                 null,
                 emptyMap(),
                 configurationModel.getAttributes(),
-                new DefaultConfigurationValueProvider(configurationValueProcessors)
+                createConfigurationValueProvider()
         ).initializeConfiguration();
     }
 }
@@ -41,26 +41,99 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.lang.model.SourceVersion;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 import static com.sabre.oss.conf4j.internal.Constants.*;
+import static java.util.Collections.synchronizedMap;
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.StringUtils.substringBefore;
 
 abstract class AbstractJavassistConfigurationInstanceCreator implements ConfigurationInstanceCreator {
+    /**
+     * {@link ClassPool}s are expensive to create, so they are shared by all generators which use the same class loader.
+     */
+    private static final Map<ClassLoader, GeneratorClassPool> classPools = synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Classes generated for the configuration type. It is shared by all creators, generated classes are distinguished
+     * by the creator type and the class loader.
+     */
+    private static final ClassValue<GeneratedClasses> generatedClasses = new ClassValue<GeneratedClasses>() {
+        @Override
+        protected GeneratedClasses computeValue(Class<?> type) {
+            return new GeneratedClasses();
+        }
+    };
+
+    private volatile JavassistClassCache classCache;
+
     protected abstract AbstractGenerator createGenerator(ConfigurationModel configurationModel, ClassLoader classLoader);
 
+    /**
+     * Sets persistent cache of generated classes. When it is set, classes are defined from the cached bytecode
+     * if available, otherwise they are generated and stored in the cache. Caching is disabled by default.
+     *
+     * @param classCache class cache or {@code null} to disable caching.
+     */
+    public void setClassCache(JavassistClassCache classCache) {
+        this.classCache = classCache;
+    }
+
+    public JavassistClassCache getClassCache() {
+        return classCache;
+    }
+
     @Override
     public <T> T createInstance(ConfigurationModel configurationModel, ClassLoader classLoader) {
         Class<T> generatedClass = generateClass(configurationModel, classLoader);
         return ReflectionUtils.createInstance(generatedClass);
     }
 
+    @Override
+    public void prepareClass(ConfigurationModel configurationModel, ClassLoader classLoader) {
+        generateClass(configurationModel, classLoader);
+    }
+
     protected <T> Class<T> generateClass(ConfigurationModel configurationModel, ClassLoader classLoader) {
-        return createGenerator(configurationModel, classLoader).generateClass();
+        GeneratedClasses classes = generatedClasses.get(configurationModel.getConfigurationType());
+        Class<?> creatorType = getClass();
+        Class<?> generatedClass = classes.get(creatorType, classLoader);
+        if (generatedClass == null) {
+            // only one thread generates the class, other threads wait and reuse it
+            synchronized (classes) {
+                generatedClass = classes.get(creatorType, classLoader);
+                if (generatedClass == null) {
+                    generatedClass = createGenerator(configurationModel, classLoader).generateClass(classCache);
+                    classes.put(creatorType, classLoader, generatedClass);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Class<T> clazz = (Class<T>) generatedClass;
+        return clazz;
+    }
+
+    /**
+     * Provides {@link ClassPool} associated with the class loader. Class pools are cached as long as the class loader
+     * is reachable.
+     *
+     * @param classLoader class loader.
+     * @return class pool.
+     */
+    protected static GeneratorClassPool getClassPool(ClassLoader classLoader) {
+        return classPools.computeIfAbsent(classLoader, GeneratorClassPool::new);
     }
 
     public static String getPropertyValidJavaName(String propertyName) {
@@ -78,7 +151,7 @@ abstract class AbstractJavassistConfigurationInstanceCreator implements Configur
         protected final ClassLoader classLoader;
         protected final Class<?> configurationClass;
         protected final String className;
-        protected final ClassPool classPool;
+        protected final GeneratorClassPool classPool;
         protected CtClass ctClass;
 
         protected AbstractGenerator(ConfigurationModel configurationModel, ClassLoader classLoader) {
@@ -86,11 +159,21 @@ abstract class AbstractJavassistConfigurationInstanceCreator implements Configur
             this.classLoader = requireNonNull(classLoader, "classLoader cannot be null");
             this.configurationClass = configurationModel.getConfigurationType();
             this.className = createClassName(configurationClass) + "$Javassist" + this.getClass().getSimpleName();
-            this.classPool = new ClassPool(true);
-            this.classPool.appendClassPath(new LoaderClassPath(classLoader));
+            this.classPool = getClassPool(classLoader);
+        }
+
+        public <T> Class<T> generateClass() {
+            return generateClass((JavassistClassCache) null);
         }
 
-        public synchronized <T> Class<T> generateClass() {
+        /**
+         * Generates the class or, when {@code classCache} is provided, defines it from the cached bytecode.
+         *
+         * @param classCache class cache, may be {@code null}.
+         * @param <T>        configuration type.
+         * @return generated class.
+         */
+        public <T> Class<T> generateClass(JavassistClassCache classCache) {
             try {
                 @SuppressWarnings("unchecked")
                 Class<T> clazz = (Class<T>) classLoader.loadClass(className);
@@ -98,11 +181,81 @@ abstract class AbstractJavassistConfigurationInstanceCreator implements Configur
             } catch (ClassNotFoundException ignore) {
             }
 
+            // class pool is shared and it is not thread safe
+            synchronized (classPool) {
+                try {
+                    return generateOrDefineClass(classCache);
+                } finally {
+                    classPool.releaseCachedClasses();
+                }
+            }
+        }
+
+        private <T> Class<T> generateOrDefineClass(JavassistClassCache classCache) {
+            String cacheKey = classCache != null ? classCache.createKey(configurationModel, getClass()) : null;
+            if (cacheKey != null) {
+                Class<T> clazz = defineCachedClass(classCache, cacheKey);
+                if (clazz != null) {
+                    return clazz;
+                }
+            }
+
             log.debug("Generating implementation class for configuration type {}", configurationClass.getName());
 
             process(configurationModel);
 
-            return generateClass(classLoader);
+            if (cacheKey == null) {
+                Class<T> clazz = generateClass(classLoader);
+                // generated class is no longer required by the class pool
+                ctClass.detach();
+                return clazz;
+            }
+
+            byte[] bytecode = toBytecode();
+            ctClass.detach();
+            classCache.store(className, cacheKey, bytecode);
+            return defineClass(bytecode);
+        }
+
+        private <T> Class<T> defineCachedClass(JavassistClassCache classCache, String cacheKey) {
+            byte[] bytecode = classCache.load(className, cacheKey);
+            if (bytecode == null) {
+                return null;
+            }
+            log.debug("Defining implementation class for configuration type {} from the class cache", configurationClass.getName());
+            try {
+                return defineClass(bytecode);
+            } catch (RuntimeException | LinkageError e) {
+                log.debug("Cached implementation class {} cannot be defined, it is evicted", className, e);
+                classCache.evict(className, cacheKey);
+                return null;
+            }
+        }
+
+        private byte[] toBytecode() {
+            try {
+                return ctClass.toBytecode();
+            } catch (IOException | CannotCompileException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> Class<T> defineClass(byte[] bytecode) {
+            CtClass definedClass;
+            try {
+                definedClass = classPool.makeClass(new ByteArrayInputStream(bytecode));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            try {
+                return (Class<T>) definedClass.toClass(classLoader, getClass().getProtectionDomain());
+            } catch (CannotCompileException e) {
+                throw new RuntimeException(e);
+            } finally {
+                // the class is no longer required by the class pool
+                definedClass.detach();
+            }
         }
 
         @Override
@@ -314,4 +467,83 @@ abstract class AbstractJavassistConfigurationInstanceCreator implements Configur
             return name.endsWith(GENERATED_CLASS_NAME_SUFFIX) ? name : name + GENERATED_CLASS_NAME_SUFFIX;
         }
     }
+
+    /**
+     * {@link ClassPool} which keeps track of the classes cached while an implementation class is generated, so they
+     * can be released once it is generated. Otherwise the pool would hold configuration types and the types they use
+     * as long as the class loader is reachable. JDK classes are kept, they are used by most of generated classes
+     * and their number is bounded.
+     */
+    static final class GeneratorClassPool extends ClassPool {
+        private final Set<String> cachedClassNames = new HashSet<>();
+
+        GeneratorClassPool(ClassLoader classLoader) {
+            super(true);
+            appendClassPath(new LoaderClassPath(classLoader));
+        }
+
+        @Override
+        protected void cacheCtClass(String classname, CtClass c, boolean dynamic) {
+            super.cacheCtClass(classname, c, dynamic);
+            if (!classname.startsWith("java.")) {
+                cachedClassNames.add(classname);
+            }
+        }
+
+        /**
+         * Removes classes cached since the last invocation from the pool.
+         */
+        void releaseCachedClasses() {
+            for (String className : cachedClassNames) {
+                removeCached(className);
+            }
+            cachedClassNames.clear();
+        }
+
+        boolean isCached(String className) {
+            return getCached(className) != null;
+        }
+    }
+
+    /**
+     * Holds classes generated for single configuration type. The reads are lock free, the generated classes are
+     * referenced weakly so they don't prevent class loaders from being garbage collected.
+     */
+    private static final class GeneratedClasses {
+        private volatile GeneratedClass[] classes = new GeneratedClass[0];
+
+        Class<?> get(Class<?> creatorType, ClassLoader classLoader) {
+            for (GeneratedClass generatedClass : classes) {
+                if (generatedClass.creatorType == creatorType && generatedClass.classLoader.get() == classLoader) {
+                    return generatedClass.generatedClass.get();
+                }
+            }
+            return null;
+        }
+
+        synchronized void put(Class<?> creatorType, ClassLoader classLoader, Class<?> clazz) {
+            List<GeneratedClass> current = new ArrayList<>(classes.length + 1);
+            for (GeneratedClass generatedClass : classes) {
+                // skip entries of garbage collected class loaders and the one which is replaced
+                boolean replaced = generatedClass.creatorType == creatorType && generatedClass.classLoader.get() == classLoader;
+                if (!replaced && generatedClass.generatedClass.get() != null) {
+                    current.add(generatedClass);
+                }
+            }
+            current.add(new GeneratedClass(creatorType, classLoader, clazz));
+            classes = current.toArray(new GeneratedClass[0]);
+        }
+    }
+
+    private static final class GeneratedClass {
+        private final Class<?> creatorType;
+        private final WeakReference<ClassLoader> classLoader;
+        private final WeakReference<Class<?>> generatedClass;
+
+        GeneratedClass(Class<?> creatorType, ClassLoader classLoader, Class<?> generatedClass) {
+            this.creatorType = creatorType;
+            this.classLoader = new WeakReference<>(classLoader);
+            this.generatedClass = new WeakReference<>(generatedClass);
+        }
+    }
 }
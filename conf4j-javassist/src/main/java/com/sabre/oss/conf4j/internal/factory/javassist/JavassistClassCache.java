@@ -0,0 +1,273 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.internal.factory.javassist;
+
+import com.sabre.oss.conf4j.internal.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Persistent cache of generated implementation classes. It allows defining the classes directly from the bytecode
+ * stored in the cache directory on subsequent JVM starts, without generating and compiling them again.
+ * <p>
+ * Cached classes are identified by the class name and a key which is a hash of the configuration model,
+ * conf4j version and the bytecode of the generator. The class is cached in {@code <className>-<key>.class} file.
+ * When the class is stored, entries of the same class with a different key are stale and they are removed.
+ * Entries which are not valid class files are removed when they are loaded.
+ * <p>
+ * The cache can be shared by multiple JVMs, entries are written atomically. Any I/O error is logged
+ * and the class is generated as if the cache was not used.
+ */
+public class JavassistClassCache {
+    private static final Logger log = LoggerFactory.getLogger(JavassistClassCache.class);
+
+    private static final String CLASS_FILE_EXTENSION = ".class";
+    private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+
+    /**
+     * Digests of the conf4j version and the generator bytecode, {@code null} when it cannot be determined.
+     */
+    private static final ClassValue<String> generatorDigests = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> generatorType) {
+            return computeGeneratorDigest(generatorType);
+        }
+    };
+
+    private final Path directory;
+
+    /**
+     * Creates the cache which stores classes in {@code directory}. The directory is created when it doesn't exist.
+     *
+     * @param directory cache directory.
+     * @throws NullPointerException when {@code directory} is {@code null}.
+     */
+    public JavassistClassCache(Path directory) {
+        this.directory = requireNonNull(directory, "directory cannot be null");
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Creates the key of the class generated for {@code configurationModel} by {@code generatorType}.
+     *
+     * @param configurationModel configuration model.
+     * @param generatorType      type of the generator.
+     * @return the key or {@code null} when the key cannot be created and the class should not be cached.
+     */
+    public String createKey(ConfigurationModel configurationModel, Class<?> generatorType) {
+        requireNonNull(configurationModel, "configurationModel cannot be null");
+        requireNonNull(generatorType, "generatorType cannot be null");
+
+        String generatorDigest = generatorDigests.get(generatorType);
+        return generatorDigest == null ? null : digest((generatorDigest + '\n' + fingerprint(configurationModel)).getBytes(UTF_8));
+    }
+
+    /**
+     * Loads the bytecode of the class.
+     *
+     * @param className name of the class.
+     * @param key       key of the class.
+     * @return the bytecode or {@code null} when it is not cached or the cache entry is not valid.
+     */
+    public byte[] load(String className, String key) {
+        Path file = getFile(className, key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            byte[] bytecode = Files.readAllBytes(file);
+            if (isClassFile(bytecode)) {
+                return bytecode;
+            }
+            log.debug("Cached class file {} is not valid, it is evicted", file);
+        } catch (IOException e) {
+            log.debug("Unable to read cached class file {}, it is evicted", file, e);
+        }
+        evict(className, key);
+        return null;
+    }
+
+    /**
+     * Stores the bytecode of the class and removes stale entries of the class.
+     *
+     * @param className name of the class.
+     * @param key       key of the class.
+     * @param bytecode  bytecode of the class.
+     */
+    public void store(String className, String key, byte[] bytecode) {
+        Path file = getFile(className, key);
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, className, ".tmp");
+            try {
+                Files.write(tempFile, bytecode);
+                move(tempFile, file);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+            evictStale(className, file);
+        } catch (IOException e) {
+            log.warn("Unable to store class {} in the class cache {}", className, directory, e);
+        }
+    }
+
+    /**
+     * Removes the cache entry.
+     *
+     * @param className name of the class.
+     * @param key       key of the class.
+     */
+    public void evict(String className, String key) {
+        Path file = getFile(className, key);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Unable to remove cached class file {}", file, e);
+        }
+    }
+
+    private Path getFile(String className, String key) {
+        requireNonNull(className, "className cannot be null");
+        requireNonNull(key, "key cannot be null");
+
+        return directory.resolve(className + '-' + key + CLASS_FILE_EXTENSION);
+    }
+
+    private void evictStale(String className, Path current) throws IOException {
+        // class names cannot contain '-', so the pattern matches only entries of the class
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, className + "-*" + CLASS_FILE_EXTENSION)) {
+            for (Path file : files) {
+                if (!file.equals(current)) {
+                    log.debug("Removing stale cached class file {}", file);
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+    }
+
+    private static boolean isClassFile(byte[] bytecode) {
+        return bytecode.length > 10 &&
+                ((bytecode[0] & 0xFF) << 24 | (bytecode[1] & 0xFF) << 16 | (bytecode[2] & 0xFF) << 8 | (bytecode[3] & 0xFF)) == CLASS_FILE_MAGIC;
+    }
+
+    /**
+     * Describes everything the generated class depends on: the configuration type, its constructors and properties.
+     */
+    private static String fingerprint(ConfigurationModel configurationModel) {
+        Class<?> configurationType = configurationModel.getConfigurationType();
+        StringBuilder fingerprint = new StringBuilder(256)
+                .append(configurationType.getName())
+                .append(configurationType.isInterface() ? " interface" : " class")
+                .append('\n');
+        if (!configurationType.isInterface()) {
+            for (Constructor<?> constructor : configurationType.getDeclaredConstructors()) {
+                fingerprint.append(constructor.toGenericString()).append('\n');
+            }
+        }
+        for (PropertyModel property : configurationModel.getProperties()) {
+            fingerprint.append(property.getClass().getSimpleName())
+                    .append(' ').append(property.getPropertyName())
+                    .append(' ').append(property.getMethod().toGenericString())
+                    .append(' ').append(property.getType().getTypeName());
+            if (property instanceof ValuePropertyModel) {
+                fingerprint.append(' ').append(((ValuePropertyModel) property).getDeclaredType().getName());
+            } else if (property instanceof SubConfigurationPropertyModel) {
+                fingerprint.append(' ').append(((SubConfigurationPropertyModel) property).getDeclaredType().getName());
+            }
+            fingerprint.append('\n');
+        }
+        return fingerprint.toString();
+    }
+
+    private static String computeGeneratorDigest(Class<?> generatorType) {
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            String version = JavassistClassCache.class.getPackage().getImplementationVersion();
+            content.write(String.valueOf(version).getBytes(UTF_8));
+            // covers development builds which don't have the version - the class is regenerated whenever the generator changes
+            for (Class<?> type = generatorType; type != null && type != Object.class; type = type.getSuperclass()) {
+                writeClassFile(type, content);
+                if (type.getDeclaringClass() != null) {
+                    writeClassFile(type.getDeclaringClass(), content);
+                }
+            }
+            return digest(content.toByteArray());
+        } catch (IOException e) {
+            log.warn("Unable to read bytecode of the generator {}, generated classes are not cached", generatorType.getName(), e);
+            return null;
+        }
+    }
+
+    private static void writeClassFile(Class<?> type, ByteArrayOutputStream content) throws IOException {
+        String name = type.getName();
+        try (InputStream inputStream = type.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + CLASS_FILE_EXTENSION)) {
+            if (inputStream == null) {
+                throw new IOException("Class file of " + name + " not found");
+            }
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                content.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -28,6 +28,8 @@ import com.sabre.oss.conf4j.converter.TypeConverter;
 import com.sabre.oss.conf4j.internal.config.ConfigurationValueProvider;
 import com.sabre.oss.conf4j.internal.config.DynamicConfiguration;
 import com.sabre.oss.conf4j.internal.config.PropertyMetadata;
+import com.sabre.oss.conf4j.internal.config.PropertyValueMemo;
+import com.sabre.oss.conf4j.internal.factory.AbstractDynamicConfigurationInitializer;
 import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
 import com.sabre.oss.conf4j.source.ConfigurationSource;
 import com.sabre.oss.conf4j.source.OptionalValue;
@@ -48,6 +50,26 @@ public class JavassistDynamicConfigurationInstanceCreator extends AbstractJavass
         private static final String CONFIGURATION_SOURCE_FIELD_NAME = "configurationSource";
         private static final String TYPE_CONVERTER_FIELD_NAME = "typeConverter";
         private static final String CONFIGURATION_VALUE_PROVIDER_FIELD_NAME = "configurationValueProvider";
+        private static final String MEMO_SUFFIX = "$Memo";
+        /**
+         * Reads the property metadata (rebound when the type converter or the configuration value provider was changed,
+         * the memoized value is discarded then) and the memo (allocated on the first read when the accessor memoizes
+         * values).
+         */
+        private static final String MEMO_CODE = new CodeBuilder()
+                .add("  $PropertyModel$ metadata = this.$metadataFieldName$;")
+                .add("  $PropertyModel$ boundMetadata = $thisClass$.bindPropertyMetadata(this, metadata);")
+                .add("  if (boundMetadata != metadata) {")
+                .add("    metadata = boundMetadata;")
+                .add("    this.$metadataFieldName$ = metadata;")
+                .add("    this.$memoFieldName$ = null;")
+                .add("  }")
+                .add("  $PropertyValueMemo$ memo = this.$memoFieldName$;")
+                .add("  if (memo == null && $thisClass$.isMemoizing(metadata)) {")
+                .add("    memo = new $PropertyValueMemo$();")
+                .add("    this.$memoFieldName$ = memo;")
+                .add("  }")
+                .code();
 
         DynamicGenerator(ConfigurationModel configurationModel, ClassLoader classLoader) {
             super(configurationModel, classLoader);
@@ -56,13 +78,48 @@ public class JavassistDynamicConfigurationInstanceCreator extends AbstractJavass
         /*
          * Used by javassist. Do not remove.
          */
-        @SuppressWarnings("unchecked")
-        public static OptionalValue<Object> getConfigurationValue(Object configuration, PropertyMetadata metadata) {
+        public static OptionalValue<Object> getConfigurationValue(Object configuration, PropertyMetadata metadata, PropertyValueMemo memo) {
+            return metadata.getPropertyAccessor().getConfigurationValue(getConfigurationSource(configuration), memo);
+        }
+
+        /*
+         * Used by javassist for int, long, double and boolean properties, the value is not boxed. Do not remove.
+         */
+        public static int getIntConfigurationValue(Object configuration, PropertyMetadata metadata, PropertyValueMemo memo, int valueIfAbsent) {
+            return metadata.getPropertyAccessor().getIntValue(getConfigurationSource(configuration), memo, valueIfAbsent);
+        }
+
+        public static long getLongConfigurationValue(Object configuration, PropertyMetadata metadata, PropertyValueMemo memo, long valueIfAbsent) {
+            return metadata.getPropertyAccessor().getLongValue(getConfigurationSource(configuration), memo, valueIfAbsent);
+        }
+
+        public static double getDoubleConfigurationValue(Object configuration, PropertyMetadata metadata, PropertyValueMemo memo, double valueIfAbsent) {
+            return metadata.getPropertyAccessor().getDoubleValue(getConfigurationSource(configuration), memo, valueIfAbsent);
+        }
+
+        public static boolean getBooleanConfigurationValue(Object configuration, PropertyMetadata metadata, PropertyValueMemo memo, boolean valueIfAbsent) {
+            return metadata.getPropertyAccessor().getBooleanValue(getConfigurationSource(configuration), memo, valueIfAbsent);
+        }
+
+        /*
+         * Used by javassist, the getters respect the type converter and the configuration value provider changed
+         * on the configuration instance. Do not remove.
+         */
+        public static PropertyMetadata bindPropertyMetadata(Object configuration, PropertyMetadata metadata) {
             DynamicConfiguration dynamicConfiguration = (DynamicConfiguration) configuration;
-            ConfigurationSource configurationSource = dynamicConfiguration.getConfigurationSource();
-            TypeConverter<Object> typeConverter = (TypeConverter<Object>) dynamicConfiguration.getTypeConverter();
-            ConfigurationValueProvider configurationValueProvider = dynamicConfiguration.getConfigurationValueProvider();
-            return configurationValueProvider.getConfigurationValue(typeConverter, configurationSource, metadata);
+            return AbstractDynamicConfigurationInitializer.bindPropertyMetadata(
+                    dynamicConfiguration.getConfigurationValueProvider(), dynamicConfiguration.getTypeConverter(), metadata);
+        }
+
+        /*
+         * Used by javassist, memo is allocated only when the property accessor memoizes values. Do not remove.
+         */
+        public static boolean isMemoizing(PropertyMetadata metadata) {
+            return metadata.getPropertyAccessor().isMemoizing();
+        }
+
+        private static ConfigurationSource getConfigurationSource(Object configuration) {
+            return ((DynamicConfiguration) configuration).getConfigurationSource();
         }
 
         @Override
@@ -91,6 +148,12 @@ public class JavassistDynamicConfigurationInstanceCreator extends AbstractJavass
                 String metaPropertyName = property + METADATA_SUFFIX;
                 CtField ctField = addField(getPropertyValidJavaName(metaPropertyName), PropertyMetadata.class);
                 addSetter(createSetterName(metaPropertyName), ctField, true);
+
+                // memoized value is kept per instance, the metadata is shared. Memo is allocated on the first read.
+                CtClass memoType = classPool.get(PropertyValueMemo.class.getName());
+                CtField memoField = new CtField(memoType, getPropertyValidJavaName(property + MEMO_SUFFIX), ctClass);
+                memoField.setModifiers(Modifier.PRIVATE | Modifier.VOLATILE);
+                ctClass.addField(memoField);
             } catch (CannotCompileException | NotFoundException e) {
                 throw new RuntimeException(e);
             }
@@ -121,16 +184,29 @@ public class JavassistDynamicConfigurationInstanceCreator extends AbstractJavass
         private CtMethod addDynamicConfigurationPropertyGetter(String propertyName, String methodName, CtField ctField) throws CannotCompileException, NotFoundException {
             log.trace("Adding getter {}()", methodName);
 
-            String body = new CodeBuilder()
+            String primitiveGetter = getPrimitiveConfigurationValueMethodName(ctField.getType());
+            String body = primitiveGetter != null ? new CodeBuilder()
                     .add("{")
-                    .add("  $PropertyModel$ metadata = this.$metadataFieldName$;")
-                    .add("  java.util.List keys = metadata.getKeySet();")
-                    .add("  java.lang.reflect.Type type = metadata.getType();")
-                    .add("  $OptionalValue$ value = $thisClass$.getConfigurationValue(this, metadata);")
+                    .add(MEMO_CODE)
+                    .add("  return $thisClass$.$primitiveGetter$(this, metadata, memo, this.$fieldName$);")
+                    .add("}")
+                    .var("PropertyModel", PropertyMetadata.class.getName())
+                    .var("PropertyValueMemo", PropertyValueMemo.class.getName())
+                    .var("thisClass", getClass().getName())
+                    .var("primitiveGetter", primitiveGetter)
+                    .var("metadataFieldName", getPropertyValidJavaName(propertyName + METADATA_SUFFIX))
+                    .var("memoFieldName", getPropertyValidJavaName(propertyName + MEMO_SUFFIX))
+                    .var("fieldName", ctField.getName())
+                    .code() : new CodeBuilder()
+                    .add("{")
+                    .add(MEMO_CODE)
+                    .add("  $OptionalValue$ value = $thisClass$.getConfigurationValue(this, metadata, memo);")
                     .add("  return value.isPresent() ? $cast$ : this.$fieldName$;")
                     .add("}")
                     .var("PropertyModel", PropertyMetadata.class.getName())
+                    .var("PropertyValueMemo", PropertyValueMemo.class.getName())
                     .var("metadataFieldName", getPropertyValidJavaName(propertyName + METADATA_SUFFIX))
+                    .var("memoFieldName", getPropertyValidJavaName(propertyName + MEMO_SUFFIX))
                     .var("thisClass", getClass().getName())
                     .var("fieldName", ctField.getName())
                     .var("OptionalValue", OptionalValue.class.getName())
@@ -144,6 +220,19 @@ public class JavassistDynamicConfigurationInstanceCreator extends AbstractJavass
             return ctGetter;
         }
 
+        private String getPrimitiveConfigurationValueMethodName(CtClass type) {
+            if (type == CtClass.intType) {
+                return "getIntConfigurationValue";
+            } else if (type == CtClass.longType) {
+                return "getLongConfigurationValue";
+            } else if (type == CtClass.doubleType) {
+                return "getDoubleConfigurationValue";
+            } else if (type == CtClass.booleanType) {
+                return "getBooleanConfigurationValue";
+            }
+            return null;
+        }
+
         private void addConfigurationSourceFieldAndAccessors() {
             try {
                 CtField field = addField(CONFIGURATION_SOURCE_FIELD_NAME, ConfigurationSource.class);
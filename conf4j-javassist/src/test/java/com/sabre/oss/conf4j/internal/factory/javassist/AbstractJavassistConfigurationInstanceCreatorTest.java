@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.internal.factory.javassist;
+
+import com.sabre.oss.conf4j.internal.factory.javassist.AbstractJavassistConfigurationInstanceCreator.GeneratorClassPool;
+import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
+import com.sabre.oss.conf4j.internal.model.provider.convention.ConventionConfigurationModelProvider;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AbstractJavassistConfigurationInstanceCreatorTest {
+    private final ConfigurationModel configurationModel =
+            ConventionConfigurationModelProvider.getInstance().getConfigurationModel(SampleConfiguration.class);
+
+    @Test
+    public void shouldCacheGeneratedClassPerCreatorTypeAndClassLoader() {
+        // given
+        ClassLoader classLoader = newClassLoader();
+        Class<?> generated = new JavassistStaticConfigurationInstanceCreator().generateClass(configurationModel, classLoader);
+
+        // when
+        Class<?> sameCreatorType = new JavassistStaticConfigurationInstanceCreator().generateClass(configurationModel, classLoader);
+        Class<?> otherCreatorType = new JavassistDynamicConfigurationInstanceCreator().generateClass(configurationModel, classLoader);
+        Class<?> otherClassLoader = new JavassistStaticConfigurationInstanceCreator().generateClass(configurationModel, newClassLoader());
+
+        // then
+        assertThat(sameCreatorType).isSameAs(generated);
+        assertThat(otherCreatorType).isNotSameAs(generated);
+        assertThat(otherClassLoader).isNotSameAs(generated);
+        assertThat(otherClassLoader.getName()).isEqualTo(generated.getName());
+    }
+
+    @Test
+    public void shouldShareClassPoolPerClassLoader() {
+        // given
+        ClassLoader classLoader = newClassLoader();
+
+        // when
+        GeneratorClassPool classPool = AbstractJavassistConfigurationInstanceCreator.getClassPool(classLoader);
+
+        // then
+        assertThat(AbstractJavassistConfigurationInstanceCreator.getClassPool(classLoader)).isSameAs(classPool);
+        assertThat(AbstractJavassistConfigurationInstanceCreator.getClassPool(newClassLoader())).isNotSameAs(classPool);
+    }
+
+    @Test
+    public void shouldReleaseClassesUsedForGeneration() {
+        // given
+        ClassLoader classLoader = newClassLoader();
+        GeneratorClassPool classPool = AbstractJavassistConfigurationInstanceCreator.getClassPool(classLoader);
+
+        // when
+        Class<?> generated = new JavassistDynamicConfigurationInstanceCreator().generateClass(configurationModel, classLoader);
+
+        // then
+        assertThat(classPool.isCached(generated.getName())).isFalse();
+        assertThat(classPool.isCached(SampleConfiguration.class.getName())).isFalse();
+        assertThat(classPool.isCached(SampleValue.class.getName())).isFalse();
+    }
+
+    private ClassLoader newClassLoader() {
+        return new URLClassLoader(new URL[0], getClass().getClassLoader());
+    }
+
+    public interface SampleConfiguration {
+        String getName();
+
+        SampleValue getValue();
+    }
+
+    public enum SampleValue {
+        FIRST, SECOND
+    }
+}
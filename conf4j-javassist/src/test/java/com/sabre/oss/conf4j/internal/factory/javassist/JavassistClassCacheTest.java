@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.internal.factory.javassist;
+
+import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
+import com.sabre.oss.conf4j.internal.model.provider.convention.ConventionConfigurationModelProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.file.Files.createTempDirectory;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JavassistClassCacheTest {
+    private final ConfigurationModel configurationModel =
+            ConventionConfigurationModelProvider.getInstance().getConfigurationModel(SampleConfiguration.class);
+
+    private Path directory;
+
+    @BeforeEach
+    public void before() throws IOException {
+        directory = createTempDirectory("tmp");
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test
+    public void shouldDefineClassFromCachedBytecode() throws IOException {
+        // given
+        AtomicInteger hits = new AtomicInteger();
+        JavassistClassCache classCache = new JavassistClassCache(directory) {
+            @Override
+            public byte[] load(String className, String key) {
+                byte[] bytecode = super.load(className, key);
+                if (bytecode != null) {
+                    hits.incrementAndGet();
+                }
+                return bytecode;
+            }
+        };
+
+        // when
+        Class<?> generated = generateClass(classCache, newClassLoader());
+        Class<?> cached = generateClass(classCache, newClassLoader());
+
+        // then
+        assertThat(hits).hasValue(1);
+        assertThat(cached).isNotSameAs(generated);
+        assertThat(cached.getName()).isEqualTo(generated.getName());
+        assertThat(SampleConfiguration.class).isAssignableFrom(cached);
+        assertThat(cachedFiles()).hasSize(1);
+    }
+
+    @Test
+    public void shouldEvictInvalidEntries() throws IOException {
+        // given
+        JavassistClassCache classCache = new JavassistClassCache(directory);
+        Class<?> generated = generateClass(classCache, newClassLoader());
+        Path file = cachedFiles().get(0);
+        byte[] bytecode = Files.readAllBytes(file);
+        Files.write(file, new byte[]{1, 2, 3});
+
+        // when
+        Class<?> regenerated = generateClass(classCache, newClassLoader());
+
+        // then
+        assertThat(regenerated.getName()).isEqualTo(generated.getName());
+        assertThat(cachedFiles()).containsExactly(file);
+        assertThat(Files.readAllBytes(file)).isEqualTo(bytecode);
+    }
+
+    @Test
+    public void shouldEvictStaleEntries() throws IOException {
+        // given
+        JavassistClassCache classCache = new JavassistClassCache(directory);
+        Class<?> generated = generateClass(classCache, newClassLoader());
+        Path current = cachedFiles().get(0);
+        Path stale = directory.resolve(generated.getName() + "-0123456789abcdef.class");
+        Files.move(current, stale);
+
+        // when
+        generateClass(classCache, newClassLoader());
+
+        // then
+        assertThat(cachedFiles()).containsExactly(current);
+    }
+
+    @Test
+    public void shouldCreateKeyDependingOnGeneratorAndModel() {
+        // given
+        JavassistClassCache classCache = new JavassistClassCache(directory);
+        ConfigurationModel otherModel = ConventionConfigurationModelProvider.getInstance().getConfigurationModel(OtherConfiguration.class);
+
+        // when
+        String key = classCache.createKey(configurationModel, JavassistDynamicConfigurationInstanceCreator.DynamicGenerator.class);
+
+        // then
+        assertThat(key).isEqualTo(classCache.createKey(configurationModel, JavassistDynamicConfigurationInstanceCreator.DynamicGenerator.class));
+        assertThat(key).isNotEqualTo(classCache.createKey(configurationModel, JavassistStaticConfigurationInstanceCreator.StaticAbstractGenerator.class));
+        assertThat(key).isNotEqualTo(classCache.createKey(otherModel, JavassistDynamicConfigurationInstanceCreator.DynamicGenerator.class));
+    }
+
+    private Class<?> generateClass(JavassistClassCache classCache, ClassLoader classLoader) {
+        JavassistDynamicConfigurationInstanceCreator creator = new JavassistDynamicConfigurationInstanceCreator();
+        creator.setClassCache(classCache);
+        return creator.generateClass(configurationModel, classLoader);
+    }
+
+    private ClassLoader newClassLoader() {
+        return new URLClassLoader(new URL[0], getClass().getClassLoader());
+    }
+
+    private List<Path> cachedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    public interface SampleConfiguration {
+        String getName();
+
+        int getTimeout();
+    }
+
+    public interface OtherConfiguration {
+        String getName();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.jmh.converter;
+
+import com.sabre.oss.conf4j.converter.JsonLikeConverter;
+import com.sabre.oss.conf4j.converter.StringConverter;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.IntStream.range;
+
+public class JsonLikeConverterBenchmarkTest {
+    public static final List<String> LIST_SIGNATURE = null;
+    public static final Map<String, String> MAP_SIGNATURE = null;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(this.getClass().getName() + ".*")
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .warmupIterations(1)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(1)
+                .measurementTime(TimeValue.seconds(2))
+                .threads(1)
+                .forks(0)
+                .shouldFailOnError(true)
+                .shouldDoGC(false)
+                .build();
+        new Runner(opt).run();
+    }
+
+    public static void main(String... args) throws Exception {
+        new JsonLikeConverterBenchmarkTest().launchBenchmark();
+    }
+
+    @Benchmark
+    public Object largeListFromString(BenchmarkState state) {
+        return state.converter.fromString(state.listType, state.list, state.attributes);
+    }
+
+    @Benchmark
+    public Object largeMapFromString(BenchmarkState state) {
+        return state.converter.fromString(state.mapType, state.map, state.attributes);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({JsonLikeConverter.COMPACT, JsonLikeConverter.JSON})
+        String format;
+
+        @Param("5000")
+        int size;
+
+        JsonLikeConverter converter;
+        Map<String, String> attributes;
+        Type listType;
+        Type mapType;
+        String list;
+        String map;
+
+        @Setup(Level.Trial)
+        public void initialize() throws NoSuchFieldException {
+            converter = new JsonLikeConverter(new StringConverter());
+            attributes = singletonMap(JsonLikeConverter.FORMAT, format);
+            listType = JsonLikeConverterBenchmarkTest.class.getDeclaredField("LIST_SIGNATURE").getGenericType();
+            mapType = JsonLikeConverterBenchmarkTest.class.getDeclaredField("MAP_SIGNATURE").getGenericType();
+
+            List<String> items = range(0, size).mapToObj(i -> "item-" + i).collect(toList());
+            Map<String, String> entries = range(0, size).boxed().collect(toMap(i -> "key-" + i, i -> "value-" + i));
+            list = converter.toString(listType, items, attributes);
+            map = converter.toString(mapType, entries, attributes);
+        }
+    }
+}
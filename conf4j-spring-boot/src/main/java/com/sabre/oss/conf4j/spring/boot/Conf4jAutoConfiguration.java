@@ -30,6 +30,9 @@ import org.springframework.context.annotation.ImportResource;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for conf4j.
+ * <p>
+ * Configuration types are registered by {@link com.sabre.oss.conf4j.spring.annotation.ConfigurationScan}
+ * which uses the build-time index {@code META-INF/conf4j.index} when it is available.
  */
 @Configuration
 @ImportResource("classpath*:META-INF/com/sabre/oss/conf4j/conf4j.xml")
@@ -34,6 +34,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.MutablePropertyValues;
 import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.config.RuntimeBeanReference;
@@ -42,11 +43,17 @@ import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProce
 import org.springframework.beans.factory.support.BeanDefinitionValidationException;
 import org.springframework.core.Ordered;
 import org.springframework.core.PriorityOrdered;
+import org.springframework.core.type.ClassMetadata;
 import org.springframework.core.type.StandardAnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ClassUtils;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import static com.sabre.oss.conf4j.spring.Conf4jSpringConstants.CONF4J_CONFIGURATION_FACTORY;
@@ -113,8 +120,37 @@ public class ConfigurationBeanFactoryPostProcessor implements BeanDefinitionRegi
     @Override
     public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
         long start = nanoTime();
+
+        List<Candidate> candidates = findCandidates(registry);
+        long filtered = nanoTime();
+
+        // resolving classes and building models is independent for each candidate
+        candidates.parallelStream().forEach(this::resolveCandidate);
+        long resolved = nanoTime();
+
         int foundConfigurations = 0;
+        for (Candidate candidate : candidates) {
+            if (processCandidate(registry, candidate)) {
+                foundConfigurations++;
+            }
+        }
 
+        long end = nanoTime();
+        log.debug("conf4j configurations post-processing completed, {} configurations found in {} candidates, total time {} ms " +
+                        "(filtering {} ms, resolving {} ms, registering {} ms)",
+                foundConfigurations, candidates.size(), NANOSECONDS.toMillis(end - start),
+                NANOSECONDS.toMillis(filtered - start), NANOSECONDS.toMillis(resolved - filtered), NANOSECONDS.toMillis(end - resolved));
+    }
+
+    /**
+     * Finds bean definitions which can be configuration types. Only beans marked with {@link ConfigurationIndicator}
+     * (registered by the configuration scan or explicitly as conf4j configurations) are taken into account, other beans
+     * are not post-processed anyway. Bean classes are not loaded, the class metadata is read from the class files
+     * and only abstract classes and interfaces are resolved.
+     */
+    private List<Candidate> findCandidates(BeanDefinitionRegistry registry) {
+        MetadataReaderFactory metadataReaderFactory = null;
+        List<Candidate> candidates = new ArrayList<>();
         for (String name : registry.getBeanDefinitionNames()) {
             BeanDefinition definition = registry.getBeanDefinition(name);
 
@@ -129,41 +165,95 @@ public class ConfigurationBeanFactoryPostProcessor implements BeanDefinitionRegi
                 continue;
             }
 
-            Class<?> configurationType;
-            try {
-                configurationType = ClassUtils.forName(beanClassName, this.beanClassLoader);
-            } catch (ClassNotFoundException ignore) {
+            /* Skip beans which are not marked as conf4j configurations */
+            ConfigurationIndicator indicator = getConf4jConfigurationIndicator(definition);
+            if (indicator == ConfigurationIndicator.ABSENT) {
                 continue;
             }
 
-            if (isConfigurationType(configurationType)) {
-                ConfigurationIndicator indicator = getConf4jConfigurationIndicator(definition);
-                if (indicator != ConfigurationIndicator.ABSENT) {
-                    log.trace("conf4j configuration bean {} of type {} found", name, beanClassName);
-                    replaceBeanWithInstrumentedClass(definition, configurationType);
-                    foundConfigurations++;
-                }
-            } else {
-                ConfigurationIndicator indicator = getConf4jConfigurationIndicator(definition);
-                if (indicator == ConfigurationIndicator.DISCOVERED) {
-                    // Configuration type has been discovered so it is a possible class, which is not a valid configuration
-                    // was registered unintentionally and it is safe to remove it.
-                    for (String alias : registry.getAliases(name)) {
-                        registry.removeAlias(alias);
-                    }
-                    registry.removeBeanDefinition(name);
-                    log.warn("conf4j configuration bean {} of type {} is not recognized as configuration type, the bean definition has been removed.", name, beanClassName);
-                } else if (indicator == ConfigurationIndicator.MANUAL) {
-                    throw new BeanDefinitionValidationException(
-                            format("conf4j configuration bean %s of type %s is not recognized as configuration type, but it was registered explicitly.",
-                                    name, beanClassName));
-                }
+            if (metadataReaderFactory == null) {
+                // class files of the same package and super classes are read only once
+                metadataReaderFactory = new CachingMetadataReaderFactory(beanClassLoader);
             }
+            Candidate candidate = new Candidate(name, definition, indicator);
+            ClassMetadata metadata = getClassMetadata(metadataReaderFactory, definition);
+            candidate.possibleConfigurationType = metadata == null ||
+                    ((metadata.isInterface() || metadata.isAbstract()) && !metadata.isAnnotation());
+            candidates.add(candidate);
         }
+        return candidates;
+    }
 
-        log.debug("conf4j configurations post-processing completed, {} configurations found, total time {} ms",
-                foundConfigurations, NANOSECONDS.toMillis(nanoTime() - start));
+    private static ClassMetadata getClassMetadata(MetadataReaderFactory metadataReaderFactory, BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition) {
+            ClassMetadata metadata = ((AnnotatedBeanDefinition) definition).getMetadata();
+            if (definition.getBeanClassName().equals(metadata.getClassName())) {
+                return metadata;
+            }
+        }
+        try {
+            return metadataReaderFactory.getMetadataReader(definition.getBeanClassName()).getClassMetadata();
+        } catch (IOException e) {
+            // the class file is not available as a resource, the class is loaded to find out
+            return null;
+        }
+    }
+
+    private void resolveCandidate(Candidate candidate) {
+        if (!candidate.possibleConfigurationType) {
+            return;
+        }
 
+        String beanClassName = candidate.definition.getBeanClassName();
+        try {
+            candidate.configurationType = ClassUtils.forName(beanClassName, this.beanClassLoader);
+        } catch (ClassNotFoundException ignore) {
+            return;
+        }
+
+        candidate.validConfigurationType = isConfigurationType(candidate.configurationType);
+        if (candidate.validConfigurationType && configurationModelProvider != null) {
+            try {
+                // the model is cached by the provider, so it is ready when the configuration is created
+                configurationModelProvider.getConfigurationModel(candidate.configurationType);
+            } catch (RuntimeException e) {
+                // the error is reported when the configuration is created
+                log.trace("Unable to build model of conf4j configuration type {}", beanClassName, e);
+            }
+        }
+    }
+
+    private boolean processCandidate(BeanDefinitionRegistry registry, Candidate candidate) {
+        String name = candidate.name;
+        BeanDefinition definition = candidate.definition;
+        String beanClassName = definition.getBeanClassName();
+
+        /* Skip beans which classes cannot be loaded */
+        if (candidate.possibleConfigurationType && candidate.configurationType == null) {
+            return false;
+        }
+
+        if (candidate.validConfigurationType) {
+            log.trace("conf4j configuration bean {} of type {} found", name, beanClassName);
+            replaceBeanWithInstrumentedClass(definition, candidate.configurationType);
+            return true;
+        } else {
+            ConfigurationIndicator indicator = candidate.indicator;
+            if (indicator == ConfigurationIndicator.DISCOVERED) {
+                // Configuration type has been discovered so it is a possible class, which is not a valid configuration
+                // was registered unintentionally and it is safe to remove it.
+                for (String alias : registry.getAliases(name)) {
+                    registry.removeAlias(alias);
+                }
+                registry.removeBeanDefinition(name);
+                log.warn("conf4j configuration bean {} of type {} is not recognized as configuration type, the bean definition has been removed.", name, beanClassName);
+            } else if (indicator == ConfigurationIndicator.MANUAL) {
+                throw new BeanDefinitionValidationException(
+                        format("conf4j configuration bean %s of type %s is not recognized as configuration type, but it was registered explicitly.",
+                                name, beanClassName));
+            }
+        }
+        return false;
     }
 
     private boolean isConfigurationType(Class<?> configurationType) {
@@ -188,4 +278,19 @@ public class ConfigurationBeanFactoryPostProcessor implements BeanDefinitionRegi
     @Override
     public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
     }
+
+    private static class Candidate {
+        final String name;
+        final BeanDefinition definition;
+        final ConfigurationIndicator indicator;
+        boolean possibleConfigurationType;
+        Class<?> configurationType;
+        boolean validConfigurationType;
+
+        Candidate(String name, BeanDefinition definition, ConfigurationIndicator indicator) {
+            this.name = name;
+            this.definition = definition;
+            this.indicator = indicator;
+        }
+    }
 }
@@ -69,6 +69,11 @@ public class AggregatedConverter implements TypeConverter<Object> {
         return converter.isApplicable(type, attributes);
     }
 
+    @Override
+    public boolean isAttributeIndependent() {
+        return converter.isAttributeIndependent();
+    }
+
     @Override
     public Object fromString(Type type, String value, Map<String, String> attributes) {
         return converter.fromString(type, value, attributes);
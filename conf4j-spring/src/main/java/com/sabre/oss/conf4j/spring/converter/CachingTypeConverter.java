@@ -160,6 +160,16 @@ public class CachingTypeConverter<T> implements TypeConverter<T>, InitializingBe
         return typeConverter.isApplicable(type, attributes);
     }
 
+    /**
+     * Delegates to {@link #typeConverter}.
+     *
+     * @return {@code true} when {@link #typeConverter} is attribute independent.
+     */
+    @Override
+    public boolean isAttributeIndependent() {
+        return typeConverter.isAttributeIndependent();
+    }
+
     /**
      * Converts String to the target type.
      * This method checks whether the cache contains the converted value, and if not, obtains it from {@link #typeConverter},
@@ -26,7 +26,6 @@ package com.sabre.oss.conf4j.spring.factory.cglib;
 
 import com.sabre.oss.conf4j.converter.TypeConverter;
 import com.sabre.oss.conf4j.factory.ConfigurationFactory;
-import com.sabre.oss.conf4j.internal.config.DefaultConfigurationValueProvider;
 import com.sabre.oss.conf4j.internal.factory.AbstractConfigurationFactory;
 import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
 import com.sabre.oss.conf4j.source.ConfigurationSource;
@@ -68,7 +67,7 @@ public class CglibDynamicConfigurationFactory extends AbstractConfigurationFacto
                 null,
                 emptyMap(),
                 configurationModel.getAttributes(),
-                new DefaultConfigurationValueProvider(configurationValueProcessors)
+                createConfigurationValueProvider()
         ).initializeConfiguration();
     }
 }
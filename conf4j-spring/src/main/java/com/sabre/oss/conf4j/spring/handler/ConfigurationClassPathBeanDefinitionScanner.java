@@ -25,16 +25,28 @@
 package com.sabre.oss.conf4j.spring.handler;
 
 import com.sabre.oss.conf4j.spring.ConfigurationBeanDefinitionHelper.ConfigurationIndicator;
+import org.springframework.beans.factory.BeanDefinitionStoreException;
 import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.context.annotation.ClassPathBeanDefinitionScanner;
+import org.springframework.context.annotation.ScannedGenericBeanDefinition;
 import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import static com.sabre.oss.conf4j.spring.ConfigurationBeanDefinitionHelper.addConf4jConfigurationIndicator;
 
 /**
  * Scanner dedicated to finding configurations types.
+ * <p>
+ * When {@link ConfigurationTypeIndex} is available, candidates are taken from the index and the classpath
+ * is not scanned.
  */
 public class ConfigurationClassPathBeanDefinitionScanner extends ClassPathBeanDefinitionScanner {
     public ConfigurationClassPathBeanDefinitionScanner(BeanDefinitionRegistry registry) {
@@ -42,6 +54,36 @@ public class ConfigurationClassPathBeanDefinitionScanner extends ClassPathBeanDe
         super(registry, false);
     }
 
+    @Override
+    public Set<BeanDefinition> findCandidateComponents(String basePackage) {
+        ClassLoader classLoader = getResourceLoader().getClassLoader();
+        ConfigurationTypeIndex index = ConfigurationTypeIndex.load(classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader());
+        if (index == null || !index.supports(basePackage)) {
+            return super.findCandidateComponents(basePackage);
+        }
+        return findCandidateComponentsFromIndex(index, basePackage);
+    }
+
+    private Set<BeanDefinition> findCandidateComponentsFromIndex(ConfigurationTypeIndex index, String basePackage) {
+        Set<BeanDefinition> candidates = new LinkedHashSet<>();
+        for (String type : index.getTypes(basePackage)) {
+            try {
+                MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(type);
+                if (isCandidateComponent(metadataReader)) {
+                    ScannedGenericBeanDefinition beanDefinition = new ScannedGenericBeanDefinition(metadataReader);
+                    beanDefinition.setResource(metadataReader.getResource());
+                    beanDefinition.setSource(metadataReader.getResource());
+                    if (isCandidateComponent(beanDefinition)) {
+                        candidates.add(beanDefinition);
+                    }
+                }
+            } catch (IOException e) {
+                throw new BeanDefinitionStoreException("Failed to read indexed configuration type " + type, e);
+            }
+        }
+        return candidates;
+    }
+
     @Override
     protected void postProcessBeanDefinition(AbstractBeanDefinition beanDefinition, String beanName) {
         addConf4jConfigurationIndicator(beanDefinition, ConfigurationIndicator.DISCOVERED);
@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.spring.handler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.SpringProperties;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.*;
+
+import static com.sabre.oss.conf4j.internal.Constants.CONFIGURATION_INDEX_LOCATION;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.unmodifiableSortedSet;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Index of configuration type candidates generated at build time by conf4j annotation processor.
+ * All {@code META-INF/conf4j.index} resources available in the class loader are merged.
+ * <p>
+ * When the index is present, configuration types are scanned only from the index, so configuration types which
+ * were not compiled with the annotation processor are not found. Set {@code conf4j.index.ignore} system
+ * (or {@code spring.properties}) property to {@code true} to ignore the index and always scan the classpath.
+ */
+public final class ConfigurationTypeIndex {
+    /**
+     * Property which disables the index when set to {@code true}.
+     */
+    public static final String IGNORE_INDEX_PROPERTY = "conf4j.index.ignore";
+
+    private static final Logger log = LoggerFactory.getLogger(ConfigurationTypeIndex.class);
+
+    private static final ConfigurationTypeIndex EMPTY = new ConfigurationTypeIndex(new TreeSet<>());
+    private static final Map<ClassLoader, ConfigurationTypeIndex> cache = new ConcurrentReferenceHashMap<>();
+
+    private final SortedSet<String> types;
+
+    private ConfigurationTypeIndex(SortedSet<String> types) {
+        this.types = unmodifiableSortedSet(types);
+    }
+
+    /**
+     * Loads the index available in the class loader. Loaded indexes are cached.
+     *
+     * @param classLoader class loader.
+     * @return the index or {@code null} when the index is not available or it is ignored.
+     */
+    public static ConfigurationTypeIndex load(ClassLoader classLoader) {
+        requireNonNull(classLoader, "classLoader cannot be null");
+
+        if (SpringProperties.getFlag(IGNORE_INDEX_PROPERTY)) {
+            return null;
+        }
+        ConfigurationTypeIndex index = cache.computeIfAbsent(classLoader, ConfigurationTypeIndex::doLoad);
+        return index == EMPTY ? null : index;
+    }
+
+    private static ConfigurationTypeIndex doLoad(ClassLoader classLoader) {
+        SortedSet<String> types = new TreeSet<>();
+        boolean found = false;
+        try {
+            Enumeration<URL> urls = classLoader.getResources(CONFIGURATION_INDEX_LOCATION);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                found = true;
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (!line.isEmpty() && !line.startsWith("#")) {
+                            types.add(line);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to load conf4j configuration index from " + CONFIGURATION_INDEX_LOCATION, e);
+        }
+        if (!found) {
+            return EMPTY;
+        }
+        log.debug("conf4j configuration index with {} types loaded", types.size());
+        return new ConfigurationTypeIndex(types);
+    }
+
+    /**
+     * Checks if the index can be used for finding types in {@code basePackage}. Packages with wildcards
+     * are not supported.
+     *
+     * @param basePackage base package.
+     * @return {@code true} when the index supports the package.
+     */
+    public boolean supports(String basePackage) {
+        requireNonNull(basePackage, "basePackage cannot be null");
+
+        return basePackage.indexOf('*') < 0 && basePackage.indexOf('?') < 0;
+    }
+
+    /**
+     * Provides binary names of the indexed types which belong to {@code basePackage} or any of its sub-packages.
+     *
+     * @param basePackage base package, empty for the default package.
+     * @return names of the indexed types.
+     */
+    public Set<String> getTypes(String basePackage) {
+        requireNonNull(basePackage, "basePackage cannot be null");
+
+        if (basePackage.isEmpty()) {
+            return types;
+        }
+        String prefix = basePackage + '.';
+        // the package and its sub-packages are a continuous range in the sorted set
+        return types.subSet(prefix, prefix + Character.MAX_VALUE);
+    }
+}
@@ -26,123 +26,138 @@ package com.sabre.oss.conf4j.spring.internal.factory.cglib;
 
 import com.sabre.oss.conf4j.internal.config.PropertyMetadata;
 import com.sabre.oss.conf4j.internal.factory.ConfigurationPropertiesAccessor;
+import com.sabre.oss.conf4j.internal.factory.PropertyDispatchTable;
+import com.sabre.oss.conf4j.internal.factory.PropertyDispatchTable.PropertyMethod;
 import com.sabre.oss.conf4j.internal.factory.SubConfigurationList;
 import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
-import com.sabre.oss.conf4j.internal.model.PropertyModel;
-import com.sabre.oss.conf4j.internal.model.SubConfigurationListPropertyModel;
-import com.sabre.oss.conf4j.internal.model.SubConfigurationPropertyModel;
 import org.springframework.cglib.proxy.MethodInterceptor;
 import org.springframework.cglib.proxy.MethodProxy;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
 
 import static com.sabre.oss.conf4j.internal.Constants.LIST_SUFFIX;
-import static com.sabre.oss.conf4j.internal.Constants.METADATA_SUFFIX;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toSet;
 
 abstract class AbstractCglibConfigurationMethodInterceptor implements MethodInterceptor, ConfigurationPropertiesAccessor, Serializable {
     private static final long serialVersionUID = 1;
-    /**
-     * Holds properties.
-     */
-    protected final Map<String, Object> properties = new HashMap<>();
 
     /**
-     * Holds property metadata.
+     * Dispatch table shared by all interceptors of the same configuration model.
      */
-    protected final Map<String, PropertyMetadata> propertiesMetadata = new HashMap<>();
+    protected final PropertyDispatchTable dispatchTable;
 
     /**
-     * Set of sub-configuration properties.
+     * Holds properties, indexed by the slot assigned by the {@link #dispatchTable}.
      */
-    protected final Set<String> subConfigurationProperties;
+    protected final Object[] properties;
 
     /**
-     * Set of sub-configuration list properties.
+     * Holds property metadata, indexed by the slot assigned by the {@link #dispatchTable}.
      */
-    protected final Set<String> subConfigurationListProperties;
+    protected final PropertyMetadata[] propertiesMetadata;
 
     AbstractCglibConfigurationMethodInterceptor(ConfigurationModel configurationModel) {
         requireNonNull(configurationModel, "configurationModel cannot be null");
 
-        subConfigurationProperties = configurationModel.getProperties().stream()
-                .filter(p -> p instanceof SubConfigurationPropertyModel)
-                .map(PropertyModel::getPropertyName)
-                .collect(toSet());
-
-        subConfigurationListProperties = configurationModel.getProperties().stream()
-                .filter(p -> p instanceof SubConfigurationListPropertyModel)
-                .map(PropertyModel::getPropertyName)
-                .collect(toSet());
+        dispatchTable = PropertyDispatchTable.getDispatchTable(configurationModel);
+        properties = new Object[dispatchTable.getSize()];
+        propertiesMetadata = new PropertyMetadata[dispatchTable.getSize()];
     }
 
     @Override
     public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
-        String methodName = method.getName();
-        switch (methodName) {
-            case "equals":
-                Class<?>[] methodParameterTypes = method.getParameterTypes();
-                if (methodParameterTypes.length == 1 && methodParameterTypes[0] == Object.class) {
-                    return proxy.invokeSuper(obj, args);
-                }
-                break;
-            case "hashCode":
-            case "toString":
-                if (method.getParameterTypes().length == 0) {
-                    return proxy.invokeSuper(obj, args);
-                }
-                break;
-            default:
-                break;
+        PropertyMethod propertyMethod = dispatchTable.getPropertyMethod(method);
+        if (propertyMethod != null) {
+            return interceptProperty(propertyMethod);
         }
+        if (isInternalMethod(method)) {
+            return interceptInternal(method, args);
+        }
+        // Object methods (equals, hashCode, toString) and methods implemented by the configuration type
+        return proxy.invokeSuper(obj, args);
+    }
 
-        return interceptInternal(obj, method, args, proxy);
+    /**
+     * Invoked for property getters.
+     *
+     * @param propertyMethod property method from the dispatch table.
+     * @return property value.
+     */
+    protected abstract Object interceptProperty(PropertyMethod propertyMethod);
+
+    /**
+     * Checks if the method is implemented by the interceptor itself, not by the configuration type.
+     *
+     * @param method intercepted method.
+     * @return {@code true} when {@code method} should be handled by {@link #interceptInternal(Method, Object[])}.
+     */
+    protected boolean isInternalMethod(Method method) {
+        return false;
     }
 
-    protected abstract Object interceptInternal(Object obj, Method method, Object[] args, MethodProxy proxy);
+    /**
+     * Invoked for methods which are {@link #isInternalMethod(Method) implemented by the interceptor}.
+     *
+     * @param method intercepted method.
+     * @param args   method arguments.
+     * @return method result.
+     */
+    protected Object interceptInternal(Method method, Object[] args) {
+        throw new IllegalStateException("Unknown method: " + method);
+    }
 
     @Override
     public PropertyMetadata getPropertyMetadata(String propertyName) {
-        return propertiesMetadata.get(propertyName + METADATA_SUFFIX);
+        int slot = dispatchTable.getSlot(propertyName);
+        return slot < 0 ? null : propertiesMetadata[slot];
     }
 
     @Override
     public void setPropertyMetadata(String propertyName, PropertyMetadata propertyMetadata) {
-        propertiesMetadata.put(propertyName + METADATA_SUFFIX, propertyMetadata);
+        propertiesMetadata[getRequiredSlot(propertyName)] = propertyMetadata;
     }
 
     @Override
     public Object getValueProperty(String propertyName) {
-        return properties.get(propertyName);
+        return getProperty(propertyName);
     }
 
     @Override
     public void setValueProperty(String propertyName, Object value) {
-        properties.put(propertyName, value);
+        properties[getRequiredSlot(propertyName)] = value;
     }
 
     @Override
     public Object getSubConfigurationProperty(String propertyName) {
-        return properties.get(propertyName);
+        return getProperty(propertyName);
     }
 
     @Override
     public void setSubConfigurationProperty(String propertyName, Object subConfiguration) {
-        properties.put(propertyName, subConfiguration);
+        properties[getRequiredSlot(propertyName)] = subConfiguration;
     }
 
     @Override
     public SubConfigurationList getSubConfigurationListProperty(String propertyName) {
-        return (SubConfigurationList) properties.get(propertyName + LIST_SUFFIX);
+        return (SubConfigurationList) getProperty(propertyName + LIST_SUFFIX);
     }
 
     @Override
     public void setSubConfigurationListProperty(String propertyName, SubConfigurationList list) {
-        properties.put(propertyName + LIST_SUFFIX, list);
+        properties[getRequiredSlot(propertyName + LIST_SUFFIX)] = list;
+    }
+
+    private Object getProperty(String propertyName) {
+        int slot = dispatchTable.getSlot(propertyName);
+        return slot < 0 ? null : properties[slot];
+    }
+
+    private int getRequiredSlot(String propertyName) {
+        int slot = dispatchTable.getSlot(propertyName);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Unknown property " + propertyName);
+        }
+        return slot;
     }
 }
@@ -24,14 +24,9 @@
 
 package com.sabre.oss.conf4j.spring.internal.factory.cglib;
 
+import com.sabre.oss.conf4j.internal.factory.PropertyDispatchTable.PropertyMethod;
 import com.sabre.oss.conf4j.internal.factory.SubConfigurationList;
 import com.sabre.oss.conf4j.internal.model.ConfigurationModel;
-import org.springframework.cglib.proxy.MethodProxy;
-
-import java.lang.reflect.Method;
-
-import static com.sabre.oss.conf4j.internal.Constants.COLLECTION_SIZE_SUFFIX;
-import static com.sabre.oss.conf4j.internal.utils.PropertyUtils.getPropertyName;
 
 class CglibStaticConfigurationMethodInterceptor extends AbstractCglibConfigurationMethodInterceptor {
     private static final long serialVersionUID = -8710774175759078359L;
@@ -41,22 +36,14 @@ class CglibStaticConfigurationMethodInterceptor extends AbstractCglibConfigurati
     }
 
     @Override
-    protected Object interceptInternal(Object obj, Method method, Object[] args, MethodProxy proxy) {
-        String propertyName = getPropertyName(method);
-
-        if (subConfigurationProperties.contains(propertyName)) {
-            // returns sub-configuration
-            return getSubConfigurationProperty(propertyName);
-        }
-
-        if (subConfigurationListProperties.contains(propertyName)) {
+    protected Object interceptProperty(PropertyMethod propertyMethod) {
+        if (propertyMethod.getKind() == PropertyMethod.SUB_CONFIGURATION_LIST) {
             // returns sub-configuration list
-            Integer size = (Integer) getValueProperty(propertyName + COLLECTION_SIZE_SUFFIX);
-            SubConfigurationList list = getSubConfigurationListProperty(propertyName);
-            return list.asUnmodifiableList(size);
+            SubConfigurationList list = (SubConfigurationList) properties[propertyMethod.getSlot()];
+            return list.asUnmodifiableList((Integer) properties[propertyMethod.getSizeSlot()]);
         }
 
-        // returns value property
-        return getValueProperty(propertyName);
+        // returns sub-configuration or value property
+        return properties[propertyMethod.getSlot()];
     }
 }
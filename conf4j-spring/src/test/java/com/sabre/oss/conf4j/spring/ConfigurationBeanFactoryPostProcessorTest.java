@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.spring;
+
+import com.sabre.oss.conf4j.internal.model.ConfigurationModelProvider;
+import com.sabre.oss.conf4j.internal.model.provider.annotation.AnnotationConfigurationModelProvider;
+import com.sabre.oss.conf4j.spring.configuration.model.AnotherConfiguration;
+import com.sabre.oss.conf4j.spring.configuration.model.InvalidConfiguration;
+import com.sabre.oss.conf4j.spring.configuration.model.SomeConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+
+import static com.sabre.oss.conf4j.spring.ConfigurationBeanDefinitionHelper.ConfigurationIndicator.DISCOVERED;
+import static com.sabre.oss.conf4j.spring.ConfigurationBeanDefinitionHelper.ConfigurationIndicator.MANUAL;
+import static com.sabre.oss.conf4j.spring.ConfigurationBeanDefinitionHelper.addConf4jConfigurationIndicator;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ConfigurationBeanFactoryPostProcessorTest {
+    private static final int CONFIGURATIONS = 64;
+
+    private final DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+    private final ConfigurationBeanFactoryPostProcessor postProcessor = new ConfigurationBeanFactoryPostProcessor();
+    private ConfigurationModelProvider configurationModelProvider;
+
+    @BeforeEach
+    public void before() {
+        configurationModelProvider = mock(ConfigurationModelProvider.class, delegatesTo(AnnotationConfigurationModelProvider.getInstance()));
+        postProcessor.setConfigurationModelProvider(configurationModelProvider);
+    }
+
+    @Test
+    public void shouldProcessOnlyBeansMarkedAsConfigurations() {
+        // given
+        registerBean("manual", SomeConfiguration.class, MANUAL);
+        registerBean("unmarkedInterface", AnotherConfiguration.class, null);
+        registerBean("unmarkedClass", String.class, null);
+
+        // when
+        postProcessor.postProcessBeanDefinitionRegistry(registry);
+
+        // then
+        assertThat(registry.getBeanDefinition("manual").getBeanClassName()).isEqualTo(ConfigurationFactoryBean.class.getName());
+        assertThat(registry.getBeanDefinition("unmarkedInterface").getBeanClassName()).isEqualTo(AnotherConfiguration.class.getName());
+        assertThat(registry.getBeanDefinition("unmarkedClass").getBeanClassName()).isEqualTo(String.class.getName());
+        verify(configurationModelProvider, never()).isConfigurationType(AnotherConfiguration.class);
+        verify(configurationModelProvider, never()).isConfigurationType(String.class);
+        verify(configurationModelProvider, never()).getConfigurationModel(AnotherConfiguration.class);
+    }
+
+    @Test
+    public void shouldResolveAllCandidatesInParallel() {
+        // given
+        for (int i = 0; i < CONFIGURATIONS; i++) {
+            registerBean("discovered" + i, i % 2 == 0 ? SomeConfiguration.class : AnotherConfiguration.class, DISCOVERED);
+        }
+        registerBean("invalid", InvalidConfiguration.class, DISCOVERED);
+
+        // when
+        postProcessor.postProcessBeanDefinitionRegistry(registry);
+
+        // then
+        for (int i = 0; i < CONFIGURATIONS; i++) {
+            assertThat(registry.getBeanDefinition("discovered" + i).getBeanClassName()).isEqualTo(ConfigurationFactoryBean.class.getName());
+        }
+        assertThat(registry.containsBeanDefinition("invalid")).isFalse();
+        verify(configurationModelProvider, times(CONFIGURATIONS + 1)).isConfigurationType(any());
+    }
+
+    private void registerBean(String name, Class<?> beanClass, ConfigurationBeanDefinitionHelper.ConfigurationIndicator indicator) {
+        GenericBeanDefinition definition = new GenericBeanDefinition();
+        definition.setBeanClassName(beanClass.getName());
+        if (indicator != null) {
+            addConf4jConfigurationIndicator(definition, indicator);
+        }
+        registry.registerBeanDefinition(name, definition);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright 2017-2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.conf4j.spring.handler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.sabre.oss.conf4j.internal.Constants.CONFIGURATION_INDEX_LOCATION;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createTempDirectory;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConfigurationTypeIndexTest {
+    private Path directory;
+    private Path indexFile;
+
+    @BeforeEach
+    public void before() throws IOException {
+        directory = createTempDirectory("tmp");
+        indexFile = directory.resolve(CONFIGURATION_INDEX_LOCATION);
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        Files.deleteIfExists(indexFile);
+        Files.deleteIfExists(indexFile.getParent());
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    public void shouldProvideTypesFromPackageAndSubPackages() throws IOException {
+        // given
+        writeIndex("# comment\ncom.foo.FirstConfiguration\ncom.foo.bar.SecondConfiguration\ncom.foobar.ThirdConfiguration\n");
+
+        // when
+        ConfigurationTypeIndex index = ConfigurationTypeIndex.load(newClassLoader());
+
+        // then
+        assertThat(index).isNotNull();
+        assertThat(index.getTypes("com.foo")).containsExactly("com.foo.FirstConfiguration", "com.foo.bar.SecondConfiguration");
+        assertThat(index.getTypes("com.foo.bar")).containsExactly("com.foo.bar.SecondConfiguration");
+        assertThat(index.getTypes("org")).isEmpty();
+        assertThat(index.getTypes("")).hasSize(3);
+        assertThat(index.supports("com.foo")).isTrue();
+        assertThat(index.supports("com.*.bar")).isFalse();
+    }
+
+    @Test
+    public void shouldReturnNullWhenThereIsNoIndex() throws IOException {
+        // when
+        ConfigurationTypeIndex index = ConfigurationTypeIndex.load(new URLClassLoader(new URL[]{directory.toUri().toURL()}, null));
+
+        // then
+        assertThat(index).isNull();
+    }
+
+    private void writeIndex(String content) throws IOException {
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, content.getBytes(UTF_8));
+    }
+
+    private ClassLoader newClassLoader() throws IOException {
+        // the parent is not used to make sure only the index from the directory is loaded
+        return new URLClassLoader(new URL[]{directory.toUri().toURL()}, null);
+    }
+}